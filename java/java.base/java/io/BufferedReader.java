@@ -26,6 +26,7 @@
 package java.io;
 
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
@@ -85,6 +86,10 @@ public class BufferedReader extends Reader {
     /** The skipLF flag when the mark was set */
     private boolean markedSkipLF = false;
 
+    /** The line buffer and view used by implReadLineView, or null */
+    private char[] lineBuf;
+    private LineView lineView;
+
     private static int defaultCharBufferSize = 8192;
     private static int defaultExpectedLineLength = 80;
 
@@ -176,22 +181,29 @@ public class BufferedReader extends Reader {
      */
     public int read() throws IOException {
         synchronized (lock) {
-            ensureOpen();
-            for (;;) {
-                if (nextChar >= nChars) {
-                    fill();
-                    if (nextChar >= nChars)
-                        return -1;
-                }
-                if (skipLF) {
-                    skipLF = false;
-                    if (cb[nextChar] == '\n') {
-                        nextChar++;
-                        continue;
-                    }
+            return implRead();
+        }
+    }
+
+    /**
+     * Reads a single character, without synchronizing.
+     */
+    int implRead() throws IOException {
+        ensureOpen();
+        for (;;) {
+            if (nextChar >= nChars) {
+                fill();
+                if (nextChar >= nChars)
+                    return -1;
+            }
+            if (skipLF) {
+                skipLF = false;
+                if (cb[nextChar] == '\n') {
+                    nextChar++;
+                    continue;
                 }
-                return cb[nextChar++];
             }
+            return cb[nextChar++];
         }
     }
 
@@ -276,23 +288,30 @@ public class BufferedReader extends Reader {
      */
     public int read(char cbuf[], int off, int len) throws IOException {
         synchronized (lock) {
-            ensureOpen();
-            if ((off < 0) || (off > cbuf.length) || (len < 0) ||
-                ((off + len) > cbuf.length) || ((off + len) < 0)) {
-                throw new IndexOutOfBoundsException();
-            } else if (len == 0) {
-                return 0;
-            }
+            return implRead(cbuf, off, len);
+        }
+    }
 
-            int n = read1(cbuf, off, len);
-            if (n <= 0) return n;
-            while ((n < len) && in.ready()) {
-                int n1 = read1(cbuf, off + n, len - n);
-                if (n1 <= 0) break;
-                n += n1;
-            }
-            return n;
+    /**
+     * Reads characters into a portion of an array, without synchronizing.
+     */
+    int implRead(char cbuf[], int off, int len) throws IOException {
+        ensureOpen();
+        if ((off < 0) || (off > cbuf.length) || (len < 0) ||
+            ((off + len) > cbuf.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
         }
+
+        int n = read1(cbuf, off, len);
+        if (n <= 0) return n;
+        while ((n < len) && in.ready()) {
+            int n1 = read1(cbuf, off + n, len - n);
+            if (n1 <= 0) break;
+            n += n1;
+        }
+        return n;
     }
 
     /**
@@ -312,68 +331,189 @@ public class BufferedReader extends Reader {
      * @exception  IOException  If an I/O error occurs
      */
     String readLine(boolean ignoreLF) throws IOException {
+        synchronized (lock) {
+            return implReadLine(ignoreLF);
+        }
+    }
+
+    /**
+     * Reads a line of text, without synchronizing.
+     */
+    String implReadLine(boolean ignoreLF) throws IOException {
         StringBuilder s = null;
         int startChar;
 
-        synchronized (lock) {
-            ensureOpen();
-            boolean omitLF = ignoreLF || skipLF;
+        ensureOpen();
+        boolean omitLF = ignoreLF || skipLF;
 
-        bufferLoop:
-            for (;;) {
+    bufferLoop:
+        for (;;) {
 
-                if (nextChar >= nChars)
-                    fill();
-                if (nextChar >= nChars) { /* EOF */
-                    if (s != null && s.length() > 0)
-                        return s.toString();
-                    else
-                        return null;
+            if (nextChar >= nChars)
+                fill();
+            if (nextChar >= nChars) { /* EOF */
+                if (s != null && s.length() > 0)
+                    return s.toString();
+                else
+                    return null;
+            }
+            boolean eol = false;
+            char c = 0;
+            int i;
+
+            /* Skip a leftover '\n', if necessary */
+            if (omitLF && (cb[nextChar] == '\n'))
+                nextChar++;
+            skipLF = false;
+            omitLF = false;
+
+        charLoop:
+            for (i = nextChar; i < nChars; i++) {
+                c = cb[i];
+                if ((c == '\n') || (c == '\r')) {
+                    eol = true;
+                    break charLoop;
                 }
-                boolean eol = false;
-                char c = 0;
-                int i;
+            }
 
-                /* Skip a leftover '\n', if necessary */
-                if (omitLF && (cb[nextChar] == '\n'))
-                    nextChar++;
-                skipLF = false;
-                omitLF = false;
-
-            charLoop:
-                for (i = nextChar; i < nChars; i++) {
-                    c = cb[i];
-                    if ((c == '\n') || (c == '\r')) {
-                        eol = true;
-                        break charLoop;
-                    }
+            startChar = nextChar;
+            nextChar = i;
+
+            if (eol) {
+                String str;
+                if (s == null) {
+                    str = new String(cb, startChar, i - startChar);
+                } else {
+                    s.append(cb, startChar, i - startChar);
+                    str = s.toString();
+                }
+                nextChar++;
+                if (c == '\r') {
+                    skipLF = true;
                 }
+                return str;
+            }
 
-                startChar = nextChar;
-                nextChar = i;
+            if (s == null)
+                s = new StringBuilder(defaultExpectedLineLength);
+            s.append(cb, startChar, i - startChar);
+        }
+    }
 
-                if (eol) {
-                    String str;
-                    if (s == null) {
-                        str = new String(cb, startChar, i - startChar);
-                    } else {
-                        s.append(cb, startChar, i - startChar);
-                        str = s.toString();
-                    }
-                    nextChar++;
-                    if (c == '\r') {
-                        skipLF = true;
-                    }
-                    return str;
+    /**
+     * Reads a line of text as implReadLine does, without synchronizing,
+     * returning a view of the line in the character buffer, or in the line
+     * buffer when the line spans more than one fill of the character
+     * buffer.  The view is reused, and is valid until the next read.
+     */
+    CharSequence implReadLineView() throws IOException {
+        int lineLength = 0;
+        int startChar;
+
+        ensureOpen();
+        boolean omitLF = skipLF;
+        if (lineView == null)
+            lineView = new LineView();
+
+        for (;;) {
+
+            if (nextChar >= nChars)
+                fill();
+            if (nextChar >= nChars) { /* EOF */
+                if (lineLength > 0)
+                    return lineView.set(lineBuf, 0, lineLength);
+                else
+                    return null;
+            }
+            boolean eol = false;
+            char c = 0;
+            int i;
+
+            /* Skip a leftover '\n', if necessary */
+            if (omitLF && (cb[nextChar] == '\n'))
+                nextChar++;
+            skipLF = false;
+            omitLF = false;
+
+            for (i = nextChar; i < nChars; i++) {
+                c = cb[i];
+                if ((c == '\n') || (c == '\r')) {
+                    eol = true;
+                    break;
                 }
+            }
 
-                if (s == null)
-                    s = new StringBuilder(defaultExpectedLineLength);
-                s.append(cb, startChar, i - startChar);
+            startChar = nextChar;
+            nextChar = i;
+
+            if (eol && lineLength == 0) {
+                nextChar++;
+                if (c == '\r') {
+                    skipLF = true;
+                }
+                return lineView.set(cb, startChar, i);
+            }
+
+            /* Save the part of the line before the buffer is refilled */
+            int n = i - startChar;
+            if (lineBuf == null || lineLength + n > lineBuf.length) {
+                lineBuf = Arrays.copyOf(lineBuf == null ? new char[0] : lineBuf,
+                        Math.max(lineLength + n, Math.max(defaultExpectedLineLength,
+                                                          lineLength * 2)));
+            }
+            System.arraycopy(cb, startChar, lineBuf, lineLength, n);
+            lineLength += n;
+
+            if (eol) {
+                nextChar++;
+                if (c == '\r') {
+                    skipLF = true;
+                }
+                return lineView.set(lineBuf, 0, lineLength);
             }
         }
     }
 
+    /**
+     * A reusable view of a line in a character array.
+     */
+    private static final class LineView implements CharSequence {
+        private char[] chars;
+        private int start, end;
+
+        LineView set(char[] chars, int start, int end) {
+            this.chars = chars;
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start)
+                throw new StringIndexOutOfBoundsException(index);
+            return chars[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || start > end || end > this.end - this.start)
+                throw new StringIndexOutOfBoundsException(
+                    "start " + start + ", end " + end + ", length " + length());
+            return new String(chars, this.start + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, start, end - start);
+        }
+    }
+
     /**
      * Reads a line of text.  A line is considered to be terminated by any one
      * of a line feed ('\n'), a carriage return ('\r'), a carriage return
@@ -407,32 +547,39 @@ public class BufferedReader extends Reader {
             throw new IllegalArgumentException("skip value is negative");
         }
         synchronized (lock) {
-            ensureOpen();
-            long r = n;
-            while (r > 0) {
-                if (nextChar >= nChars)
-                    fill();
-                if (nextChar >= nChars) /* EOF */
-                    break;
-                if (skipLF) {
-                    skipLF = false;
-                    if (cb[nextChar] == '\n') {
-                        nextChar++;
-                    }
-                }
-                long d = nChars - nextChar;
-                if (r <= d) {
-                    nextChar += r;
-                    r = 0;
-                    break;
-                }
-                else {
-                    r -= d;
-                    nextChar = nChars;
+            return implSkip(n);
+        }
+    }
+
+    /**
+     * Skips a non-negative number of characters, without synchronizing.
+     */
+    long implSkip(long n) throws IOException {
+        ensureOpen();
+        long r = n;
+        while (r > 0) {
+            if (nextChar >= nChars)
+                fill();
+            if (nextChar >= nChars) /* EOF */
+                break;
+            if (skipLF) {
+                skipLF = false;
+                if (cb[nextChar] == '\n') {
+                    nextChar++;
                 }
             }
-            return n - r;
+            long d = nChars - nextChar;
+            if (r <= d) {
+                nextChar += r;
+                r = 0;
+                break;
+            }
+            else {
+                r -= d;
+                nextChar = nChars;
+            }
         }
+        return n - r;
     }
 
     /**
@@ -444,27 +591,34 @@ public class BufferedReader extends Reader {
      */
     public boolean ready() throws IOException {
         synchronized (lock) {
-            ensureOpen();
+            return implReady();
+        }
+    }
+
+    /**
+     * Tells whether this stream is ready to be read, without synchronizing.
+     */
+    boolean implReady() throws IOException {
+        ensureOpen();
 
-            /*
-             * If newline needs to be skipped and the next char to be read
-             * is a newline character, then just skip it right away.
+        /*
+         * If newline needs to be skipped and the next char to be read
+         * is a newline character, then just skip it right away.
+         */
+        if (skipLF) {
+            /* Note that in.ready() will return true if and only if the next
+             * read on the stream will not block.
              */
-            if (skipLF) {
-                /* Note that in.ready() will return true if and only if the next
-                 * read on the stream will not block.
-                 */
-                if (nextChar >= nChars && in.ready()) {
-                    fill();
-                }
-                if (nextChar < nChars) {
-                    if (cb[nextChar] == '\n')
-                        nextChar++;
-                    skipLF = false;
-                }
+            if (nextChar >= nChars && in.ready()) {
+                fill();
+            }
+            if (nextChar < nChars) {
+                if (cb[nextChar] == '\n')
+                    nextChar++;
+                skipLF = false;
             }
-            return (nextChar < nChars) || in.ready();
         }
+        return (nextChar < nChars) || in.ready();
     }
 
     /**
@@ -495,13 +649,20 @@ public class BufferedReader extends Reader {
             throw new IllegalArgumentException("Read-ahead limit < 0");
         }
         synchronized (lock) {
-            ensureOpen();
-            this.readAheadLimit = readAheadLimit;
-            markedChar = nextChar;
-            markedSkipLF = skipLF;
+            implMark(readAheadLimit);
         }
     }
 
+    /**
+     * Marks the present position in the stream, without synchronizing.
+     */
+    void implMark(int readAheadLimit) throws IOException {
+        ensureOpen();
+        this.readAheadLimit = readAheadLimit;
+        markedChar = nextChar;
+        markedSkipLF = skipLF;
+    }
+
     /**
      * Resets the stream to the most recent mark.
      *
@@ -510,26 +671,41 @@ public class BufferedReader extends Reader {
      */
     public void reset() throws IOException {
         synchronized (lock) {
-            ensureOpen();
-            if (markedChar < 0)
-                throw new IOException((markedChar == INVALIDATED)
-                                      ? "Mark invalid"
-                                      : "Stream not marked");
-            nextChar = markedChar;
-            skipLF = markedSkipLF;
+            implReset();
         }
     }
 
+    /**
+     * Resets the stream to the most recent mark, without synchronizing.
+     */
+    void implReset() throws IOException {
+        ensureOpen();
+        if (markedChar < 0)
+            throw new IOException((markedChar == INVALIDATED)
+                                  ? "Mark invalid"
+                                  : "Stream not marked");
+        nextChar = markedChar;
+        skipLF = markedSkipLF;
+    }
+
     public void close() throws IOException {
         synchronized (lock) {
-            if (in == null)
-                return;
-            try {
-                in.close();
-            } finally {
-                in = null;
-                cb = null;
-            }
+            implClose();
+        }
+    }
+
+    /**
+     * Closes the stream, without synchronizing.
+     */
+    void implClose() throws IOException {
+        if (in == null)
+            return;
+        try {
+            in.close();
+        } finally {
+            in = null;
+            cb = null;
+            lineBuf = null;
         }
     }
 
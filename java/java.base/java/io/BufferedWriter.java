@@ -114,14 +114,21 @@ public class BufferedWriter extends Writer {
      */
     void flushBuffer() throws IOException {
         synchronized (lock) {
-            ensureOpen();
-            if (nextChar == 0)
-                return;
-            out.write(cb, 0, nextChar);
-            nextChar = 0;
+            implFlushBuffer();
         }
     }
 
+    /**
+     * Flushes the output buffer, without synchronizing.
+     */
+    void implFlushBuffer() throws IOException {
+        ensureOpen();
+        if (nextChar == 0)
+            return;
+        out.write(cb, 0, nextChar);
+        nextChar = 0;
+    }
+
     /**
      * Writes a single character.
      *
@@ -129,13 +136,20 @@ public class BufferedWriter extends Writer {
      */
     public void write(int c) throws IOException {
         synchronized (lock) {
-            ensureOpen();
-            if (nextChar >= nChars)
-                flushBuffer();
-            cb[nextChar++] = (char) c;
+            implWrite(c);
         }
     }
 
+    /**
+     * Writes a single character, without synchronizing.
+     */
+    void implWrite(int c) throws IOException {
+        ensureOpen();
+        if (nextChar >= nChars)
+            implFlushBuffer();
+        cb[nextChar++] = (char) c;
+    }
+
     /**
      * Our own little min method, to avoid loading java.lang.Math if we've run
      * out of file descriptors and we're trying to print a stack trace.
@@ -168,32 +182,39 @@ public class BufferedWriter extends Writer {
      */
     public void write(char cbuf[], int off, int len) throws IOException {
         synchronized (lock) {
-            ensureOpen();
-            if ((off < 0) || (off > cbuf.length) || (len < 0) ||
-                ((off + len) > cbuf.length) || ((off + len) < 0)) {
-                throw new IndexOutOfBoundsException();
-            } else if (len == 0) {
-                return;
-            }
+            implWrite(cbuf, off, len);
+        }
+    }
 
-            if (len >= nChars) {
-                /* If the request length exceeds the size of the output buffer,
-                   flush the buffer and then write the data directly.  In this
-                   way buffered streams will cascade harmlessly. */
-                flushBuffer();
-                out.write(cbuf, off, len);
-                return;
-            }
+    /**
+     * Writes a portion of an array of characters, without synchronizing.
+     */
+    void implWrite(char cbuf[], int off, int len) throws IOException {
+        ensureOpen();
+        if ((off < 0) || (off > cbuf.length) || (len < 0) ||
+            ((off + len) > cbuf.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return;
+        }
+
+        if (len >= nChars) {
+            /* If the request length exceeds the size of the output buffer,
+               flush the buffer and then write the data directly.  In this
+               way buffered streams will cascade harmlessly. */
+            implFlushBuffer();
+            out.write(cbuf, off, len);
+            return;
+        }
 
-            int b = off, t = off + len;
-            while (b < t) {
-                int d = min(nChars - nextChar, t - b);
-                System.arraycopy(cbuf, b, cb, nextChar, d);
-                b += d;
-                nextChar += d;
-                if (nextChar >= nChars)
-                    flushBuffer();
-            }
+        int b = off, t = off + len;
+        while (b < t) {
+            int d = min(nChars - nextChar, t - b);
+            System.arraycopy(cbuf, b, cb, nextChar, d);
+            b += d;
+            nextChar += d;
+            if (nextChar >= nChars)
+                implFlushBuffer();
         }
     }
 
@@ -221,17 +242,24 @@ public class BufferedWriter extends Writer {
      */
     public void write(String s, int off, int len) throws IOException {
         synchronized (lock) {
-            ensureOpen();
+            implWrite(s, off, len);
+        }
+    }
+
+    /**
+     * Writes a portion of a String, without synchronizing.
+     */
+    void implWrite(String s, int off, int len) throws IOException {
+        ensureOpen();
 
-            int b = off, t = off + len;
-            while (b < t) {
-                int d = min(nChars - nextChar, t - b);
-                s.getChars(b, b + d, cb, nextChar);
-                b += d;
-                nextChar += d;
-                if (nextChar >= nChars)
-                    flushBuffer();
-            }
+        int b = off, t = off + len;
+        while (b < t) {
+            int d = min(nChars - nextChar, t - b);
+            s.getChars(b, b + d, cb, nextChar);
+            b += d;
+            nextChar += d;
+            if (nextChar >= nChars)
+                implFlushBuffer();
         }
     }
 
@@ -253,23 +281,37 @@ public class BufferedWriter extends Writer {
      */
     public void flush() throws IOException {
         synchronized (lock) {
-            flushBuffer();
-            out.flush();
+            implFlush();
         }
     }
 
-    @SuppressWarnings("try")
+    /**
+     * Flushes the stream, without synchronizing.
+     */
+    void implFlush() throws IOException {
+        implFlushBuffer();
+        out.flush();
+    }
+
     public void close() throws IOException {
         synchronized (lock) {
-            if (out == null) {
-                return;
-            }
-            try (Writer w = out) {
-                flushBuffer();
-            } finally {
-                out = null;
-                cb = null;
-            }
+            implClose();
+        }
+    }
+
+    /**
+     * Closes the stream, without synchronizing.
+     */
+    @SuppressWarnings("try")
+    void implClose() throws IOException {
+        if (out == null) {
+            return;
+        }
+        try (Writer w = out) {
+            implFlushBuffer();
+        } finally {
+            out = null;
+            cb = null;
         }
     }
 }
@@ -26,6 +26,10 @@
 package java.io;
 
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+import sun.nio.ch.ChannelInputStream;
 import sun.nio.ch.FileChannelImpl;
 
 
@@ -279,6 +283,94 @@ class FileInputStream extends InputStream
         return readBytes(b, off, len);
     }
 
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // The most read at a time by readAllBytes, as the native read allocates
+    // a temporary buffer of the size read
+    private static final int MAX_READ_SIZE = 1 << 20;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * This implementation reads into an array sized from the number of bytes
+     * {@link #available() available}, which for a file is the number of bytes
+     * from its position to its end, so that the bytes of a file that does not
+     * change while it is read are read into the returned array directly.
+     */
+    @Override
+    public byte[] readAllBytes() throws IOException {
+        int capacity = available();
+        if (capacity <= 0)
+            return super.readAllBytes();
+        if (capacity > MAX_BUFFER_SIZE)
+            throw new OutOfMemoryError("Required array size too large");
+
+        byte[] buf = new byte[capacity];
+        int nread = 0;
+        int n;
+        for (;;) {
+            // read to EOF which may read more or less than the bytes
+            // available, e.g., if the file is truncated while we are reading
+            while ((n = read(buf, nread,
+                             Math.min(capacity - nread, MAX_READ_SIZE))) > 0)
+                nread += n;
+
+            // if the last call to read returned -1, we are done; otherwise,
+            // try to read one more byte and if that fails we're done too
+            if (n < 0 || (n = read()) < 0)
+                break;
+
+            // one more byte was read; need to allocate a larger buffer
+            if (capacity == MAX_BUFFER_SIZE)
+                throw new OutOfMemoryError("Required array size too large");
+            capacity = Math.max((int)Math.min(2L * capacity, MAX_BUFFER_SIZE),
+                                DEFAULT_BUFFER_SIZE);
+            buf = Arrays.copyOf(buf, capacity);
+            buf[nread++] = (byte)n;
+        }
+        return (capacity == nread) ? buf : Arrays.copyOf(buf, nread);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * If this stream reads a regular file, and the output stream is a
+     * {@link FileOutputStream} or a stream returned by {@link
+     * java.nio.channels.Channels#newOutputStream(WritableByteChannel)
+     * Channels.newOutputStream}, this implementation transfers the bytes
+     * with {@link FileChannel#transferTo FileChannel.transferTo} from the
+     * {@linkplain #getChannel() channel} of this stream to the channel of the
+     * output stream, which the operating system may do without copying them
+     * into the Java heap.  The bytes are then written directly to the file or
+     * channel, bypassing any {@code write} methods overridden by the output
+     * stream.
+     */
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        long transferred = 0;
+        WritableByteChannel target = ChannelInputStream.channelOf(out);
+        FileChannel fc;
+        // the channel is null for socket input streams, and the size of
+        // anything other than a regular file is zero
+        if (target != null && (fc = getChannel()) != null && fc.size() > 0) {
+            transferred = ChannelInputStream.transferTo(fc, target);
+            if (fc.position() >= fc.size())
+                return transferred;
+        }
+        return transferred + super.transferTo(out);
+    }
+
     /**
      * Skips over and discards <code>n</code> bytes of data from the
      * input stream.
@@ -332,6 +332,8 @@ public class ObjectInputStream
     private final boolean enableOverride;
     /** if true, invoke resolveObject() */
     private boolean enableResolve;
+    /** if true, a reset keeps class descriptors */
+    private boolean sessionMode;
 
     /**
      * Context during upcalls to class-defined readObject methods; holds
@@ -927,6 +929,29 @@ public class ObjectInputStream
         return !enableResolve;
     }
 
+    /**
+     * Enables or disables session mode.  In session mode, a reset of the
+     * stream, written by {@link ObjectOutputStream#reset}, discards the
+     * objects already read from the stream but not their class descriptors,
+     * which the stream may go on referring to by handle.  Their classes are
+     * therefore resolved only once, however often the stream is reset.
+     *
+     * <p>The {@code ObjectOutputStream} writing the stream must be in
+     * {@linkplain ObjectOutputStream#enableSessionMode session mode} from
+     * the same point in the stream as this stream is, or this stream will
+     * fail to read it.
+     *
+     * @param   enable true to enable session mode, false to disable it
+     * @return  the previous setting before this method was invoked
+     * @see     ObjectOutputStream#enableSessionMode(boolean)
+     * @since   12
+     */
+    public boolean enableSessionMode(boolean enable) {
+        boolean prev = sessionMode;
+        sessionMode = enable;
+        return prev;
+    }
+
     /**
      * The readStreamHeader method is provided to allow subclasses to read and
      * verify their own stream headers. It reads and verifies the magic number
@@ -1919,6 +1944,9 @@ public class ObjectInputStream
 
         ObjectStreamClass desc = new ObjectStreamClass();
         int descHandle = handles.assign(unshared ? unsharedMarker : desc);
+        if (!unshared) {
+            handles.markClassDesc(descHandle);
+        }
         passHandle = NULL_HANDLE;
 
         int numIfaces = bin.readInt();
@@ -2007,6 +2035,9 @@ public class ObjectInputStream
 
         ObjectStreamClass desc = new ObjectStreamClass();
         int descHandle = handles.assign(unshared ? unsharedMarker : desc);
+        if (!unshared) {
+            handles.markClassDesc(descHandle);
+        }
         passHandle = NULL_HANDLE;
 
         ObjectStreamClass readDesc;
@@ -2567,16 +2598,22 @@ public class ObjectInputStream
     }
 
     /**
-     * If recursion depth is 0, clears internal data structures; otherwise,
-     * throws a StreamCorruptedException.  This method is called when a
-     * TC_RESET typecode is encountered.
+     * If recursion depth is 0, clears internal data structures, keeping the
+     * class descriptors read in session mode; otherwise, throws a
+     * StreamCorruptedException.  This method is called when a TC_RESET
+     * typecode is encountered.
      */
     private void handleReset() throws StreamCorruptedException {
         if (depth > 0) {
             throw new StreamCorruptedException(
                 "unexpected reset; recursion depth: " + depth);
         }
-        clear();
+        if (sessionMode) {
+            handles.clearExceptClassDescs();
+            vlist.clear();
+        } else {
+            clear();
+        }
     }
 
     /**
@@ -3901,6 +3938,8 @@ public class ObjectInputStream
         int lowDep = -1;
         /** number of handles in table */
         int size = 0;
+        /** handles of shared class descriptors, in ascending order */
+        HandleList classDescs = new HandleList();
 
         /**
          * Creates handle table with the given initial capacity.
@@ -4097,6 +4136,40 @@ public class ObjectInputStream
             Arrays.fill(deps, 0, size, null);
             lowDep = -1;
             size = 0;
+            classDescs.clear();
+        }
+
+        /**
+         * Notes that the given handle is that of a shared class descriptor,
+         * to be kept by clearExceptClassDescs().
+         */
+        void markClassDesc(int handle) {
+            classDescs.add(handle);
+        }
+
+        /**
+         * Resets table to hold only the class descriptors noted by
+         * markClassDesc(), with their status, renumbered from 0 in the order
+         * of their current handles as ObjectOutputStream renumbers the
+         * descriptors it writes.  Should only be called between top-level
+         * objects, when no handle has unresolved dependencies.
+         */
+        void clearExceptClassDescs() {
+            int n = classDescs.size();
+            for (int i = 0; i < n; i++) {
+                int h = classDescs.get(i);
+                status[i] = status[h];
+                entries[i] = entries[h];
+            }
+            Arrays.fill(status, n, size, (byte) 0);
+            Arrays.fill(entries, n, size, null);
+            Arrays.fill(deps, 0, size, null);
+            lowDep = -1;
+            size = n;
+            classDescs.clear();
+            for (int i = 0; i < n; i++) {
+                classDescs.add(i);
+            }
         }
 
         /**
@@ -4154,6 +4227,10 @@ public class ObjectInputStream
             public int size() {
                 return size;
             }
+
+            public void clear() {
+                size = 0;
+            }
         }
     }
 
@@ -192,6 +192,8 @@ public class ObjectOutputStream
     private final boolean enableOverride;
     /** if true, invoke replaceObject() */
     private boolean enableReplace;
+    /** if true, reset() keeps class descriptors */
+    private boolean sessionMode;
 
     // values below valid only during upcalls to writeObject()/writeExternal()
     /**
@@ -492,6 +494,10 @@ public class ObjectOutputStream
      * written to the stream will not be referred to as already being in the
      * stream.  They will be written to the stream again.
      *
+     * <p>In {@linkplain #enableSessionMode session mode}, the class
+     * descriptors already written are not disregarded, and are referred to
+     * as already being in the stream.
+     *
      * @throws  IOException if reset() is invoked while serializing an object.
      */
     public void reset() throws IOException {
@@ -500,10 +506,44 @@ public class ObjectOutputStream
         }
         bout.setBlockDataMode(false);
         bout.writeByte(TC_RESET);
-        clear();
+        if (sessionMode) {
+            subs.clear();
+            handles.clearExceptClassDescs();
+        } else {
+            clear();
+        }
         bout.setBlockDataMode(true);
     }
 
+    /**
+     * Enables or disables session mode.  In session mode, {@link #reset}
+     * disregards the objects already written to the stream but not their
+     * class descriptors, which are not written again: objects of a class
+     * whose descriptor has been written since the stream was created refer
+     * to it by handle, as they would had there been no reset.
+     *
+     * <p>Session mode suits a stream kept open over a connection on which
+     * many independent messages are sent, each followed by a call to
+     * {@code reset}.  Class descriptors typically make up most of the bytes
+     * of a small message; in session mode they are sent once per
+     * connection, and the reader resolves each class once.
+     *
+     * <p>The {@code ObjectInputStream} reading the stream must be in
+     * {@linkplain ObjectInputStream#enableSessionMode session mode} from the
+     * same point in the stream as this stream is, or it will fail to read
+     * the stream.
+     *
+     * @param   enable true to enable session mode, false to disable it
+     * @return  the previous setting before this method was invoked
+     * @see     ObjectInputStream#enableSessionMode(boolean)
+     * @since   12
+     */
+    public boolean enableSessionMode(boolean enable) {
+        boolean prev = sessionMode;
+        sessionMode = enable;
+        return prev;
+    }
+
     /**
      * Subclasses may implement this method to allow class data to be stored in
      * the stream. By default this method does nothing.  The corresponding
@@ -2314,6 +2354,26 @@ public class ObjectOutputStream
             size = 0;
         }
 
+        /**
+         * Resets table to hold only its class descriptors, renumbered from 0
+         * in the order of their current handles.  ObjectInputStream's
+         * handle table renumbers the descriptors it reads in the same way.
+         */
+        void clearExceptClassDescs() {
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (objs[i] instanceof ObjectStreamClass) {
+                    objs[n++] = objs[i];
+                }
+            }
+            Arrays.fill(spine, -1);
+            Arrays.fill(objs, n, size, null);
+            for (int i = 0; i < n; i++) {
+                insert(objs[i], i);
+            }
+            size = n;
+        }
+
         /**
          * Returns the number of mappings currently in table.
          */
@@ -57,6 +57,7 @@ import jdk.internal.misc.Unsafe;
 import jdk.internal.reflect.CallerSensitive;
 import jdk.internal.reflect.Reflection;
 import jdk.internal.reflect.ReflectionFactory;
+import jdk.internal.reflect.SerializationFieldAccessor;
 import jdk.internal.access.SharedSecrets;
 import jdk.internal.access.JavaSecurityAccess;
 import sun.reflect.misc.ReflectUtil;
@@ -1858,6 +1859,16 @@ public class ObjectStreamClass implements Serializable {
         private final char[] typeCodes;
         /** field types */
         private final Class<?>[] types;
+        /** fields to read, as for readKeys */
+        private final Field[] readFields;
+        /** fields to write, as for writeKeys */
+        private final Field[] writeFields;
+        /** number of accesses after which to generate an accessor */
+        private final int inflationThreshold;
+        /** number of accesses made through unsafe */
+        private int numAccesses;
+        /** generated accessor for the fields, once there is one */
+        private volatile SerializationFieldAccessor accessor;
 
         /**
          * Constructs FieldReflector capable of setting/getting values from the
@@ -1873,6 +1884,8 @@ public class ObjectStreamClass implements Serializable {
             writeKeys = new long[nfields];
             offsets = new int[nfields];
             typeCodes = new char[nfields];
+            readFields = new Field[nfields];
+            writeFields = new Field[nfields];
             ArrayList<Class<?>> typeList = new ArrayList<>();
             Set<Long> usedKeys = new HashSet<>();
 
@@ -1885,6 +1898,9 @@ public class ObjectStreamClass implements Serializable {
                 readKeys[i] = key;
                 writeKeys[i] = usedKeys.add(key) ?
                     key : Unsafe.INVALID_FIELD_OFFSET;
+                readFields[i] = rf;
+                writeFields[i] =
+                    (writeKeys[i] != Unsafe.INVALID_FIELD_OFFSET) ? rf : null;
                 offsets[i] = f.getOffset();
                 typeCodes[i] = f.getTypeCode();
                 if (!f.isPrimitive()) {
@@ -1894,6 +1910,26 @@ public class ObjectStreamClass implements Serializable {
 
             types = typeList.toArray(new Class<?>[typeList.size()]);
             numPrimFields = nfields - types.length;
+            inflationThreshold = reflFactory.serializationFieldAccessorThreshold();
+        }
+
+        /**
+         * Returns the generated accessor for the fields, or null if there is
+         * none yet.  Like reflective method invocation, the fields are first
+         * accessed through Unsafe, which needs no set up; once they have
+         * been accessed more often than the inflation threshold, an accessor
+         * is generated that reads and writes them with straight-line
+         * bytecodes.  Races between threads may generate more than one
+         * accessor, which is harmless.
+         */
+        private SerializationFieldAccessor accessor() {
+            SerializationFieldAccessor acc = accessor;
+            if (acc == null && numAccesses <= inflationThreshold &&
+                ++numAccesses > inflationThreshold) {
+                acc = accessor = reflFactory.newSerializationFieldAccessor(
+                    readFields, writeFields, offsets, numPrimFields);
+            }
+            return acc;
         }
 
         /**
@@ -1919,6 +1955,11 @@ public class ObjectStreamClass implements Serializable {
              * descriptor this FieldReflector was obtained from, no field keys
              * in array should be equal to Unsafe.INVALID_FIELD_OFFSET.
              */
+            SerializationFieldAccessor acc = accessor();
+            if (acc != null) {
+                acc.getPrimFieldValues(obj, buf);
+                return;
+            }
             for (int i = 0; i < numPrimFields; i++) {
                 long key = readKeys[i];
                 int off = offsets[i];
@@ -1970,6 +2011,11 @@ public class ObjectStreamClass implements Serializable {
             if (obj == null) {
                 throw new NullPointerException();
             }
+            SerializationFieldAccessor acc = accessor();
+            if (acc != null) {
+                acc.setPrimFieldValues(obj, buf);
+                return;
+            }
             for (int i = 0; i < numPrimFields; i++) {
                 long key = writeKeys[i];
                 if (key == Unsafe.INVALID_FIELD_OFFSET) {
@@ -2028,6 +2074,11 @@ public class ObjectStreamClass implements Serializable {
              * descriptor this FieldReflector was obtained from, no field keys
              * in array should be equal to Unsafe.INVALID_FIELD_OFFSET.
              */
+            SerializationFieldAccessor acc = accessor();
+            if (acc != null) {
+                acc.getObjFieldValues(obj, vals);
+                return;
+            }
             for (int i = numPrimFields; i < fields.length; i++) {
                 switch (typeCodes[i]) {
                     case 'L':
@@ -2058,6 +2109,13 @@ public class ObjectStreamClass implements Serializable {
          * ClassCastException.
          */
         void setObjFieldValues(Object obj, Object[] vals) {
+            SerializationFieldAccessor acc = accessor();
+            if (acc != null) {
+                // The generated accessor does not check the types
+                setObjFieldValues(obj, vals, true);
+                acc.setObjFieldValues(obj, vals);
+                return;
+            }
             setObjFieldValues(obj, vals, false);
         }
 
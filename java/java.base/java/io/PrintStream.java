@@ -189,10 +189,19 @@ public class PrintStream extends FilterOutputStream
      * @since  10
      */
     public PrintStream(OutputStream out, boolean autoFlush, Charset charset) {
+        this(out, autoFlush, charset, true);
+    }
+
+    /* Variant of the public constructor, for UnsynchronizedPrintStream, whose
+     * text buffer does not synchronize either.
+     */
+    PrintStream(OutputStream out, boolean autoFlush, Charset charset,
+                boolean synchronize) {
         super(out);
         this.autoFlush = autoFlush;
         this.charOut = new OutputStreamWriter(this, charset);
-        this.textOut = new BufferedWriter(charOut);
+        this.textOut = synchronize ? new BufferedWriter(charOut)
+                                   : new UnsynchronizedBufferedWriter(charOut);
     }
 
     /**
@@ -412,13 +421,18 @@ public class PrintStream extends FilterOutputStream
      */
     public void flush() {
         synchronized (this) {
-            try {
-                ensureOpen();
-                out.flush();
-            }
-            catch (IOException x) {
-                trouble = true;
-            }
+            implFlush();
+        }
+    }
+
+    /** Flushes the stream, without synchronizing */
+    void implFlush() {
+        try {
+            ensureOpen();
+            out.flush();
+        }
+        catch (IOException x) {
+            trouble = true;
         }
     }
 
@@ -432,19 +446,24 @@ public class PrintStream extends FilterOutputStream
      */
     public void close() {
         synchronized (this) {
-            if (! closing) {
-                closing = true;
-                try {
-                    textOut.close();
-                    out.close();
-                }
-                catch (IOException x) {
-                    trouble = true;
-                }
-                textOut = null;
-                charOut = null;
-                out = null;
+            implClose();
+        }
+    }
+
+    /** Closes the stream, without synchronizing */
+    void implClose() {
+        if (! closing) {
+            closing = true;
+            try {
+                textOut.close();
+                out.close();
             }
+            catch (IOException x) {
+                trouble = true;
+            }
+            textOut = null;
+            charOut = null;
+            out = null;
         }
     }
 
@@ -504,7 +523,9 @@ public class PrintStream extends FilterOutputStream
 
     /*
      * Exception-catching, synchronized output operations,
-     * which also implement the write() methods of OutputStream
+     * which also implement the write() methods of OutputStream.
+     * Each synchronizes around an implXxx method, which does the work
+     * and is invoked directly by UnsynchronizedPrintStream.
      */
 
     /**
@@ -522,13 +543,17 @@ public class PrintStream extends FilterOutputStream
      * @see #println(char)
      */
     public void write(int b) {
+        synchronized (this) {
+            implWrite(b);
+        }
+    }
+
+    void implWrite(int b) {
         try {
-            synchronized (this) {
-                ensureOpen();
-                out.write(b);
-                if ((b == '\n') && autoFlush)
-                    out.flush();
-            }
+            ensureOpen();
+            out.write(b);
+            if ((b == '\n') && autoFlush)
+                out.flush();
         }
         catch (InterruptedIOException x) {
             Thread.currentThread().interrupt();
@@ -553,13 +578,17 @@ public class PrintStream extends FilterOutputStream
      * @param  len   Number of bytes to write
      */
     public void write(byte buf[], int off, int len) {
+        synchronized (this) {
+            implWrite(buf, off, len);
+        }
+    }
+
+    void implWrite(byte buf[], int off, int len) {
         try {
-            synchronized (this) {
-                ensureOpen();
-                out.write(buf, off, len);
-                if (autoFlush)
-                    out.flush();
-            }
+            ensureOpen();
+            out.write(buf, off, len);
+            if (autoFlush)
+                out.flush();
         }
         catch (InterruptedIOException x) {
             Thread.currentThread().interrupt();
@@ -570,23 +599,28 @@ public class PrintStream extends FilterOutputStream
     }
 
     /*
-     * The following private methods on the text- and character-output streams
+     * The following methods on the text- and character-output streams
      * always flush the stream buffers, so that writes to the underlying byte
-     * stream occur as promptly as with the original PrintStream.
+     * stream occur as promptly as with the original PrintStream.  They are
+     * non-private only so that UnsynchronizedPrintStream may override them.
      */
 
-    private void write(char buf[]) {
+    void write(char buf[]) {
+        synchronized (this) {
+            implWrite(buf);
+        }
+    }
+
+    void implWrite(char buf[]) {
         try {
-            synchronized (this) {
-                ensureOpen();
-                textOut.write(buf);
-                textOut.flushBuffer();
-                charOut.flushBuffer();
-                if (autoFlush) {
-                    for (int i = 0; i < buf.length; i++)
-                        if (buf[i] == '\n')
-                            out.flush();
-                }
+            ensureOpen();
+            textOut.write(buf);
+            textOut.flushBuffer();
+            charOut.flushBuffer();
+            if (autoFlush) {
+                for (int i = 0; i < buf.length; i++)
+                    if (buf[i] == '\n')
+                        out.flush();
             }
         }
         catch (InterruptedIOException x) {
@@ -597,16 +631,20 @@ public class PrintStream extends FilterOutputStream
         }
     }
 
-    private void write(String s) {
+    void write(String s) {
+        synchronized (this) {
+            implWrite(s);
+        }
+    }
+
+    void implWrite(String s) {
         try {
-            synchronized (this) {
-                ensureOpen();
-                textOut.write(s);
-                textOut.flushBuffer();
-                charOut.flushBuffer();
-                if (autoFlush && (s.indexOf('\n') >= 0))
-                    out.flush();
-            }
+            ensureOpen();
+            textOut.write(s);
+            textOut.flushBuffer();
+            charOut.flushBuffer();
+            if (autoFlush && (s.indexOf('\n') >= 0))
+                out.flush();
         }
         catch (InterruptedIOException x) {
             Thread.currentThread().interrupt();
@@ -616,16 +654,20 @@ public class PrintStream extends FilterOutputStream
         }
     }
 
-    private void newLine() {
+    void newLine() {
+        synchronized (this) {
+            implNewLine();
+        }
+    }
+
+    void implNewLine() {
         try {
-            synchronized (this) {
-                ensureOpen();
-                textOut.newLine();
-                textOut.flushBuffer();
-                charOut.flushBuffer();
-                if (autoFlush)
-                    out.flush();
-            }
+            ensureOpen();
+            textOut.newLine();
+            textOut.flushBuffer();
+            charOut.flushBuffer();
+            if (autoFlush)
+                out.flush();
         }
         catch (InterruptedIOException x) {
             Thread.currentThread().interrupt();
@@ -1043,22 +1085,26 @@ public class PrintStream extends FilterOutputStream
      * @since  1.5
      */
     public PrintStream format(String format, Object ... args) {
+        synchronized (this) {
+            implFormat(format, args);
+        }
+        return this;
+    }
+
+    void implFormat(String format, Object ... args) {
         try {
-            synchronized (this) {
-                ensureOpen();
-                if ((formatter == null)
-                    || (formatter.locale() !=
-                        Locale.getDefault(Locale.Category.FORMAT)))
-                    formatter = new Formatter((Appendable) this);
-                formatter.format(Locale.getDefault(Locale.Category.FORMAT),
-                                 format, args);
-            }
+            ensureOpen();
+            if ((formatter == null)
+                || (formatter.locale() !=
+                    Locale.getDefault(Locale.Category.FORMAT)))
+                formatter = new Formatter((Appendable) this);
+            formatter.format(Locale.getDefault(Locale.Category.FORMAT),
+                             format, args);
         } catch (InterruptedIOException x) {
             Thread.currentThread().interrupt();
         } catch (IOException x) {
             trouble = true;
         }
-        return this;
     }
 
     /**
@@ -1102,20 +1148,24 @@ public class PrintStream extends FilterOutputStream
      * @since  1.5
      */
     public PrintStream format(Locale l, String format, Object ... args) {
+        synchronized (this) {
+            implFormat(l, format, args);
+        }
+        return this;
+    }
+
+    void implFormat(Locale l, String format, Object ... args) {
         try {
-            synchronized (this) {
-                ensureOpen();
-                if ((formatter == null)
-                    || (formatter.locale() != l))
-                    formatter = new Formatter(this, l);
-                formatter.format(l, format, args);
-            }
+            ensureOpen();
+            if ((formatter == null)
+                || (formatter.locale() != l))
+                formatter = new Formatter(this, l);
+            formatter.format(l, format, args);
         } catch (InterruptedIOException x) {
             Thread.currentThread().interrupt();
         } catch (IOException x) {
             trouble = true;
         }
-        return this;
     }
 
     /**
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class implements an output stream in which the data is written into
+ * a sequence of byte arrays, called chunks.  Unlike a {@link
+ * ByteArrayOutputStream}, which doubles its single buffer and copies it as
+ * data is written, this stream adds chunks as data is written and never
+ * copies the data already written, and its size is not limited to that of
+ * an array.
+ *
+ * <p> The first chunks are small, so that a stream to which little is
+ * written stays small, and double in size up to the chunk size given when
+ * the stream is created; all later chunks are of that size.  A chunk size
+ * well below half the heap region size of the garbage collector avoids
+ * allocating humongous objects for large streams.
+ *
+ * <p> The data can be retrieved without copying, as {@linkplain
+ * #toByteBuffers() read-only byte buffers} over the chunks, or written
+ * {@linkplain #writeTo(GatheringByteChannel) to a channel} with a gathering
+ * write, as well as copied into an array with {@link #toByteArray()}.
+ * {@link #reset()} keeps the chunks, so that a stream can be used again
+ * without allocating.
+ *
+ * <p> The methods of this class do not synchronize.  An instance must not be
+ * used by more than one thread at a time without external synchronization.
+ *
+ * <p> Closing a {@code SegmentedByteArrayOutputStream} has no effect. The
+ * methods in this class can be called after the stream has been closed
+ * without generating an {@code IOException}.
+ *
+ * @see ByteArrayOutputStream
+ * @since 12
+ */
+public class SegmentedByteArrayOutputStream extends OutputStream {
+
+    /**
+     * The default chunk size.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * The size of the first chunk, if smaller than the chunk size.
+     */
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int chunkSize;
+
+    /**
+     * The chunks allocated, of which those before {@code current} are full;
+     * those after it are kept after a reset, to be used again.
+     */
+    private byte[][] chunks;
+    private int chunkCount;
+
+    /**
+     * The index of the chunk being written, and the number of valid bytes
+     * in it.
+     */
+    private int current;
+    private int count;
+
+    /**
+     * The number of valid bytes in the chunks before {@code current}.
+     */
+    private long filled;
+
+    /**
+     * Creates a new {@code SegmentedByteArrayOutputStream}, with a chunk
+     * size of 8192 bytes.
+     */
+    public SegmentedByteArrayOutputStream() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new {@code SegmentedByteArrayOutputStream}, with the
+     * specified chunk size, in bytes.
+     *
+     * @param  chunkSize   the chunk size.
+     * @throws IllegalArgumentException if chunkSize is not positive.
+     */
+    public SegmentedByteArrayOutputStream(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Non-positive chunk size: "
+                                               + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        chunks = new byte[8][];
+        chunks[0] = new byte[Math.min(chunkSize, MIN_CHUNK_SIZE)];
+        chunkCount = 1;
+    }
+
+    /**
+     * Moves on to the chunk after the current one, which is full,
+     * allocating it if there is none.
+     */
+    private void nextChunk() {
+        filled += chunks[current].length;
+        if (++current == chunkCount) {
+            if (chunkCount == chunks.length)
+                chunks = Arrays.copyOf(chunks, chunkCount << 1);
+            int prev = chunks[chunkCount - 1].length;
+            int size = (prev < chunkSize >> 1) ? prev << 1 : chunkSize;
+            chunks[chunkCount++] = new byte[size];
+        }
+        count = 0;
+    }
+
+    /**
+     * Writes the specified byte to this {@code SegmentedByteArrayOutputStream}.
+     *
+     * @param   b   the byte to be written.
+     */
+    @Override
+    public void write(int b) {
+        byte[] chunk = chunks[current];
+        if (count == chunk.length) {
+            nextChunk();
+            chunk = chunks[current];
+        }
+        chunk[count++] = (byte) b;
+    }
+
+    /**
+     * Writes {@code len} bytes from the specified byte array
+     * starting at offset {@code off} to this
+     * {@code SegmentedByteArrayOutputStream}.
+     *
+     * @param   b     the data.
+     * @param   off   the start offset in the data.
+     * @param   len   the number of bytes to write.
+     * @throws  NullPointerException if {@code b} is {@code null}.
+     * @throws  IndexOutOfBoundsException if {@code off} is negative,
+     * {@code len} is negative, or {@code len} is greater than
+     * {@code b.length - off}
+     */
+    @Override
+    public void write(byte b[], int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            byte[] chunk = chunks[current];
+            if (count == chunk.length) {
+                nextChunk();
+                chunk = chunks[current];
+            }
+            int n = Math.min(len, chunk.length - count);
+            System.arraycopy(b, off, chunk, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Writes the complete contents of the specified byte array
+     * to this {@code SegmentedByteArrayOutputStream}.
+     *
+     * @apiNote
+     * This method is equivalent to {@link #write(byte[],int,int)
+     * write(b, 0, b.length)}.
+     *
+     * @param   b     the data.
+     * @throws  NullPointerException if {@code b} is {@code null}.
+     */
+    public void writeBytes(byte b[]) {
+        write(b, 0, b.length);
+    }
+
+    /**
+     * Writes the complete contents of this
+     * {@code SegmentedByteArrayOutputStream} to the specified output stream
+     * argument, by calling the output stream's write method once for each
+     * chunk.
+     *
+     * @param   out   the output stream to which to write the data.
+     * @throws  NullPointerException if {@code out} is {@code null}.
+     * @throws  IOException if an I/O error occurs.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out);
+        for (int i = 0; i < current; i++) {
+            out.write(chunks[i], 0, chunks[i].length);
+        }
+        if (count > 0) {
+            out.write(chunks[current], 0, count);
+        }
+    }
+
+    /**
+     * Writes the complete contents of this
+     * {@code SegmentedByteArrayOutputStream} to the specified channel, with
+     * as few gathering writes of the chunks as the channel takes to write
+     * them all.
+     *
+     * @param   ch    the channel to which to write the data.
+     * @return  the number of bytes written, which is the size of this stream.
+     * @throws  NullPointerException if {@code ch} is {@code null}.
+     * @throws  IllegalBlockingModeException if the channel is a selectable
+     *          channel in non-blocking mode.
+     * @throws  IOException if an I/O error occurs.
+     */
+    public long writeTo(GatheringByteChannel ch) throws IOException {
+        if (ch instanceof SelectableChannel &&
+            !((SelectableChannel)ch).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+        ByteBuffer[] bufs = toByteBuffers();
+        long written = 0;
+        int i = 0;
+        while (i < bufs.length) {
+            written += ch.write(bufs, i, bufs.length - i);
+            while (i < bufs.length && !bufs[i].hasRemaining()) {
+                i++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Discards all currently accumulated output in the output stream.  The
+     * output stream can be used again, reusing the chunks already allocated.
+     * Byte buffers returned by {@link #toByteBuffers()} before the reset see
+     * the data written after it.
+     */
+    public void reset() {
+        current = 0;
+        count = 0;
+        filled = 0;
+    }
+
+    /**
+     * Returns the current contents of this output stream as read-only byte
+     * buffers over its chunks, without copying them.  The buffers are in the
+     * order in which their bytes were written, and each has a position of
+     * zero and a limit of the number of bytes in it; there is no buffer for
+     * an empty stream.
+     *
+     * <p> The buffers share the chunks of this stream, and see the data
+     * written to them after a {@linkplain #reset() reset}.  They do not see
+     * data written to this stream after this method returns.
+     *
+     * @return  the current contents of this output stream, as byte buffers.
+     */
+    public ByteBuffer[] toByteBuffers() {
+        int n = (count > 0) ? current + 1 : current;
+        ByteBuffer[] bufs = new ByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            int len = (i < current) ? chunks[i].length : count;
+            bufs[i] = ByteBuffer.wrap(chunks[i], 0, len).slice().asReadOnlyBuffer();
+        }
+        return bufs;
+    }
+
+    /**
+     * Returns the current contents of this output stream as a read-only byte
+     * buffer.  If they are in a single chunk the buffer shares it, as those
+     * returned by {@link #toByteBuffers()} do, and is created without
+     * copying; otherwise they are copied into a new buffer.
+     *
+     * @return  the current contents of this output stream, as a byte buffer.
+     * @throws  OutOfMemoryError if the size of this stream is larger than
+     *          that of the largest array that can be allocated.
+     */
+    public ByteBuffer toByteBuffer() {
+        if (current == 0) {
+            return ByteBuffer.wrap(chunks[0], 0, count).slice().asReadOnlyBuffer();
+        }
+        return ByteBuffer.wrap(toByteArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Creates a newly allocated byte array. Its size is the current
+     * size of this output stream and the valid contents of the chunks
+     * have been copied into it.
+     *
+     * @return  the current contents of this output stream, as a byte array.
+     * @throws  OutOfMemoryError if the size of this stream is larger than
+     *          that of the largest array that can be allocated.
+     * @see     #size()
+     */
+    public byte[] toByteArray() {
+        long size = size();
+        if (size > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        byte[] a = new byte[(int)size];
+        int off = 0;
+        for (int i = 0; i < current; i++) {
+            byte[] chunk = chunks[i];
+            System.arraycopy(chunk, 0, a, off, chunk.length);
+            off += chunk.length;
+        }
+        System.arraycopy(chunks[current], 0, a, off, count);
+        return a;
+    }
+
+    /**
+     * Returns the current size of this output stream.
+     *
+     * @return  the number of valid bytes in this output stream.
+     */
+    public long size() {
+        return filled + count;
+    }
+
+    /**
+     * Converts the contents of this output stream into a string by decoding
+     * the bytes using the specified {@link java.nio.charset.Charset charset}.
+     *
+     * <p> This method always replaces malformed-input and unmappable-character
+     * sequences with the charset's default replacement string. The {@link
+     * java.nio.charset.CharsetDecoder} class should be used when more control
+     * over the decoding process is required.
+     *
+     * @param      charset  the {@linkplain java.nio.charset.Charset charset}
+     *             to be used to decode the {@code bytes}
+     * @return     String decoded from the contents of this output stream.
+     * @throws     OutOfMemoryError if the size of this stream is larger than
+     *             that of the largest array that can be allocated.
+     */
+    public String toString(Charset charset) {
+        if (current == 0) {
+            return new String(chunks[0], 0, count, charset);
+        }
+        return new String(toByteArray(), charset);
+    }
+
+    /**
+     * Converts the contents of this output stream into a string decoding
+     * bytes using the platform's default character set.
+     *
+     * @return String decoded from the contents of this output stream.
+     */
+    @Override
+    public String toString() {
+        return toString(Charset.defaultCharset());
+    }
+
+    /**
+     * Closing a {@code SegmentedByteArrayOutputStream} has no effect. The
+     * methods in this class can be called after the stream has been closed
+     * without generating an {@code IOException}.
+     */
+    @Override
+    public void close() throws IOException {
+    }
+}
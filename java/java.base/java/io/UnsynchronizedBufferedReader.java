@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+/**
+ * A {@link BufferedReader} that does not synchronize, for use by one thread
+ * at a time.
+ *
+ * <p> Each operation of a {@code BufferedReader} acquires the monitor of its
+ * {@link Reader#lock lock}, which a reader used by a single thread pays for
+ * on every {@code read} and {@code readLine} call.  This class buffers and
+ * reads exactly as {@code BufferedReader} does, sharing its implementation,
+ * but without acquiring the lock.  An instance must not be used by more than
+ * one thread at a time without external synchronization.  Only the
+ * operations of this reader itself do not synchronize; those of the
+ * underlying reader, invoked when the buffer is refilled, still do.
+ *
+ * <p> In addition, the {@link #readLineView() readLineView} method reads a
+ * line without allocating a {@code String} for it.  For example, a file of
+ * comma-separated values might be scanned with
+ *
+ * <pre>{@code
+ *     try (UnsynchronizedBufferedReader in = new UnsynchronizedBufferedReader(
+ *              new InputStreamReader(new FileInputStream(file), UTF_8))) {
+ *         CharSequence line;
+ *         while ((line = in.readLineView()) != null) {
+ *             if (line.length() > 0 && line.charAt(0) != '#')
+ *                 process(line);
+ *         }
+ *     }
+ * }</pre>
+ *
+ * @see BufferedReader
+ * @since 12
+ */
+public class UnsynchronizedBufferedReader extends BufferedReader {
+
+    /**
+     * Creates an unsynchronized buffering character-input stream that uses
+     * an input buffer of the specified size.
+     *
+     * @param  in   A Reader
+     * @param  sz   Input-buffer size
+     *
+     * @exception  IllegalArgumentException  If {@code sz <= 0}
+     */
+    public UnsynchronizedBufferedReader(Reader in, int sz) {
+        super(in, sz);
+    }
+
+    /**
+     * Creates an unsynchronized buffering character-input stream that uses
+     * a default-sized input buffer.
+     *
+     * @param  in   A Reader
+     */
+    public UnsynchronizedBufferedReader(Reader in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return implRead();
+    }
+
+    @Override
+    public int read(char cbuf[], int off, int len) throws IOException {
+        return implRead(cbuf, off, len);
+    }
+
+    @Override
+    String readLine(boolean ignoreLF) throws IOException {
+        return implReadLine(ignoreLF);
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        return implReadLine(false);
+    }
+
+    /**
+     * Reads a line of text, as {@link #readLine() readLine} does, without
+     * copying it to a new {@code String}.
+     *
+     * <p> The characters of the line are returned as a view into the buffer
+     * of this reader, or into a line buffer that this reader reuses when the
+     * line is longer than what remains of its buffer.  The returned sequence,
+     * which may be the same object on every call, is only valid until the
+     * next operation on this reader, after which its contents are undefined;
+     * its {@code toString} and {@code subSequence} methods return a copy
+     * that remains valid.
+     *
+     * @return     A view of the contents of the line, not including any
+     *             line-termination characters, or null if the end of the
+     *             stream has been reached without reading any characters
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    public CharSequence readLineView() throws IOException {
+        return implReadLineView();
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n < 0L) {
+            throw new IllegalArgumentException("skip value is negative");
+        }
+        return implSkip(n);
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return implReady();
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        if (readAheadLimit < 0) {
+            throw new IllegalArgumentException("Read-ahead limit < 0");
+        }
+        implMark(readAheadLimit);
+    }
+
+    @Override
+    public void reset() throws IOException {
+        implReset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        implClose();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+/**
+ * A {@link BufferedWriter} that does not synchronize, for use by one thread
+ * at a time.
+ *
+ * <p> Each operation of a {@code BufferedWriter} acquires the monitor of its
+ * {@link Writer#lock lock}, which a writer used by a single thread pays for
+ * on every {@code write} call.  This class buffers and writes exactly as
+ * {@code BufferedWriter} does, sharing its implementation, but without
+ * acquiring the lock.  An instance must not be used by more than one thread
+ * at a time without external synchronization.  Only the operations of this
+ * writer itself do not synchronize; those of the underlying writer, invoked
+ * when the buffer is flushed, still do.
+ *
+ * @see BufferedWriter
+ * @since 12
+ */
+public class UnsynchronizedBufferedWriter extends BufferedWriter {
+
+    /**
+     * Creates an unsynchronized buffered character-output stream that uses
+     * a default-sized output buffer.
+     *
+     * @param  out  A Writer
+     */
+    public UnsynchronizedBufferedWriter(Writer out) {
+        super(out);
+    }
+
+    /**
+     * Creates an unsynchronized buffered character-output stream that uses
+     * an output buffer of the given size.
+     *
+     * @param  out  A Writer
+     * @param  sz   Output-buffer size, a positive integer
+     *
+     * @exception  IllegalArgumentException  If {@code sz <= 0}
+     */
+    public UnsynchronizedBufferedWriter(Writer out, int sz) {
+        super(out, sz);
+    }
+
+    @Override
+    void flushBuffer() throws IOException {
+        implFlushBuffer();
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        implWrite(c);
+    }
+
+    @Override
+    public void write(char cbuf[], int off, int len) throws IOException {
+        implWrite(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String s, int off, int len) throws IOException {
+        implWrite(s, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        implFlush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        implClose();
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.io;
+
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A {@link PrintStream} that does not synchronize, for use by one thread at
+ * a time.
+ *
+ * <p> Each operation of a {@code PrintStream} acquires the monitor of the
+ * stream, as do those of the buffered writer it encodes text through, which
+ * a stream used by a single thread pays for on every {@code print} call.
+ * This class prints exactly as {@code PrintStream} does, sharing its
+ * implementation, but without acquiring either monitor.  An instance must
+ * not be used by more than one thread at a time without external
+ * synchronization.  The operations of the underlying output stream, and of
+ * the encoder, still synchronize if they do so.
+ *
+ * @see PrintStream
+ * @since 12
+ */
+public class UnsynchronizedPrintStream extends PrintStream {
+
+    /**
+     * Creates a new unsynchronized print stream.  This stream will not flush
+     * automatically.
+     *
+     * @param  out        The output stream to which values and objects will be
+     *                    printed
+     */
+    public UnsynchronizedPrintStream(OutputStream out) {
+        this(out, false);
+    }
+
+    /**
+     * Creates a new unsynchronized print stream, using the default charset.
+     *
+     * @param  out        The output stream to which values and objects will be
+     *                    printed
+     * @param  autoFlush  A boolean; if true, the output buffer will be flushed
+     *                    whenever a byte array is written, one of the
+     *                    {@code println} methods is invoked, or a newline
+     *                    character or byte ({@code '\n'}) is written
+     */
+    public UnsynchronizedPrintStream(OutputStream out, boolean autoFlush) {
+        this(out, autoFlush, Charset.defaultCharset());
+    }
+
+    /**
+     * Creates a new unsynchronized print stream, with the specified
+     * OutputStream, automatic line flushing and charset.
+     *
+     * @param  out        The output stream to which values and objects will be
+     *                    printed
+     * @param  autoFlush  A boolean; if true, the output buffer will be flushed
+     *                    whenever a byte array is written, one of the
+     *                    {@code println} methods is invoked, or a newline
+     *                    character or byte ({@code '\n'}) is written
+     * @param  charset    A {@linkplain java.nio.charset.Charset charset}
+     */
+    public UnsynchronizedPrintStream(OutputStream out, boolean autoFlush, Charset charset) {
+        super(Objects.requireNonNull(out, "Null output stream"), autoFlush,
+              Objects.requireNonNull(charset, "charset"), false);
+    }
+
+    @Override
+    public void flush() {
+        implFlush();
+    }
+
+    @Override
+    public void close() {
+        implClose();
+    }
+
+    @Override
+    public void write(int b) {
+        implWrite(b);
+    }
+
+    @Override
+    public void write(byte buf[], int off, int len) {
+        implWrite(buf, off, len);
+    }
+
+    @Override
+    void write(char buf[]) {
+        implWrite(buf);
+    }
+
+    @Override
+    void write(String s) {
+        implWrite(s);
+    }
+
+    @Override
+    void newLine() {
+        implNewLine();
+    }
+
+    @Override
+    public void println(boolean x) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(char x) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(int x) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(long x) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(float x) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(double x) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(char x[]) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(String x) {
+        print(x);
+        newLine();
+    }
+
+    @Override
+    public void println(Object x) {
+        print(String.valueOf(x));
+        newLine();
+    }
+
+    @Override
+    public PrintStream format(String format, Object ... args) {
+        implFormat(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(Locale l, String format, Object ... args) {
+        implFormat(l, format, args);
+        return this;
+    }
+}
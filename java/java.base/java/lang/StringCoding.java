@@ -41,9 +41,12 @@ import java.nio.charset.UnmappableCharacterException;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.Arrays;
 import jdk.internal.HotSpotIntrinsicCandidate;
+import jdk.internal.misc.Unsafe;
+import jdk.internal.util.ArraysSupport;
 import sun.nio.cs.HistoricallyNamedCharset;
 import sun.nio.cs.ArrayDecoder;
 import sun.nio.cs.ArrayEncoder;
+import sun.nio.cs.ThreadLocalCoders;
 
 import static java.lang.String.LATIN1;
 import static java.lang.String.UTF16;
@@ -154,18 +157,18 @@ class StringCoding {
         private final String requestedCharsetName;
         private final Charset cs;
         private final boolean isASCIICompatible;
-        private final CharsetDecoder cd;
         protected final Result result;
 
         StringDecoder(Charset cs, String rcn) {
             this.requestedCharsetName = rcn;
             this.cs = cs;
-            this.cd = cs.newDecoder()
-                .onMalformedInput(CodingErrorAction.REPLACE)
-                .onUnmappableCharacter(CodingErrorAction.REPLACE);
             this.result = new Result();
+            // The decoder itself is taken from the thread's pool for each
+            // call, so that switching between charsets does not create one
+            CharsetDecoder cd = ThreadLocalCoders.takeDecoder(cs);
             this.isASCIICompatible = (cd instanceof ArrayDecoder) &&
                     ((ArrayDecoder)cd).isASCIICompatible();
+            ThreadLocalCoders.returnDecoder(cd);
         }
 
         String charsetName() {
@@ -191,6 +194,17 @@ class StringCoding {
                     return result.with(StringLatin1.inflate(ba, off, len), UTF16);
                 }
             }
+            CharsetDecoder cd = ThreadLocalCoders.takeDecoder(cs)
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            try {
+                return decode(cd, ba, off, len);
+            } finally {
+                ThreadLocalCoders.returnDecoder(cd);
+            }
+        }
+
+        private Result decode(CharsetDecoder cd, byte[] ba, int off, int len) {
             // fastpath for always Latin1 decodable single byte
             if (COMPACT_STRINGS && cd instanceof ArrayDecoder && ((ArrayDecoder)cd).isLatin1Decodable()) {
                 byte[] dst = new byte[len];
@@ -278,7 +292,16 @@ class StringCoding {
         // check (... && (isTrusted || SM == null || getClassLoader0())) in trim
         // but it then can be argued that the SM is null when the operation
         // is started...
-        CharsetDecoder cd = cs.newDecoder();
+        CharsetDecoder cd = ThreadLocalCoders.takeDecoder(cs);
+        try {
+            return decode(cs, cd, ba, off, len);
+        } finally {
+            ThreadLocalCoders.returnDecoder(cd);
+        }
+    }
+
+    private static Result decode(Charset cs, CharsetDecoder cd,
+                                 byte[] ba, int off, int len) {
         // ascii fastpath
         if ((cd instanceof ArrayDecoder) &&
             ((ArrayDecoder)cd).isASCIICompatible() && !hasNegatives(ba, off, len)) {
@@ -347,7 +370,6 @@ class StringCoding {
     // -- Encoding --
     private static class StringEncoder {
         private Charset cs;
-        private CharsetEncoder ce;
         private final boolean isASCIICompatible;
         private final String requestedCharsetName;
         private final boolean isTrusted;
@@ -355,12 +377,13 @@ class StringCoding {
         private StringEncoder(Charset cs, String rcn) {
             this.requestedCharsetName = rcn;
             this.cs = cs;
-            this.ce = cs.newEncoder()
-                .onMalformedInput(CodingErrorAction.REPLACE)
-                .onUnmappableCharacter(CodingErrorAction.REPLACE);
             this.isTrusted = (cs.getClass().getClassLoader0() == null);
+            // The encoder itself is taken from the thread's pool for each
+            // call, so that switching between charsets does not create one
+            CharsetEncoder ce = ThreadLocalCoders.takeEncoder(cs);
             this.isASCIICompatible = (ce instanceof ArrayEncoder) &&
                     ((ArrayEncoder)ce).isASCIICompatible();
+            ThreadLocalCoders.returnEncoder(ce);
         }
 
         String charsetName() {
@@ -379,6 +402,17 @@ class StringCoding {
                 !hasNegatives(val, 0, val.length)) {
                 return Arrays.copyOf(val, val.length);
             }
+            CharsetEncoder ce = ThreadLocalCoders.takeEncoder(cs)
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            try {
+                return encode(ce, coder, val);
+            } finally {
+                ThreadLocalCoders.returnEncoder(ce);
+            }
+        }
+
+        private byte[] encode(CharsetEncoder ce, byte coder, byte[] val) {
             int len = val.length >> coder;  // assume LATIN1=0/UTF16=1;
             int en = scale(len, ce.maxBytesPerChar());
             byte[] ba = new byte[en];
@@ -454,7 +488,16 @@ class StringCoding {
         if (cs == US_ASCII) {
             return encodeASCII(coder, val);
         }
-        CharsetEncoder ce = cs.newEncoder();
+        CharsetEncoder ce = ThreadLocalCoders.takeEncoder(cs);
+        try {
+            return encode(cs, ce, coder, val);
+        } finally {
+            ThreadLocalCoders.returnEncoder(ce);
+        }
+    }
+
+    private static byte[] encode(Charset cs, CharsetEncoder ce,
+                                 byte coder, byte[] val) {
         // fastpath for ascii compatible
         if (coder == LATIN1 && (((ce instanceof ArrayEncoder) &&
                                  ((ArrayEncoder)ce).isASCIICompatible() &&
@@ -736,8 +779,17 @@ class StringCoding {
             while (sp < sl) {
                 int b1 = src[sp];
                 if (b1 >= 0) {
-                    dst[dp++] = (byte)b1;
-                    sp++;
+                    // the ASCII run, a byte at a time while it may be short
+                    int end8 = Math.min(sl, sp + 8);
+                    do {
+                        dst[dp++] = src[sp++];
+                    } while (sp < end8 && src[sp] >= 0);
+                    if (sp == end8 && sp < sl) {
+                        int n = ArraysSupport.asciiPrefixLength(src, sp, sl - sp);
+                        System.arraycopy(src, sp, dst, dp, n);
+                        sp += n;
+                        dp += n;
+                    }
                     continue;
                 }
                 if ((b1 == (byte)0xc2 || b1 == (byte)0xc3) &&
@@ -773,6 +825,18 @@ class StringCoding {
             int b1 = src[sp++];
             if (b1 >= 0) {
                 putChar(dst, dp++, (char) b1);
+                // and the rest of the ASCII run, a byte at a time while
+                // it may be short
+                int end8 = Math.min(sl, sp + 7);
+                while (sp < end8 && src[sp] >= 0) {
+                    putChar(dst, dp++, (char) src[sp++]);
+                }
+                if (sp == end8 && sp < sl) {
+                    int n = ArraysSupport.asciiPrefixLength(src, sp, sl - sp);
+                    StringLatin1.inflate(src, sp, dst, dp, n);
+                    sp += n;
+                    dp += n;
+                }
             } else if ((b1 >> 5) == -2 && (b1 & 0x1e) != 0) {
                 if (sp < sl) {
                     int b2 = src[sp++];
@@ -901,14 +965,26 @@ class StringCoding {
             return Arrays.copyOf(val, val.length);
 
         int dp = 0;
+        int sp = 0;
         byte[] dst = new byte[val.length << 1];
-        for (int sp = 0; sp < val.length; sp++) {
+        while (sp < val.length) {
             byte c = val[sp];
             if (c < 0) {
                 dst[dp++] = (byte)(0xc0 | ((c & 0xff) >> 6));
                 dst[dp++] = (byte)(0x80 | (c & 0x3f));
+                sp++;
             } else {
-                dst[dp++] = c;
+                // the ASCII run, a byte at a time while it may be short
+                int end8 = Math.min(val.length, sp + 8);
+                do {
+                    dst[dp++] = val[sp++];
+                } while (sp < end8 && val[sp] >= 0);
+                if (sp == end8 && sp < val.length) {
+                    int n = ArraysSupport.asciiPrefixLength(val, sp, val.length - sp);
+                    System.arraycopy(val, sp, dst, dp, n);
+                    sp += n;
+                    dp += n;
+                }
             }
         }
         if (dp == dst.length)
@@ -916,24 +992,54 @@ class StringCoding {
         return Arrays.copyOf(dst, dp);
     }
 
+    /*
+     * Returns the number of leading ASCII chars in the given range, in
+     * chars, of a UTF16 value, testing four chars at a time.
+     */
+    private static int asciiPrefixLengthUTF16(byte[] val, int off, int len) {
+        int i = 0;
+        if (len > 3) {
+            i = ArraysSupport.vectorizedFirstNonASCII(
+                    val, Unsafe.ARRAY_BYTE_BASE_OFFSET + ((long) off << 1),
+                    len, ArraysSupport.LOG2_ARRAY_CHAR_INDEX_SCALE);
+            if (i >= 0)
+                return i;
+            i = len - ~i;
+        }
+        for (; i < len; i++) {
+            if (StringUTF16.getChar(val, off + i) >= '\u0080')
+                return i;
+        }
+        return len;
+    }
+
     private static byte[] encodeUTF8_UTF16(byte[] val, boolean doReplace) {
         int dp = 0;
         int sp = 0;
         int sl = val.length >> 1;
         byte[] dst = new byte[sl * 3];
-        while (sp < sl) {
-            // ascii fast loop;
-            char c = StringUTF16.getChar(val, sp);
-            if (c >= '\u0080') {
-                break;
-            }
-            dst[dp++] = (byte)c;
-            sp++;
-        }
+        // ascii fast loop;
+        int n = asciiPrefixLengthUTF16(val, sp, sl - sp);
+        StringUTF16.compress(val, sp, dst, dp, n);
+        sp += n;
+        dp += n;
         while (sp < sl) {
             char c = StringUTF16.getChar(val, sp++);
             if (c < 0x80) {
                 dst[dp++] = (byte)c;
+                // and the rest of the ASCII run, a char at a time while
+                // it may be short
+                int end8 = Math.min(sl, sp + 7);
+                while (sp < end8 && (c = StringUTF16.getChar(val, sp)) < 0x80) {
+                    dst[dp++] = (byte)c;
+                    sp++;
+                }
+                if (sp == end8 && sp < sl) {
+                    n = asciiPrefixLengthUTF16(val, sp, sl - sp);
+                    StringUTF16.compress(val, sp, dst, dp, n);
+                    sp += n;
+                    dp += n;
+                }
             } else if (c < 0x800) {
                 dst[dp++] = (byte)(0xc0 | (c >> 6));
                 dst[dp++] = (byte)(0x80 | (c & 0x3f));
@@ -1032,7 +1138,16 @@ class StringCoding {
             }
         }
 
-        CharsetDecoder cd = cs.newDecoder();
+        CharsetDecoder cd = ThreadLocalCoders.takeDecoder(cs);
+        try {
+            return newStringNoRepl1(cs, cd, src);
+        } finally {
+            ThreadLocalCoders.returnDecoder(cd);
+        }
+    }
+
+    private static String newStringNoRepl1(Charset cs, CharsetDecoder cd,
+                                           byte[] src) {
         // ascii fastpath
         if ((cd instanceof ArrayDecoder) &&
             ((ArrayDecoder)cd).isASCIICompatible() && isASCII(src)) {
@@ -1104,7 +1219,16 @@ class StringCoding {
                 }
             }
         }
-        CharsetEncoder ce = cs.newEncoder();
+        CharsetEncoder ce = ThreadLocalCoders.takeEncoder(cs);
+        try {
+            return getBytesNoRepl1(cs, ce, coder, val);
+        } finally {
+            ThreadLocalCoders.returnEncoder(ce);
+        }
+    }
+
+    private static byte[] getBytesNoRepl1(Charset cs, CharsetEncoder ce,
+                                          byte coder, byte[] val) {
         // fastpath for ascii compatible
         if (coder == LATIN1 && (((ce instanceof ArrayEncoder) &&
                                  ((ArrayEncoder)ce).isASCIICompatible() &&
@@ -2649,6 +2649,14 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
         return scale;
     }
 
+    /**
+     * Returns the unscaled value of this {@code BigDecimal} if it fits in
+     * a {@code long}, and {@code INFLATED} otherwise.
+     */
+    long compactValue() {
+        return intCompact;
+    }
+
     /**
      * Returns the <i>precision</i> of this {@code BigDecimal}.  (The
      * precision is the number of digits in the unscaled value.)
@@ -3436,6 +3444,41 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
         return getValueString(signum(), str, scale);
     }
 
+    /**
+     * Appends the string representation of this {@code BigDecimal}, as
+     * returned by {@link #toString()}, to the given {@code StringBuilder}.
+     * No intermediate {@code String} is created when the unscaled value
+     * of this {@code BigDecimal} fits in a {@code long}.
+     *
+     * @param  sb the {@code StringBuilder} to append to.
+     * @return {@code sb}
+     * @see    #toString()
+     * @since  12
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        String sc = stringCache;
+        if (sc != null) {
+            return sb.append(sc);
+        }
+        return appendTo(sb, intCompact, intVal, scale);
+    }
+
+    /**
+     * Appends the string representation of this {@code BigDecimal}
+     * without an exponent field, as returned by {@link #toPlainString()},
+     * to the given {@code StringBuilder}.  No intermediate {@code String}
+     * is created when the unscaled value of this {@code BigDecimal} fits
+     * in a {@code long}.
+     *
+     * @param  sb the {@code StringBuilder} to append to.
+     * @return {@code sb}
+     * @see    #toPlainString()
+     * @since  12
+     */
+    public StringBuilder appendPlainTo(StringBuilder sb) {
+        return appendPlainTo(sb, intCompact, intVal, scale);
+    }
+
     /* Returns a digit.digit string */
     private String getValueString(int signum, String intString, int scale) {
         /* Insert decimal point */
@@ -3930,41 +3973,51 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
                     StringBuilderHelper.DIGIT_ONES[lowInt]) ;
         }
 
+        // Construct a buffer, with sufficient capacity for all cases.
+        // If E-notation is needed, length will be: +1 if negative, +1
+        // if '.' needed, +2 for "E+", + up to 10 for adjusted exponent.
+        // Otherwise it could have +1 if negative, plus leading "0.00000"
+        StringBuilder buf = threadLocalStringBuilderHelper.get().getStringBuilder();
+        layoutChars(buf, intCompact, intVal, scale, sci);
+        return buf.toString();
+    }
+
+    /**
+     * Lays out the {@code BigDecimal} with the given significand and
+     * scale, which is not zero, as {@link #layoutChars(boolean)} does,
+     * appending the characters to {@code buf}.
+     *
+     * @param  buf the {@code StringBuilder} to append to
+     * @param  intCompact the significand, or {@code INFLATED}
+     * @param  intVal the significand, if {@code intCompact} is
+     *         {@code INFLATED}
+     * @param  scale the scale
+     * @param  sci {@code true} for Scientific exponential notation;
+     *          {@code false} for Engineering
+     */
+    private static void layoutChars(StringBuilder buf, long intCompact,
+                                    BigInteger intVal, int scale, boolean sci) {
         StringBuilderHelper sbHelper = threadLocalStringBuilderHelper.get();
         char[] coeff;
         int offset;  // offset is the starting index for coeff array
+        int signum;
         // Get the significand as an absolute value
         if (intCompact != INFLATED) {
             offset = sbHelper.putIntCompact(Math.abs(intCompact));
             coeff  = sbHelper.getCompactCharArray();
+            signum = Long.signum(intCompact);
         } else {
             offset = 0;
             coeff  = intVal.abs().toString().toCharArray();
+            signum = intVal.signum();
         }
 
-        // Construct a buffer, with sufficient capacity for all cases.
-        // If E-notation is needed, length will be: +1 if negative, +1
-        // if '.' needed, +2 for "E+", + up to 10 for adjusted exponent.
-        // Otherwise it could have +1 if negative, plus leading "0.00000"
-        StringBuilder buf = sbHelper.getStringBuilder();
-        if (signum() < 0)             // prefix '-' if negative
+        if (signum < 0)               // prefix '-' if negative
             buf.append('-');
         int coeffLen = coeff.length - offset;
         long adjusted = -(long)scale + (coeffLen -1);
         if ((scale >= 0) && (adjusted >= -6)) { // plain number
-            int pad = scale - coeffLen;         // count of padding zeros
-            if (pad >= 0) {                     // 0.xxx form
-                buf.append('0');
-                buf.append('.');
-                for (; pad>0; pad--) {
-                    buf.append('0');
-                }
-                buf.append(coeff, offset, coeffLen);
-            } else {                         // xx.xx form
-                buf.append(coeff, offset, -pad);
-                buf.append('.');
-                buf.append(coeff, -pad + offset, scale);
-            }
+            appendWithPoint(buf, coeff, offset, coeffLen, scale);
         } else { // E-notation is needed
             if (sci) {                       // Scientific notation
                 buf.append(coeff[offset]);   // first character
@@ -3978,7 +4031,7 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
                     sig += 3;                // [adjusted was negative]
                 adjusted -= sig;             // now a multiple of 3
                 sig++;
-                if (signum() == 0) {
+                if (signum == 0) {
                     switch (sig) {
                     case 1:
                         buf.append('0'); // exponent is a multiple of three
@@ -4013,7 +4066,84 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
                 buf.append(adjusted);
             }
         }
-        return buf.toString();
+    }
+
+    /**
+     * Appends the digits of a significand with a decimal point placed
+     * {@code scale} digits from the right, which must be positive, padding
+     * with zeros after "0." as needed.
+     */
+    private static void appendWithPoint(StringBuilder buf, char[] coeff,
+                                        int offset, int coeffLen, int scale) {
+        int pad = scale - coeffLen;         // count of padding zeros
+        if (pad >= 0) {                     // 0.xxx form
+            buf.append('0');
+            buf.append('.');
+            for (; pad>0; pad--) {
+                buf.append('0');
+            }
+            buf.append(coeff, offset, coeffLen);
+        } else {                         // xx.xx form
+            buf.append(coeff, offset, -pad);
+            buf.append('.');
+            buf.append(coeff, -pad + offset, scale);
+        }
+    }
+
+    /**
+     * Appends the string representation of the {@code BigDecimal} with
+     * the given significand and scale, as {@link #toString()} would
+     * return it, to {@code buf}.
+     */
+    static StringBuilder appendTo(StringBuilder buf, long intCompact,
+                                  BigInteger intVal, int scale) {
+        if (scale == 0) {
+            return (intCompact != INFLATED) ?
+                buf.append(intCompact) :
+                buf.append(intVal.toString());
+        }
+        layoutChars(buf, intCompact, intVal, scale, true);
+        return buf;
+    }
+
+    /**
+     * Appends the string representation without an exponent field of the
+     * {@code BigDecimal} with the given significand and scale, as
+     * {@link #toPlainString()} would return it, to {@code buf}.
+     */
+    static StringBuilder appendPlainTo(StringBuilder buf, long intCompact,
+                                       BigInteger intVal, int scale) {
+        if (scale <= 0) {
+            if (scale < 0 && ((intCompact != INFLATED) ?
+                              intCompact == 0 : intVal.signum() == 0))
+                return buf.append('0');
+            int trailingZeros = checkScaleNonZero(-(long)scale);
+            if (intCompact != INFLATED) {
+                buf.append(intCompact);
+            } else {
+                buf.append(intVal.toString());
+            }
+            for (; trailingZeros > 0; trailingZeros--) {
+                buf.append('0');
+            }
+            return buf;
+        }
+        char[] coeff;
+        int offset;
+        if (intCompact != INFLATED) {
+            StringBuilderHelper sbHelper = threadLocalStringBuilderHelper.get();
+            offset = sbHelper.putIntCompact(Math.abs(intCompact));
+            coeff  = sbHelper.getCompactCharArray();
+            if (intCompact < 0)
+                buf.append('-');
+        } else {
+            offset = 0;
+            coeff  = intVal.abs().toString().toCharArray();
+            if (intVal.signum() < 0)
+                buf.append('-');
+        }
+        appendWithPoint(buf, coeff, offset, coeff.length - offset, scale);
+        return buf;
     }
 
     /**
@@ -4145,7 +4275,7 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
      * Compute val * 10 ^ n; return this product if it is
      * representable as a long, INFLATED otherwise.
      */
-    private static long longMultiplyPowerTen(long val, int n) {
+    static long longMultiplyPowerTen(long val, int n) {
         if (val == 0 || n <= 0)
             return val;
         long[] tab = LONG_TEN_POWERS_TABLE;
@@ -4695,8 +4825,8 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
     /**
      * Tests if quotient has to be incremented according the roundingMode
      */
-    private static boolean needIncrement(long ldivisor, int roundingMode,
-                                         int qsign, long q, long r) {
+    static boolean needIncrement(long ldivisor, int roundingMode,
+                                 int qsign, long q, long r) {
         assert r != 0L;
 
         int cmpFracHalf;
@@ -4918,7 +5048,7 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
     /*
      * returns INFLATED if oveflow
      */
-    private static long add(long xs, long ys){
+    static long add(long xs, long ys){
         long sum = xs + ys;
         // See "Hacker's Delight" section 2-12 for explanation of
         // the overflow test.
@@ -5522,7 +5652,7 @@ public class BigDecimal extends Number implements Comparable<BigDecimal> {
         }
     }
 
-    private static long multiply(long x, long y){
+    static long multiply(long x, long y){
                 long product = x * y;
         long ax = Math.abs(x);
         long ay = Math.abs(y);
@@ -38,6 +38,8 @@ import java.io.ObjectStreamException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.ThreadLocalRandom;
 
 import jdk.internal.math.DoubleConsts;
@@ -263,6 +265,15 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      */
     private static final int SCHOENHAGE_BASE_CONVERSION_THRESHOLD = 20;
 
+    /**
+     * The threshold value for using recursive base conversion when parsing
+     * a {@code String}.  If the number of ints in the parsed number would be
+     * larger than this value, the digits are split and parsed recursively.
+     * Below it, multiplying a digit group at a time into the magnitude is
+     * faster.  This value is found experimentally to work well.
+     */
+    private static final int SCHOENHAGE_PARSE_THRESHOLD = 80;
+
     /**
      * The threshold value for using squaring code to perform multiplication
      * of a {@code BigInteger} instance by itself.  If the number of ints in
@@ -526,32 +537,75 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
             reportOverflow();
         }
         int numWords = (int) (numBits + 31) >>> 5;
+
+        if (numWords > SCHOENHAGE_PARSE_THRESHOLD) {
+            mag = parse(val, cursor, len, radix).mag;
+        } else {
+            mag = parseSmall(val, cursor, len, radix, numWords);
+        }
+        if (mag.length >= MAX_MAG_LENGTH) {
+            checkRange();
+        }
+    }
+
+    /**
+     * Returns the magnitude of the digits of {@code val} between the two
+     * indexes, a digit group at a time.  The digits are assumed to carry no
+     * sign, and the magnitude to fit in {@code numWords} ints.
+     */
+    private static int[] parseSmall(String val, int from, int to, int radix,
+                                    int numWords) {
         int[] magnitude = new int[numWords];
+        int cursor = from;
 
         // Process first (potentially short) digit group
-        int firstGroupLen = numDigits % digitsPerInt[radix];
+        int firstGroupLen = (to - from) % digitsPerInt[radix];
         if (firstGroupLen == 0)
             firstGroupLen = digitsPerInt[radix];
-        String group = val.substring(cursor, cursor += firstGroupLen);
-        magnitude[numWords - 1] = Integer.parseInt(group, radix);
+        magnitude[numWords - 1] =
+            Integer.parseInt(val, cursor, cursor += firstGroupLen, radix);
         if (magnitude[numWords - 1] < 0)
             throw new NumberFormatException("Illegal digit");
 
         // Process remaining digit groups
         int superRadix = intRadix[radix];
         int groupVal = 0;
-        while (cursor < len) {
-            group = val.substring(cursor, cursor += digitsPerInt[radix]);
-            groupVal = Integer.parseInt(group, radix);
+        while (cursor < to) {
+            groupVal = Integer.parseInt(val, cursor,
+                                        cursor += digitsPerInt[radix], radix);
             if (groupVal < 0)
                 throw new NumberFormatException("Illegal digit");
             destructiveMulAdd(magnitude, superRadix, groupVal);
         }
         // Required for cases where the array was overallocated.
-        mag = trustedStripLeadingZeroInts(magnitude);
-        if (mag.length >= MAX_MAG_LENGTH) {
-            checkRange();
+        return trustedStripLeadingZeroInts(magnitude);
+    }
+
+    /**
+     * Returns the non-negative value of the digits of {@code val} between
+     * the two indexes, which are assumed to carry no sign.  This is the
+     * inverse of the recursive Schoenhage conversion done by
+     * {@link #toString(BigInteger, StringBuilder, int, int) toString}: the
+     * digits are split into a high part and a low part of 2^n digits, which
+     * are parsed recursively and combined as high * radix^(2^n) + low, so
+     * that the cost is that of the multiplications rather than quadratic
+     * in the number of digits.
+     */
+    private static BigInteger parse(String val, int from, int to, int radix) {
+        int numDigits = to - from;
+        long numBits = ((numDigits * bitsPerDigit[radix]) >>> 10) + 1;
+        int numWords = (int) (numBits + 31) >>> 5;
+        if (numWords <= SCHOENHAGE_PARSE_THRESHOLD) {
+            return new BigInteger(parseSmall(val, from, to, radix, numWords), 1);
         }
+
+        // The largest power of two less than the number of digits
+        int n = 31 - Integer.numberOfLeadingZeros(numDigits - 1);
+        int split = to - (1 << n);
+        BigInteger high = parse(val, from, split, radix);
+        BigInteger low = parse(val, split, to, radix);
+        return high.multiply(getRadixConversionCache(radix, n), true, false, 0)
+                   .add(low);
     }
 
     /*
@@ -1563,7 +1617,31 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * @return {@code this * val}
      */
     public BigInteger multiply(BigInteger val) {
-        return multiply(val, false);
+        return multiply(val, false, false, 0);
+    }
+
+    /**
+     * Returns a BigInteger whose value is {@code (this * val)}, computed
+     * using the {@link ForkJoinPool#commonPool() common pool} to carry out
+     * the partial products of large operands in parallel.  The result is
+     * the same as that of {@link #multiply multiply}.
+     *
+     * @implNote An implementation may offer better algorithmic
+     * performance when {@code val == this}.
+     *
+     * @implNote This implementation only parallelizes the partial products
+     * of operands large enough for the 3-way Toom-Cook algorithm, that is,
+     * of the order of ten thousand bits or more; smaller operands are
+     * multiplied as by {@code multiply}.  It uses more CPU time in total,
+     * and somewhat more memory, than {@code multiply} does.
+     *
+     * @param  val value to be multiplied by this BigInteger.
+     * @return {@code this * val}
+     * @see #multiply
+     * @since 12
+     */
+    public BigInteger parallelMultiply(BigInteger val) {
+        return multiply(val, false, true, 0);
     }
 
     /**
@@ -1572,16 +1650,20 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      *
      * @param  val value to be multiplied by this BigInteger.
      * @param  isRecursion whether this is a recursive invocation
+     * @param  parallel whether the partial products may be computed in
+     *         parallel
+     * @param  depth the depth of recursion of parallel invocations
      * @return {@code this * val}
      */
-    private BigInteger multiply(BigInteger val, boolean isRecursion) {
+    private BigInteger multiply(BigInteger val, boolean isRecursion,
+                                boolean parallel, int depth) {
         if (val.signum == 0 || signum == 0)
             return ZERO;
 
         int xlen = mag.length;
 
         if (val == this && xlen > MULTIPLY_SQUARE_THRESHOLD) {
-            return square();
+            return square(isRecursion, parallel, depth);
         }
 
         int ylen = val.mag.length;
@@ -1659,8 +1741,82 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
                     }
                 }
 
-                return multiplyToomCook3(this, val);
+                return multiplyToomCook3(this, val, parallel, depth);
+            }
+        }
+    }
+
+    /**
+     * A multiplication or squaring in the recursion of the 3-way Toom-Cook
+     * algorithms, which is forked to the {@link ForkJoinPool} when the
+     * operation is parallel and not too deep, and otherwise computed at
+     * once in the calling thread.
+     */
+    @SuppressWarnings("serial")
+    private abstract static class RecursiveOp extends RecursiveTask<BigInteger> {
+        /**
+         * The depth of recursion beyond which operations are no longer
+         * forked, chosen so that there are somewhat more tasks than threads
+         * in the common pool.  Each level of Toom-Cook forks five.
+         */
+        private static final int PARALLEL_FORK_DEPTH_THRESHOLD =
+            32 - Integer.numberOfLeadingZeros(ForkJoinPool.getCommonPoolParallelism());
+
+        final boolean parallel;
+        final int depth;
+
+        private RecursiveOp(boolean parallel, int depth) {
+            this.parallel = parallel;
+            this.depth = depth;
+        }
+
+        private static RecursiveTask<BigInteger> forkOrInvoke(RecursiveOp op) {
+            if (op.parallel && op.depth <= PARALLEL_FORK_DEPTH_THRESHOLD) {
+                op.fork();
+            } else {
+                op.invoke();
             }
+            return op;
+        }
+
+        private static final class RecursiveMultiply extends RecursiveOp {
+            private final BigInteger a;
+            private final BigInteger b;
+
+            RecursiveMultiply(BigInteger a, BigInteger b, boolean parallel, int depth) {
+                super(parallel, depth);
+                this.a = a;
+                this.b = b;
+            }
+
+            @Override
+            protected BigInteger compute() {
+                return a.multiply(b, true, parallel, depth);
+            }
+        }
+
+        private static final class RecursiveSquare extends RecursiveOp {
+            private final BigInteger a;
+
+            RecursiveSquare(BigInteger a, boolean parallel, int depth) {
+                super(parallel, depth);
+                this.a = a;
+            }
+
+            @Override
+            protected BigInteger compute() {
+                return a.square(true, parallel, depth);
+            }
+        }
+
+        static RecursiveTask<BigInteger> multiply(BigInteger a, BigInteger b,
+                                                  boolean parallel, int depth) {
+            return forkOrInvoke(new RecursiveMultiply(a, b, parallel, depth));
+        }
+
+        static RecursiveTask<BigInteger> square(BigInteger a,
+                                                boolean parallel, int depth) {
+            return forkOrInvoke(new RecursiveSquare(a, parallel, depth));
         }
     }
 
@@ -1854,7 +2010,8 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * LNCS #4547. Springer, Madrid, Spain, June 21-22, 2007.
      *
      */
-    private static BigInteger multiplyToomCook3(BigInteger a, BigInteger b) {
+    private static BigInteger multiplyToomCook3(BigInteger a, BigInteger b,
+                                                boolean parallel, int depth) {
         int alen = a.mag.length;
         int blen = b.mag.length;
 
@@ -1878,16 +2035,25 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
 
         BigInteger v0, v1, v2, vm1, vinf, t1, t2, tm1, da1, db1;
 
-        v0 = a0.multiply(b0, true);
+        depth++;
+        RecursiveTask<BigInteger> v0Task, v1Task, v2Task, vm1Task, vinfTask;
+        v0Task = RecursiveOp.multiply(a0, b0, parallel, depth);
         da1 = a2.add(a0);
         db1 = b2.add(b0);
-        vm1 = da1.subtract(a1).multiply(db1.subtract(b1), true);
+        vm1Task = RecursiveOp.multiply(da1.subtract(a1), db1.subtract(b1),
+                                       parallel, depth);
         da1 = da1.add(a1);
         db1 = db1.add(b1);
-        v1 = da1.multiply(db1, true);
-        v2 = da1.add(a2).shiftLeft(1).subtract(a0).multiply(
-             db1.add(b2).shiftLeft(1).subtract(b0), true);
-        vinf = a2.multiply(b2, true);
+        v1Task = RecursiveOp.multiply(da1, db1, parallel, depth);
+        v2Task = RecursiveOp.multiply(da1.add(a2).shiftLeft(1).subtract(a0),
+                                      db1.add(b2).shiftLeft(1).subtract(b0),
+                                      parallel, depth);
+        vinfTask = RecursiveOp.multiply(a2, b2, parallel, depth);
+        v0 = v0Task.join();
+        vm1 = vm1Task.join();
+        v1 = v1Task.join();
+        v2 = v2Task.join();
+        vinf = vinfTask.join();
 
         // The algorithm requires two divisions by 2 and one by 3.
         // All divisions are known to be exact, that is, they do not produce
@@ -2053,7 +2219,7 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * @return {@code this<sup>2</sup>}
      */
     private BigInteger square() {
-        return square(false);
+        return square(false, false, 0);
     }
 
     /**
@@ -2061,9 +2227,12 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * the invocation is recursive certain overflow checks are skipped.
      *
      * @param isRecursion whether this is a recursive invocation
+     * @param parallel whether the partial squares may be computed in
+     *        parallel
+     * @param depth the depth of recursion of parallel invocations
      * @return {@code this<sup>2</sup>}
      */
-    private BigInteger square(boolean isRecursion) {
+    private BigInteger square(boolean isRecursion, boolean parallel, int depth) {
         if (signum == 0) {
             return ZERO;
         }
@@ -2085,7 +2254,7 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
                     }
                 }
 
-                return squareToomCook3();
+                return squareToomCook3(parallel, depth);
             }
         }
     }
@@ -2219,7 +2388,7 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * that has better asymptotic performance than the algorithm used in
      * squareToLen or squareKaratsuba.
      */
-    private BigInteger squareToomCook3() {
+    private BigInteger squareToomCook3(boolean parallel, int depth) {
         int len = mag.length;
 
         // k is the size (in ints) of the lower-order slices.
@@ -2236,13 +2405,21 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
         a0 = getToomSlice(k, r, 2, len);
         BigInteger v0, v1, v2, vm1, vinf, t1, t2, tm1, da1;
 
-        v0 = a0.square(true);
+        depth++;
+        RecursiveTask<BigInteger> v0Task, v1Task, v2Task, vm1Task, vinfTask;
+        v0Task = RecursiveOp.square(a0, parallel, depth);
         da1 = a2.add(a0);
-        vm1 = da1.subtract(a1).square(true);
+        vm1Task = RecursiveOp.square(da1.subtract(a1), parallel, depth);
         da1 = da1.add(a1);
-        v1 = da1.square(true);
-        vinf = a2.square(true);
-        v2 = da1.add(a2).shiftLeft(1).subtract(a0).square(true);
+        v1Task = RecursiveOp.square(da1, parallel, depth);
+        vinfTask = RecursiveOp.square(a2, parallel, depth);
+        v2Task = RecursiveOp.square(da1.add(a2).shiftLeft(1).subtract(a0),
+                                    parallel, depth);
+        v0 = v0Task.join();
+        vm1 = vm1Task.join();
+        v1 = v1Task.join();
+        vinf = vinfTask.join();
+        v2 = v2Task.join();
 
         // The algorithm requires two divisions by 2 and one by 3.
         // All divisions are known to be exact, that is, they do not produce
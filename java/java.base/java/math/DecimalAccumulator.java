@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.math;
+
+import static java.math.BigDecimal.INFLATED;
+
+/**
+ * A mutable decimal number, for summing, multiplying and rounding
+ * {@link BigDecimal} values in place.
+ *
+ * <p>A {@code DecimalAccumulator} holds an unscaled value and a scale, as a
+ * {@code BigDecimal} does, and its operations give the same results as the
+ * {@code BigDecimal} operations of the same names: the scale of a sum is
+ * the larger of the scales of its operands, the scale of a product is the
+ * sum of their scales, and {@link #setScale setScale} rounds as {@link
+ * BigDecimal#setScale(int, RoundingMode)} does.  While the unscaled value
+ * fits in a {@code long}, the operations that take their operand as an
+ * unscaled {@code long} and a scale allocate no objects; when it does not,
+ * the accumulator falls back to {@code BigDecimal} arithmetic until the
+ * value fits again.
+ *
+ * <p>For example, a total of prices rounded to cents might be computed as
+ *
+ * <pre>{@code
+ *     DecimalAccumulator total = new DecimalAccumulator();
+ *     for (Item item : items) {
+ *         total.add(item.priceInCents(), 2);
+ *     }
+ *     total.multiply(105, 2).setScale(2, RoundingMode.HALF_EVEN);
+ * }</pre>
+ *
+ * <p>Instances are not safe for use by multiple concurrent threads.
+ *
+ * @see BigDecimal
+ * @since 12
+ */
+public final class DecimalAccumulator {
+    /**
+     * The unscaled value, or {@code INFLATED} if it is only available
+     * from {@link #inflated}.
+     */
+    private long compact;
+
+    /**
+     * The value, when {@link #compact} is {@code INFLATED}; otherwise null.
+     */
+    private BigDecimal inflated;
+
+    /**
+     * The scale, when {@link #compact} is not {@code INFLATED}.
+     */
+    private int scale;
+
+    /**
+     * Creates an accumulator whose value is zero, with a scale of zero.
+     */
+    public DecimalAccumulator() {
+    }
+
+    /**
+     * Creates an accumulator whose value and scale are those of the given
+     * {@code BigDecimal}.
+     *
+     * @param val the initial value
+     */
+    public DecimalAccumulator(BigDecimal val) {
+        set(val);
+    }
+
+    /**
+     * Sets the value and scale of this accumulator to those of the given
+     * {@code BigDecimal}.
+     *
+     * @param  val the new value
+     * @return this accumulator
+     */
+    public DecimalAccumulator set(BigDecimal val) {
+        long c = val.compactValue();
+        if (c != INFLATED) {
+            return set(c, val.scale());
+        }
+        compact = INFLATED;
+        inflated = val;
+        return this;
+    }
+
+    /**
+     * Sets the value of this accumulator to
+     * {@code (unscaledVal} &times; 10<sup>-scale</sup>{@code )}, with the
+     * given scale.
+     *
+     * @param  unscaledVal the unscaled value
+     * @param  scale the scale
+     * @return this accumulator
+     */
+    public DecimalAccumulator set(long unscaledVal, int scale) {
+        if (unscaledVal == INFLATED) {
+            return set(BigDecimal.valueOf(unscaledVal, scale));
+        }
+        this.compact = unscaledVal;
+        this.inflated = null;
+        this.scale = scale;
+        return this;
+    }
+
+    /**
+     * Adds the given {@code BigDecimal} to this accumulator.
+     *
+     * @param  augend the value to add
+     * @return this accumulator
+     * @see    BigDecimal#add(BigDecimal)
+     */
+    public DecimalAccumulator add(BigDecimal augend) {
+        long c = augend.compactValue();
+        if (c != INFLATED) {
+            return add(c, augend.scale());
+        }
+        return set(toBigDecimal().add(augend));
+    }
+
+    /**
+     * Adds {@code (unscaledVal} &times; 10<sup>-scale</sup>{@code )} to this
+     * accumulator.
+     *
+     * @param  unscaledVal the unscaled value to add
+     * @param  scale its scale
+     * @return this accumulator
+     * @see    BigDecimal#add(BigDecimal)
+     */
+    public DecimalAccumulator add(long unscaledVal, int scale) {
+        if (compact != INFLATED && unscaledVal != INFLATED) {
+            long xs = compact;
+            long ys = unscaledVal;
+            // Bring both to the larger scale
+            long sdiff = (long)this.scale - scale;
+            if (sdiff < 0) {
+                xs = (sdiff < -18) ?
+                    (xs == 0 ? 0 : INFLATED) :
+                    BigDecimal.longMultiplyPowerTen(xs, (int)-sdiff);
+            } else if (sdiff > 0) {
+                ys = (sdiff > 18) ?
+                    (ys == 0 ? 0 : INFLATED) :
+                    BigDecimal.longMultiplyPowerTen(ys, (int)sdiff);
+            }
+            if (xs != INFLATED && ys != INFLATED) {
+                long sum = BigDecimal.add(xs, ys);
+                if (sum != INFLATED) {
+                    this.compact = sum;
+                    this.scale = Math.max(this.scale, scale);
+                    return this;
+                }
+            }
+        }
+        return set(toBigDecimal().add(BigDecimal.valueOf(unscaledVal, scale)));
+    }
+
+    /**
+     * Subtracts the given {@code BigDecimal} from this accumulator.
+     *
+     * @param  subtrahend the value to subtract
+     * @return this accumulator
+     * @see    BigDecimal#subtract(BigDecimal)
+     */
+    public DecimalAccumulator subtract(BigDecimal subtrahend) {
+        long c = subtrahend.compactValue();
+        if (c != INFLATED) {
+            return subtract(c, subtrahend.scale());
+        }
+        return set(toBigDecimal().subtract(subtrahend));
+    }
+
+    /**
+     * Subtracts {@code (unscaledVal} &times; 10<sup>-scale</sup>{@code )}
+     * from this accumulator.
+     *
+     * @param  unscaledVal the unscaled value to subtract
+     * @param  scale its scale
+     * @return this accumulator
+     * @see    BigDecimal#subtract(BigDecimal)
+     */
+    public DecimalAccumulator subtract(long unscaledVal, int scale) {
+        if (unscaledVal == Long.MIN_VALUE) {
+            return set(toBigDecimal().subtract(BigDecimal.valueOf(unscaledVal, scale)));
+        }
+        return add(-unscaledVal, scale);
+    }
+
+    /**
+     * Multiplies this accumulator by the given {@code BigDecimal}.
+     *
+     * @param  multiplicand the value to multiply by
+     * @return this accumulator
+     * @throws ArithmeticException if the scale of the product would be
+     *         out of the range of an {@code int}
+     * @see    BigDecimal#multiply(BigDecimal)
+     */
+    public DecimalAccumulator multiply(BigDecimal multiplicand) {
+        long c = multiplicand.compactValue();
+        if (c != INFLATED) {
+            return multiply(c, multiplicand.scale());
+        }
+        return set(toBigDecimal().multiply(multiplicand));
+    }
+
+    /**
+     * Multiplies this accumulator by
+     * {@code (unscaledVal} &times; 10<sup>-scale</sup>{@code )}.
+     *
+     * @param  unscaledVal the unscaled value to multiply by
+     * @param  scale its scale
+     * @return this accumulator
+     * @throws ArithmeticException if the scale of the product would be
+     *         out of the range of an {@code int}
+     * @see    BigDecimal#multiply(BigDecimal)
+     */
+    public DecimalAccumulator multiply(long unscaledVal, int scale) {
+        if (compact != INFLATED && unscaledVal != INFLATED) {
+            long productScale = (long)this.scale + scale;
+            long product = BigDecimal.multiply(compact, unscaledVal);
+            if (product != INFLATED && (int)productScale == productScale) {
+                this.compact = product;
+                this.scale = (int)productScale;
+                return this;
+            }
+        }
+        return set(toBigDecimal().multiply(BigDecimal.valueOf(unscaledVal, scale)));
+    }
+
+    /**
+     * Sets the scale of this accumulator, rounding its value if the scale
+     * is reduced.
+     *
+     * @param  newScale the new scale
+     * @param  roundingMode the rounding mode to apply
+     * @return this accumulator
+     * @throws ArithmeticException if {@code roundingMode==UNNECESSARY}
+     *         and the value would have to be rounded
+     * @see    BigDecimal#setScale(int, RoundingMode)
+     */
+    public DecimalAccumulator setScale(int newScale, RoundingMode roundingMode) {
+        if (compact != INFLATED) {
+            long sdiff = (long)scale - newScale;
+            if (sdiff == 0) {
+                return this;
+            }
+            if (sdiff < 0 && sdiff >= -18) {
+                long c = BigDecimal.longMultiplyPowerTen(compact, (int)-sdiff);
+                if (c != INFLATED) {
+                    this.compact = c;
+                    this.scale = newScale;
+                    return this;
+                }
+            } else if (sdiff > 0 && sdiff <= 18) {
+                long divisor = BigDecimal.longMultiplyPowerTen(1, (int)sdiff);
+                long q = compact / divisor;
+                long r = compact - q * divisor;
+                if (r != 0) {
+                    int qsign = (compact < 0) ? -1 : 1;
+                    if (BigDecimal.needIncrement(divisor, roundingMode.oldMode,
+                                                 qsign, q, r)) {
+                        q += qsign;
+                    }
+                }
+                this.compact = q;
+                this.scale = newScale;
+                return this;
+            }
+        }
+        return set(toBigDecimal().setScale(newScale, roundingMode));
+    }
+
+    /**
+     * Sets the value of this accumulator to zero, keeping its scale.
+     *
+     * @return this accumulator
+     */
+    public DecimalAccumulator clear() {
+        return set(0, scale());
+    }
+
+    /**
+     * Returns the signum of the value of this accumulator.
+     *
+     * @return -1, 0, or 1 as the value of this accumulator is negative,
+     *         zero, or positive.
+     */
+    public int signum() {
+        return (compact != INFLATED) ? Long.signum(compact) : inflated.signum();
+    }
+
+    /**
+     * Returns the scale of this accumulator.
+     *
+     * @return the scale of this accumulator.
+     */
+    public int scale() {
+        return (compact != INFLATED) ? scale : inflated.scale();
+    }
+
+    /**
+     * Returns the value of this accumulator as a {@code BigDecimal}.
+     *
+     * @return a {@code BigDecimal} with the value and scale of this
+     *         accumulator.
+     */
+    public BigDecimal toBigDecimal() {
+        return (compact != INFLATED) ? BigDecimal.valueOf(compact, scale) : inflated;
+    }
+
+    /**
+     * Appends the string representation of the value of this accumulator,
+     * as {@link BigDecimal#toString()} would return it, to the given
+     * {@code StringBuilder}.
+     *
+     * @param  sb the {@code StringBuilder} to append to
+     * @return {@code sb}
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        if (compact != INFLATED) {
+            return BigDecimal.appendTo(sb, compact, null, scale);
+        }
+        return inflated.appendTo(sb);
+    }
+
+    /**
+     * Appends the string representation without an exponent field of the
+     * value of this accumulator, as {@link BigDecimal#toPlainString()}
+     * would return it, to the given {@code StringBuilder}.
+     *
+     * @param  sb the {@code StringBuilder} to append to
+     * @return {@code sb}
+     */
+    public StringBuilder appendPlainTo(StringBuilder sb) {
+        if (compact != INFLATED) {
+            return BigDecimal.appendPlainTo(sb, compact, null, scale);
+        }
+        return inflated.appendPlainTo(sb);
+    }
+
+    /**
+     * Returns the string representation of the value of this accumulator,
+     * as {@link BigDecimal#toString()} would return it.
+     *
+     * @return the string representation of the value of this accumulator.
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+}
@@ -27,6 +27,7 @@ package java.nio;
 
 import java.io.FileDescriptor;
 import java.lang.ref.Reference;
+import java.util.Objects;
 import jdk.internal.misc.Unsafe;
 
 
@@ -91,20 +92,33 @@ public abstract class MappedByteBuffer
         this.fd = null;
     }
 
-    // Returns the distance (in bytes) of the buffer from the page aligned address
-    // of the mapping. Computed each time to avoid storing in every direct buffer.
-    private long mappingOffset() {
+    // Returns the distance (in bytes) of the buffer element at the given
+    // index from the page aligned address below it. Computed each time to
+    // avoid storing in every direct buffer.
+    private long mappingOffset(int index) {
         int ps = Bits.pageSize();
-        long offset = address % ps;
+        long offset = (address + index) % ps;
         return (offset >= 0) ? offset : (ps + offset);
     }
 
+    private long mappingOffset() {
+        return mappingOffset(0);
+    }
+
+    private long mappingAddress(long mappingOffset, int index) {
+        return address + index - mappingOffset;
+    }
+
     private long mappingAddress(long mappingOffset) {
-        return address - mappingOffset;
+        return mappingAddress(mappingOffset, 0);
+    }
+
+    private long mappingLength(long mappingOffset, long length) {
+        return length + mappingOffset;
     }
 
     private long mappingLength(long mappingOffset) {
-        return (long)capacity() + mappingOffset;
+        return mappingLength(mappingOffset, (long)capacity());
     }
 
     /**
@@ -136,6 +150,43 @@ public abstract class MappedByteBuffer
         return isLoaded0(mappingAddress(offset), length, Bits.pageCount(length));
     }
 
+    /**
+     * Tells whether or not a region of this buffer's content is resident in
+     * physical memory.
+     *
+     * <p> This method behaves as {@link #isLoaded()} does, but only for the
+     * pages of the mapping holding the {@code length} bytes starting at
+     * {@code index}.  </p>
+     *
+     * @param  index
+     *         The index of the first byte in the region; must be
+     *         non-negative and no larger than {@code limit()}
+     *
+     * @param  length
+     *         The length of the region in bytes; must be non-negative and
+     *         no larger than {@code limit() - index}
+     *
+     * @return  {@code true} if it is likely that the region's content is
+     *          resident in physical memory
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the {@code index} and {@code length}
+     *          do not hold
+     *
+     * @since 12
+     */
+    public final boolean isLoaded(int index, int length) {
+        Objects.checkFromIndexSize(index, length, limit());
+        if (fd == null) {
+            return true;
+        }
+        if ((address == 0) || (length == 0))
+            return true;
+        long offset = mappingOffset(index);
+        long len = mappingLength(offset, length);
+        return isLoaded0(mappingAddress(offset, index), len, Bits.pageCount(len));
+    }
+
     // not used, but a potential target for a store, see load() for details.
     private static byte unused;
 
@@ -156,8 +207,49 @@ public abstract class MappedByteBuffer
         if ((address == 0) || (capacity() == 0))
             return this;
         long offset = mappingOffset();
-        long length = mappingLength(offset);
-        load0(mappingAddress(offset), length);
+        load(mappingAddress(offset), mappingLength(offset));
+        return this;
+    }
+
+    /**
+     * Loads a region of this buffer's content into physical memory.
+     *
+     * <p> This method behaves as {@link #load()} does, but only for the
+     * pages of the mapping holding the {@code length} bytes starting at
+     * {@code index}.  It may be used to prefetch the part of a large mapping
+     * that is about to be read, ahead of the reads.  </p>
+     *
+     * @param  index
+     *         The index of the first byte in the region; must be
+     *         non-negative and no larger than {@code limit()}
+     *
+     * @param  length
+     *         The length of the region in bytes; must be non-negative and
+     *         no larger than {@code limit() - index}
+     *
+     * @return  This buffer
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the {@code index} and {@code length}
+     *          do not hold
+     *
+     * @since 12
+     */
+    public final MappedByteBuffer load(int index, int length) {
+        Objects.checkFromIndexSize(index, length, limit());
+        if (fd == null) {
+            return this;
+        }
+        if ((address == 0) || (length == 0))
+            return this;
+        long offset = mappingOffset(index);
+        load(mappingAddress(offset, index), mappingLength(offset, length));
+        return this;
+    }
+
+    // Loads the pages holding the given page aligned region of the mapping
+    private void load(long addr, long length) {
+        load0(addr, length);
 
         // Read a byte from each page to bring it into memory. A checksum
         // is computed as we go along to prevent the compiler from otherwise
@@ -165,7 +257,7 @@ public abstract class MappedByteBuffer
         Unsafe unsafe = Unsafe.getUnsafe();
         int ps = Bits.pageSize();
         int count = Bits.pageCount(length);
-        long a = mappingAddress(offset);
+        long a = addr;
         byte x = 0;
         try {
             for (int i=0; i<count; i++) {
@@ -179,8 +271,6 @@ public abstract class MappedByteBuffer
         }
         if (unused != 0)
             unused = x;
-
-        return this;
     }
 
     /**
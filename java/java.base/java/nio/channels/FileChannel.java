@@ -787,6 +787,188 @@ public abstract class FileChannel
      */
     public abstract int write(ByteBuffer src, long position) throws IOException;
 
+    /**
+     * Reads a sequence of bytes from this channel into a subsequence of the
+     * given buffers, starting at the given file position.
+     *
+     * <p> This method works in the same manner as the {@link
+     * #read(ByteBuffer[],int,int)} method, except that bytes are read
+     * starting at the given file position rather than at the channel's
+     * current position.  This method does not modify this channel's
+     * position.  If the given position is greater than the file's current
+     * size then no bytes are read.  </p>
+     *
+     * @implSpec The default implementation reads into each buffer in turn
+     * with {@link #read(ByteBuffer,long)}, stopping at the first buffer
+     * that is not filled.
+     *
+     * @implNote The implementation of this method in the channels returned
+     * by {@link #open open} and by the {@code getChannel} methods of the
+     * {@code java.io} file streams reads into all of the buffers with one
+     * scattering read, and reads directly into those buffers that are
+     * direct buffers.
+     *
+     * @param  dsts
+     *         The buffers into which bytes are to be transferred
+     *
+     * @param  offset
+     *         The offset within the buffer array of the first buffer into
+     *         which bytes are to be transferred; must be non-negative and no
+     *         larger than {@code dsts.length}
+     *
+     * @param  length
+     *         The maximum number of buffers to be accessed; must be
+     *         non-negative and no larger than {@code dsts.length - offset}
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin;
+     *         must be non-negative
+     *
+     * @return  The number of bytes read, possibly zero, or {@code -1} if the
+     *          given position is greater than or equal to the file's current
+     *          size
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the {@code offset} and {@code length}
+     *          parameters do not hold
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative
+     *
+     * @throws  NonReadableChannelException
+     *          If this channel was not opened for reading
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the read operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the read operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since 12
+     */
+    public long read(ByteBuffer[] dsts, int offset, int length, long position)
+        throws IOException
+    {
+        if ((offset < 0) || (length < 0) || (offset > dsts.length - length))
+            throw new IndexOutOfBoundsException();
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        long total = 0;
+        for (int i = offset; i < offset + length; i++) {
+            ByteBuffer dst = dsts[i];
+            int rem = dst.remaining();
+            if (rem == 0)
+                continue;
+            int n = read(dst, position + total);
+            if (n < 0)
+                return (total == 0) ? -1 : total;
+            total += n;
+            if (n < rem)
+                break;
+        }
+        return total;
+    }
+
+    /**
+     * Writes a sequence of bytes to this channel from a subsequence of the
+     * given buffers, starting at the given file position.
+     *
+     * <p> This method works in the same manner as the {@link
+     * #write(ByteBuffer[],int,int)} method, except that bytes are written
+     * starting at the given file position rather than at the channel's
+     * current position.  This method does not modify this channel's
+     * position.  If the given position is greater than the file's current
+     * size then the file will be grown to accommodate the new bytes; the
+     * values of any bytes between the previous end-of-file and the
+     * newly-written bytes are unspecified.  </p>
+     *
+     * @implSpec The default implementation writes each buffer in turn with
+     * {@link #write(ByteBuffer,long)}, stopping at the first buffer that is
+     * not written completely.
+     *
+     * @implNote The implementation of this method in the channels returned
+     * by {@link #open open} and by the {@code getChannel} methods of the
+     * {@code java.io} file streams writes all of the buffers with one
+     * gathering write, and writes directly from those buffers that are
+     * direct buffers.
+     *
+     * @param  srcs
+     *         The buffers from which bytes are to be retrieved
+     *
+     * @param  offset
+     *         The offset within the buffer array of the first buffer from
+     *         which bytes are to be retrieved; must be non-negative and no
+     *         larger than {@code srcs.length}
+     *
+     * @param  length
+     *         The maximum number of buffers to be accessed; must be
+     *         non-negative and no larger than {@code srcs.length - offset}
+     *
+     * @param  position
+     *         The file position at which the transfer is to begin;
+     *         must be non-negative
+     *
+     * @return  The number of bytes written, possibly zero
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the preconditions on the {@code offset} and {@code length}
+     *          parameters do not hold
+     *
+     * @throws  IllegalArgumentException
+     *          If the position is negative
+     *
+     * @throws  NonWritableChannelException
+     *          If this channel was not opened for writing
+     *
+     * @throws  ClosedChannelException
+     *          If this channel is closed
+     *
+     * @throws  AsynchronousCloseException
+     *          If another thread closes this channel
+     *          while the write operation is in progress
+     *
+     * @throws  ClosedByInterruptException
+     *          If another thread interrupts the current thread
+     *          while the write operation is in progress, thereby
+     *          closing the channel and setting the current thread's
+     *          interrupt status
+     *
+     * @throws  IOException
+     *          If some other I/O error occurs
+     *
+     * @since 12
+     */
+    public long write(ByteBuffer[] srcs, int offset, int length, long position)
+        throws IOException
+    {
+        if ((offset < 0) || (length < 0) || (offset > srcs.length - length))
+            throw new IndexOutOfBoundsException();
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        long total = 0;
+        for (int i = offset; i < offset + length; i++) {
+            ByteBuffer src = srcs[i];
+            int rem = src.remaining();
+            if (rem == 0)
+                continue;
+            int n = write(src, position + total);
+            total += n;
+            if (n < rem)
+                break;
+        }
+        return total;
+    }
+
 
     // -- Memory-mapped buffers --
 
@@ -24,6 +24,7 @@
  */
 package java.nio.file;
 
+import sun.nio.cs.ArrayEncoder;
 import sun.nio.cs.ISO_8859_1;
 import sun.nio.cs.UTF_8;
 import sun.nio.cs.US_ASCII;
@@ -36,6 +37,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Spliterator;
@@ -74,6 +76,27 @@ final class FileChannelLinesSpliterator implements Spliterator<String> {
         SUPPORTED_CHARSET_NAMES.add(US_ASCII.INSTANCE.name());
     }
 
+    /**
+     * Returns true if line feed and carriage return characters can be
+     * identified from the bytes encoded by the given charset, because it is
+     * one of the supported charsets, or because it is ASCII-compatible:
+     * it encodes US-ASCII characters as themselves and never encodes other
+     * characters with a line feed or carriage return byte, as do the
+     * ISO-8859 and Windows single-byte charsets and the double-byte charsets
+     * such as Shift_JIS, GBK and Big5.  Such charsets are also stateless, so
+     * that any range of bytes ending at a line terminator can be decoded on
+     * its own.
+     */
+    static boolean isLineOptimal(Charset cs) {
+        if (SUPPORTED_CHARSET_NAMES.contains(cs.name()))
+            return true;
+        if (!cs.canEncode())
+            return false;
+        CharsetEncoder ce = cs.newEncoder();
+        return (ce instanceof ArrayEncoder) &&
+               ((ArrayEncoder)ce).isASCIICompatible();
+    }
+
     private final FileChannel fc;
     private final Charset cs;
     private int index;
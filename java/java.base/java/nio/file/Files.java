@@ -31,18 +31,16 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
-import java.nio.charset.CharsetEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
@@ -74,10 +72,14 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import sun.nio.ch.FileChannelImpl;
+import sun.nio.cs.StreamDecoder;
+import sun.nio.cs.StreamEncoder;
 import sun.nio.cs.UTF_8;
 import sun.nio.fs.ExtendedFileSystemProvider;
 
@@ -2835,8 +2837,7 @@ public final class Files {
     public static BufferedReader newBufferedReader(Path path, Charset cs)
         throws IOException
     {
-        CharsetDecoder decoder = cs.newDecoder();
-        Reader reader = new InputStreamReader(newInputStream(path), decoder);
+        Reader reader = StreamDecoder.forInputStream(newInputStream(path), cs);
         return new BufferedReader(reader);
     }
 
@@ -2916,8 +2917,7 @@ public final class Files {
                                                    OpenOption... options)
         throws IOException
     {
-        CharsetEncoder encoder = cs.newEncoder();
-        Writer writer = new OutputStreamWriter(newOutputStream(path, options), encoder);
+        Writer writer = StreamEncoder.forOutputStream(newOutputStream(path, options), cs);
         return new BufferedWriter(writer);
     }
 
@@ -3486,9 +3486,8 @@ public final class Files {
     {
         // ensure lines is not null before opening file
         Objects.requireNonNull(lines);
-        CharsetEncoder encoder = cs.newEncoder();
         try (OutputStream out = newOutputStream(path, options);
-             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, encoder))) {
+             BufferedWriter writer = new BufferedWriter(StreamEncoder.forOutputStream(out, cs))) {
             for (CharSequence line: lines) {
                 writer.append(line);
                 writer.newLine();
@@ -3988,11 +3987,12 @@ public final class Files {
      * This implementation supports good parallel stream performance for the
      * standard charsets {@link StandardCharsets#UTF_8 UTF-8},
      * {@link StandardCharsets#US_ASCII US-ASCII} and
-     * {@link StandardCharsets#ISO_8859_1 ISO-8859-1}.  Such
-     * <em>line-optimal</em> charsets have the property that the encoded bytes
-     * of a line feed ('\n') or a carriage return ('\r') are efficiently
-     * identifiable from other encoded characters when randomly accessing the
-     * bytes of the file.
+     * {@link StandardCharsets#ISO_8859_1 ISO-8859-1}, and for the other
+     * ASCII-compatible charsets, such as the ISO-8859 and Windows single-byte
+     * charsets, Shift_JIS, GBK and Big5.  Such <em>line-optimal</em> charsets
+     * have the property that the encoded bytes of a line feed ('\n') or a
+     * carriage return ('\r') are efficiently identifiable from other encoded
+     * characters when randomly accessing the bytes of the file.
      *
      * <p> For non-<em>line-optimal</em> charsets the stream source's
      * spliterator has poor splitting properties, similar to that of a
@@ -4034,7 +4034,7 @@ public final class Files {
         // 3) the file size is such that all bytes can be indexed by int values
         //    (this limitation is imposed by ByteBuffer)
         if (path.getFileSystem() == FileSystems.getDefault() &&
-            FileChannelLinesSpliterator.SUPPORTED_CHARSET_NAMES.contains(cs.name())) {
+            FileChannelLinesSpliterator.isLineOptimal(cs)) {
             FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
 
             Stream<String> fcls = createFileChannelLinesStream(fc, cs);
@@ -4129,4 +4129,160 @@ public final class Files {
     public static Stream<String> lines(Path path) throws IOException {
         return lines(path, UTF_8.INSTANCE);
     }
+
+    /**
+     * Read all lines from a file as a {@code Stream} of byte buffers, each
+     * containing the bytes of one line.  Unlike {@link #lines(Path, Charset)
+     * lines}, this method does not decode the lines or copy their bytes: each
+     * buffer is a read-only view of the bytes of a line, without its line
+     * terminator, in a {@link java.nio.MappedByteBuffer mapping} of the file.
+     *
+     * <p> A line is terminated by a line feed byte ({@code 0x0A}), a carriage
+     * return byte ({@code 0x0D}), or a carriage return byte followed
+     * immediately by a line feed byte, as are lines encoded in an
+     * ASCII-compatible charset such as {@link StandardCharsets#UTF_8 UTF-8}
+     * or {@link StandardCharsets#ISO_8859_1 ISO-8859-1}.  The bytes of lines
+     * encoded in other charsets are not meaningfully divided.
+     *
+     * <p> The returned stream contains a reference to an open file. The file
+     * is closed by closing the stream.  The buffers remain valid after the
+     * stream is closed, until they are garbage collected.
+     *
+     * <p> The file contents should not be modified during the execution of the
+     * terminal stream operation, and should not be modified or truncated
+     * while the buffers are in use. Otherwise, the result of the terminal
+     * stream operation, and the contents of the buffers, are undefined.
+     *
+     * <p> After this method returns, then any subsequent I/O exception that
+     * occurs while mapping or reading the file is wrapped in an
+     * {@link UncheckedIOException} that will be thrown from the
+     * {@link java.util.stream.Stream} method that caused the read to take
+     * place. In case an {@code IOException} is thrown when closing the file,
+     * it is also wrapped as an {@code UncheckedIOException}.
+     *
+     * @apiNote
+     * This method must be used within a try-with-resources statement or similar
+     * control structure to ensure that the stream's open file is closed promptly
+     * after the stream's operations have completed.
+     *
+     * @implNote
+     * This implementation maps the file a segment at a time, so files larger
+     * than 2GB are supported, provided no line is.  The stream source's
+     * spliterator has good splitting properties, assuming the file contains
+     * a regular sequence of lines: when splitting, it reads a few kilobytes
+     * around the middle of the covered bytes and splits after the line
+     * terminator closest to the middle.
+     *
+     * @param   path
+     *          the path to the file
+     *
+     * @return  the lines from the file as a {@code Stream} of byte buffers
+     *
+     * @throws  IOException
+     *          if an I/O error occurs opening the file
+     * @throws  UnsupportedOperationException
+     *          if the file is associated with a provider that does not
+     *          support creating file channels
+     * @throws  SecurityException
+     *          In the case of the default provider, and a security manager is
+     *          installed, the {@link SecurityManager#checkRead(String) checkRead}
+     *          method is invoked to check read access to the file.
+     *
+     * @see     #lines(Path, Charset)
+     * @since   12
+     */
+    public static Stream<ByteBuffer> linesAsByteBuffers(Path path)
+        throws IOException
+    {
+        return createMappedLinesStream(path, Function::identity);
+    }
+
+    /**
+     * Read all lines from a file as a {@code Stream} of char buffers, each
+     * containing the characters of one line.  This method decodes each line
+     * directly from a {@link java.nio.MappedByteBuffer mapping} of the file
+     * into a new char buffer, without a reader, and without creating a
+     * {@code String}.
+     *
+     * <p> Bytes from the file are decoded into characters using the specified
+     * charset, which must be ASCII-compatible, and the same line terminators
+     * as specified by {@link #linesAsByteBuffers(Path) linesAsByteBuffers} are
+     * supported.  The buffers do not contain the line terminators.
+     *
+     * <p> The returned stream contains a reference to an open file. The file
+     * is closed by closing the stream.
+     *
+     * <p> The file contents should not be modified during the execution of the
+     * terminal stream operation. Otherwise, the result of the terminal stream
+     * operation is undefined.
+     *
+     * <p> After this method returns, then any subsequent I/O exception that
+     * occurs while mapping or reading the file or when a malformed or
+     * unmappable byte sequence is read, is wrapped in an
+     * {@link UncheckedIOException} that will be thrown from the
+     * {@link java.util.stream.Stream} method that caused the read to take
+     * place. In case an {@code IOException} is thrown when closing the file,
+     * it is also wrapped as an {@code UncheckedIOException}.
+     *
+     * @apiNote
+     * This method must be used within a try-with-resources statement or similar
+     * control structure to ensure that the stream's open file is closed promptly
+     * after the stream's operations have completed.
+     *
+     * @implNote
+     * This implementation splits the file as {@link #linesAsByteBuffers(Path)
+     * linesAsByteBuffers} does.  The ASCII-compatible charsets are the
+     * <em>line-optimal</em> charsets of {@link #lines(Path, Charset) lines}.
+     *
+     * @param   path
+     *          the path to the file
+     * @param   cs
+     *          the charset to use for decoding
+     *
+     * @return  the lines from the file as a {@code Stream} of char buffers
+     *
+     * @throws  IllegalArgumentException
+     *          if the charset is not ASCII-compatible
+     * @throws  IOException
+     *          if an I/O error occurs opening the file
+     * @throws  UnsupportedOperationException
+     *          if the file is associated with a provider that does not
+     *          support creating file channels
+     * @throws  SecurityException
+     *          In the case of the default provider, and a security manager is
+     *          installed, the {@link SecurityManager#checkRead(String) checkRead}
+     *          method is invoked to check read access to the file.
+     *
+     * @see     #lines(Path, Charset)
+     * @since   12
+     */
+    public static Stream<CharBuffer> linesAsCharBuffers(Path path, Charset cs)
+        throws IOException
+    {
+        if (!FileChannelLinesSpliterator.isLineOptimal(cs))
+            throw new IllegalArgumentException(cs.name() + " is not ASCII-compatible");
+        return createMappedLinesStream(path, MappedLinesSpliterator.decoding(cs));
+    }
+
+    private static <T> Stream<T> createMappedLinesStream(Path path,
+            Supplier<? extends Function<ByteBuffer, ? extends T>> mappers)
+        throws IOException
+    {
+        FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            Spliterator<T> s = new MappedLinesSpliterator<>(fc, mappers, 0, fc.size());
+            return StreamSupport.stream(s, false)
+                    .onClose(Files.asUncheckedRunnable(fc));
+        } catch (Error|RuntimeException|IOException e) {
+            try {
+                fc.close();
+            } catch (IOException ex) {
+                try {
+                    e.addSuppressed(ex);
+                } catch (Throwable ignore) {
+                }
+            }
+            throw e;
+        }
+    }
 }
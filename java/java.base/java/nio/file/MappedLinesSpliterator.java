@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.nio.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A file-based lines spliterator that reads the lines of a file from mapped
+ * byte buffers, for character encodings where line feed and carriage return
+ * characters can be identified from the encoded bytes (see
+ * {@link FileChannelLinesSpliterator#isLineOptimal}), and that hands out each
+ * line as a function of a read-only view of its bytes.
+ *
+ * <p>
+ * Unlike {@code FileChannelLinesSpliterator}, positions are long values and
+ * the file is never mapped as a whole, so files larger than 2GB can be split
+ * and traversed.  Splitting reads a window of bytes either side of the
+ * mid-point of the covered range of bytes and splits after the line
+ * terminator closest to the mid-point, if there is one in the window.
+ *
+ * <p>
+ * Traversing maps the covered range a segment at a time, and finds the line
+ * terminators within each segment.  A line that runs past the end of a
+ * segment is found again in a segment mapped from its start, which is twice
+ * as large if the line started the previous segment.  The element for a line
+ * is obtained by applying a mapper, obtained once per spliterator when
+ * traversing commences, to a view of the bytes of the line without its
+ * terminator; once traversing commences no further splitting can be
+ * performed.  Views remain valid after the file channel is closed.
+ */
+final class MappedLinesSpliterator<T> implements Spliterator<T> {
+
+    // The size of the segments mapped when traversing
+    static final int SEGMENT_SIZE = 1 << 26;
+    // The number of bytes read either side of the mid-point when splitting
+    static final int SPLIT_WINDOW = 1 << 13;
+
+    private static final long LF = 0x0A0A0A0A0A0A0A0AL;
+    private static final long CR = 0x0D0D0D0D0D0D0D0DL;
+    private static final long LO = 0x0101010101010101L;
+    private static final long HI = 0x8080808080808080L;
+
+    private final FileChannel fc;
+    private final Supplier<? extends Function<ByteBuffer, ? extends T>> mappers;
+    private long index;
+    private final long fence;
+
+    // Non-null when traversing
+    private Function<ByteBuffer, ? extends T> mapper;
+    // The segment being traversed, mapped from the position base
+    private ByteBuffer segment;
+    private long base;
+
+    MappedLinesSpliterator(FileChannel fc,
+                           Supplier<? extends Function<ByteBuffer, ? extends T>> mappers,
+                           long index, long fence) {
+        this.fc = fc;
+        this.mappers = mappers;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns a supplier of mappers that decode the bytes of a line in the
+     * given charset, each with its own decoder.  Malformed or unmappable
+     * input is reported with an {@code UncheckedIOException}.
+     */
+    static Supplier<Function<ByteBuffer, CharBuffer>> decoding(Charset cs) {
+        return () -> new Decoder(cs.newDecoder());
+    }
+
+    /**
+     * Decodes the bytes of lines into new char buffers.  The bytes are first
+     * copied in bulk to an array, as decoders are much faster decoding from
+     * an array than from a direct buffer.
+     */
+    private static final class Decoder implements Function<ByteBuffer, CharBuffer> {
+        private final CharsetDecoder decoder;
+        private byte[] bytes = new byte[128];
+
+        Decoder(CharsetDecoder decoder) {
+            this.decoder = decoder;
+        }
+
+        @Override
+        public CharBuffer apply(ByteBuffer line) {
+            int n = line.remaining();
+            if (n > bytes.length) {
+                bytes = new byte[Math.max(n, bytes.length << 1)];
+            }
+            line.get(bytes, 0, n);
+            ByteBuffer in = ByteBuffer.wrap(bytes, 0, n);
+            CharBuffer out = CharBuffer.allocate((int)(n * (double)decoder.maxCharsPerByte()));
+            try {
+                CoderResult cr = decoder.reset().decode(in, out, true);
+                if (cr.isUnderflow())
+                    cr = decoder.flush(out);
+                if (!cr.isUnderflow())
+                    cr.throwException();
+            } catch (CharacterCodingException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.flip();
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        ByteBuffer line = nextLine();
+        if (line != null) {
+            action.accept(mapper.apply(line));
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        ByteBuffer line;
+        while ((line = nextLine()) != null) {
+            action.accept(mapper.apply(line));
+        }
+    }
+
+    /**
+     * Returns a view of the bytes of the next line, without its terminator,
+     * or null if there are no more lines.
+     */
+    private ByteBuffer nextLine() {
+        if (mapper == null) {
+            mapper = mappers.get();
+        }
+        for (;;) {
+            if (index >= fence)
+                return null;
+
+            ByteBuffer b = segment;
+            if (b == null || index >= base + b.limit()) {
+                b = map(index, SEGMENT_SIZE);
+            }
+            int start = (int)(index - base);
+            int end = b.limit();
+            boolean last = base + end == fence;
+
+            int i = indexOfTerminator(b, start, end);
+            if (i >= 0) {
+                int next = i + 1;
+                if (b.get(i) == '\r') {
+                    if (next < end) {
+                        if (b.get(next) == '\n')
+                            next++;
+                        index = base + next;
+                        return slice(b, start, i);
+                    }
+                    // Whether the line-separator is "\r\n" is not known
+                    // until the next segment is mapped
+                } else {
+                    index = base + next;
+                    return slice(b, start, i);
+                }
+            }
+            if (last) {
+                index = fence;
+                return slice(b, start, (i >= 0) ? i : end);
+            }
+
+            // The line runs past the end of the segment
+            if (start > 0) {
+                map(index, SEGMENT_SIZE);
+            } else if (end < Integer.MAX_VALUE) {
+                map(index, Math.min(2L * end, Integer.MAX_VALUE));
+            } else {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+        }
+    }
+
+    private ByteBuffer map(long position, long size) {
+        try {
+            size = Math.min(size, fence - position);
+            segment = fc.map(FileChannel.MapMode.READ_ONLY, position, size);
+            base = position;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer b, int start, int end) {
+        ByteBuffer line = b.duplicate();
+        line.limit(end).position(start);
+        return line.slice();
+    }
+
+    /**
+     * Returns the index of the first line feed or carriage return in
+     * [from, to) of the buffer, or -1 if there is none.  The bytes are
+     * examined a word at a time until a word containing one is found.
+     */
+    private static int indexOfTerminator(ByteBuffer b, int from, int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long w = b.getLong(i);
+            long x = w ^ LF;
+            long y = w ^ CR;
+            if (((((x - LO) & ~x) | ((y - LO) & ~y)) & HI) != 0)
+                break;
+        }
+        for (; i < to; i++) {
+            byte c = b.get(i);
+            if (c == '\n' || c == '\r')
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        // Cannot split after partial traverse
+        if (mapper != null)
+            return null;
+
+        final long hi = fence, lo = index;
+        if (hi - lo < 2)
+            return null;
+
+        // Read the bytes either side of the mid point, and one more, so that
+        // a "\r" in the window can be checked for a following "\n"
+        long mid = (lo + hi) >>> 1;
+        long from = Math.max(lo, mid - SPLIT_WINDOW);
+        long to = Math.min(hi, mid + SPLIT_WINDOW + 1);
+        ByteBuffer b = ByteBuffer.allocate((int)(to - from));
+        try {
+            while (b.hasRemaining()) {
+                if (fc.read(b, from + b.position()) < 0)
+                    return null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int m = (int)(mid - from);
+        int n = b.limit() - ((to < hi) ? 1 : 0);
+        int split = -1;
+        int c = b.get(m);
+        if (c == '\n') {
+            split = m + 1;
+        } else if (c == '\r') {
+            split = m + 1;
+            // Check if a line separator of "\r\n"
+            if (split < b.limit() && b.get(split) == '\n') {
+                split++;
+            }
+        } else {
+            // Scan to the left and right of the mid point
+            int mL = m - 1;
+            int mR = m + 1;
+            while (mL >= 0 || mR < n) {
+                // Sample to the left
+                if (mL >= 0) {
+                    c = b.get(mL--);
+                    if (c == '\n' || c == '\r') {
+                        // If c is "\r" then no need to check for "\r\n"
+                        // since the subsequent value was previously checked
+                        split = mL + 2;
+                        break;
+                    }
+                }
+
+                // Sample to the right
+                if (mR < n) {
+                    c = b.get(mR++);
+                    if (c == '\n' || c == '\r') {
+                        split = mR;
+                        // Check if line-separator is "\r\n"
+                        if (c == '\r' && split < b.limit() && b.get(split) == '\n') {
+                            split++;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        // The left spliterator will have the line-separator at the end
+        long at = from + split;
+        return (split >= 0 && at > lo && at < hi)
+               ? new MappedLinesSpliterator<>(fc, mappers, lo, index = at)
+               : null;
+    }
+
+    @Override
+    public long estimateSize() {
+        // Use the number of bytes as an estimate
+        return fence - index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return -1;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+}
@@ -53,6 +53,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import jdk.internal.math.FloatingDecimal;
 import sun.util.locale.provider.LocaleProviderAdapter;
 import sun.util.locale.provider.ResourceBundleBasedAdapter;
 
@@ -337,7 +338,9 @@ import sun.util.locale.provider.ResourceBundleBasedAdapter;
  * Decimal formats are generally not synchronized.
  * It is recommended to create separate format instances for each thread.
  * If multiple threads access a format concurrently, it must be synchronized
- * externally.
+ * externally.  Alternatively, {@link #toTemplate} and {@link #compile} return
+ * an immutable {@link Template}, which formats {@code long} and {@code double}
+ * values and may be shared freely between threads.
  *
  * <h4>Example</h4>
  *
@@ -741,6 +744,405 @@ public class DecimalFormat extends NumberFormat {
         }
     }
 
+    /**
+     * Returns a template that formats {@code long} and {@code double} values
+     * as this {@code DecimalFormat} currently does.  The template takes a
+     * snapshot of the pattern, symbols and settings of this format; later
+     * changes to this format do not affect it.
+     *
+     * @return a template for the current settings of this format
+     * @see #compile(String, DecimalFormatSymbols)
+     * @since 12
+     */
+    public Template toTemplate() {
+        return new Template((DecimalFormat) clone(),
+                            super.getMaximumIntegerDigits(),
+                            super.getMinimumIntegerDigits(),
+                            super.getMaximumFractionDigits(),
+                            super.getMinimumFractionDigits());
+    }
+
+    /**
+     * Returns a template that formats {@code long} and {@code double} values
+     * as a {@code DecimalFormat} created with the given pattern and symbols
+     * does.
+     *
+     * @param pattern a non-localized pattern string
+     * @param symbols the set of symbols to be used
+     * @return a template for the given pattern and symbols
+     * @exception NullPointerException if any of the given arguments is null
+     * @exception IllegalArgumentException if the given pattern is invalid
+     * @see #toTemplate()
+     * @since 12
+     */
+    public static Template compile(String pattern, DecimalFormatSymbols symbols) {
+        return new DecimalFormat(pattern, symbols).toTemplate();
+    }
+
+    /**
+     * An immutable, thread-safe formatter of {@code long} and {@code double}
+     * values, obtained from {@link DecimalFormat#toTemplate} or {@link
+     * DecimalFormat#compile}.  A template produces the same text as the
+     * {@code DecimalFormat} it was taken from, but writes it straight into a
+     * {@code StringBuilder}, without a {@code DigitList}, a {@code
+     * StringBuffer} or field position tracking, and without locking.  A
+     * single template may therefore be kept in a static field and shared
+     * by all the threads formatting with one pattern:
+     *
+     * <blockquote><pre>{@code
+     * static final DecimalFormat.Template AMOUNT = DecimalFormat.compile(
+     *         "#,##0.00", DecimalFormatSymbols.getInstance(Locale.US));
+     *
+     * AMOUNT.formatTo(-1234.567, sb);  // appends "-1,234.57"
+     * }</pre></blockquote>
+     *
+     * <p>Patterns in scientific notation, and {@code long} values that
+     * overflow when multiplied by the multiplier, are formatted by a private
+     * copy of the originating {@code DecimalFormat}, under its lock.
+     *
+     * @see DecimalFormat#toTemplate()
+     * @see DecimalFormat#compile(String, DecimalFormatSymbols)
+     * @since 12
+     */
+    public static final class Template {
+        /**
+         * The most digits a {@code FloatingDecimal} conversion produces,
+         * plus the zero {@code Double.toString} may pad them with.
+         */
+        private static final int MAX_DOUBLE_DIGITS = 21;
+
+        // A private copy of the originating format, for toPattern and the
+        // cases formatted the slow way.  It is used under its own lock.
+        private final DecimalFormat format;
+        private final boolean useExponentialNotation;
+
+        private final String positivePrefix;
+        private final String positiveSuffix;
+        private final String negativePrefix;
+        private final String negativeSuffix;
+        private final String nan;
+        private final String infinity;
+        private final char zero;
+        private final char grouping;
+        private final char decimal;
+        private final int groupingSize; // 0 if grouping is not used
+        private final boolean decimalSeparatorAlwaysShown;
+        private final int multiplier;
+        private final RoundingMode roundingMode;
+
+        // The limits NumberFormat applies to long and double values
+        private final int maxIntDigits;
+        private final int minIntDigits;
+        private final int maxFraDigits;
+        private final int minFraDigits;
+
+        private Template(DecimalFormat format,
+                         int maxIntDigits, int minIntDigits,
+                         int maxFraDigits, int minFraDigits) {
+            this.format = format;
+            this.useExponentialNotation = format.useExponentialNotation;
+            this.positivePrefix = format.positivePrefix;
+            this.positiveSuffix = format.positiveSuffix;
+            this.negativePrefix = format.negativePrefix;
+            this.negativeSuffix = format.negativeSuffix;
+            DecimalFormatSymbols symbols = format.symbols;
+            this.nan = symbols.getNaN();
+            this.infinity = symbols.getInfinity();
+            this.zero = symbols.getZeroDigit();
+            this.grouping = symbols.getGroupingSeparator();
+            this.decimal = format.isCurrencyFormat ?
+                symbols.getMonetaryDecimalSeparator() :
+                symbols.getDecimalSeparator();
+            this.groupingSize = format.isGroupingUsed() ? format.groupingSize : 0;
+            this.decimalSeparatorAlwaysShown = format.decimalSeparatorAlwaysShown;
+            this.multiplier = format.multiplier;
+            this.roundingMode = format.roundingMode;
+            this.maxIntDigits = maxIntDigits;
+            this.minIntDigits = minIntDigits;
+            this.maxFraDigits = maxFraDigits;
+            this.minFraDigits = minFraDigits;
+        }
+
+        /**
+         * Formats a {@code long}.
+         *
+         * @param number the value to format
+         * @return the formatted string
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         * @see DecimalFormat#format(long, StringBuffer, FieldPosition)
+         */
+        public String format(long number) {
+            return formatTo(number, new StringBuilder()).toString();
+        }
+
+        /**
+         * Formats a {@code double}.
+         *
+         * @param number the value to format
+         * @return the formatted string
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         * @see DecimalFormat#format(double, StringBuffer, FieldPosition)
+         */
+        public String format(double number) {
+            return formatTo(number, new StringBuilder()).toString();
+        }
+
+        /**
+         * Formats a {@code long}, appending the result to the given
+         * {@code StringBuilder}.
+         *
+         * @param number the value to format
+         * @param sb where the text is to be appended
+         * @return {@code sb}
+         * @exception NullPointerException if {@code sb} is null
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         */
+        public StringBuilder formatTo(long number, StringBuilder sb) {
+            if (useExponentialNotation) {
+                return formatSlowly(number, sb);
+            }
+            boolean isNegative = (number < 0);
+            if (isNegative) {
+                number = -number;
+            }
+            // As in DecimalFormat.format(long, StringBuffer, FieldDelegate),
+            // values the multiplier pushes out of range need a BigInteger
+            if (number < 0) {
+                if (multiplier != 0) {
+                    return formatSlowly(isNegative ? -number : number, sb);
+                }
+            } else if (multiplier != 1 && multiplier != 0) {
+                long cutoff = Long.MAX_VALUE / multiplier;
+                if (cutoff < 0) {
+                    cutoff = -cutoff;
+                }
+                if (number > cutoff) {
+                    return formatSlowly(isNegative ? -number : number, sb);
+                }
+            }
+            number *= multiplier;
+            if (number == 0) {
+                isNegative = false;
+            } else if (multiplier < 0) {
+                number = -number;
+                isNegative = !isNegative;
+            }
+
+            sb.append(isNegative ? negativePrefix : positivePrefix);
+
+            // The integer digits, as subformat prints them from a DigitList
+            // holding a long: the least significant maxIntDigits of them,
+            // padded with leading zeros to minIntDigits
+            int numDigits = 0;
+            for (long n = number; n != 0; n /= 10) {
+                numDigits++;
+            }
+            int count = Math.min(Math.max(minIntDigits, numDigits), maxIntDigits);
+            if (count > 0) {
+                int length = count;
+                if (groupingSize > 0) {
+                    length += (count - 1) / groupingSize;
+                }
+                int pos = sb.length() + length;
+                sb.setLength(pos);
+                long n = number;
+                for (int i = 0; i < count; i++) {
+                    if (i > 0 && groupingSize > 0 && i % groupingSize == 0) {
+                        sb.setCharAt(--pos, grouping);
+                    }
+                    sb.setCharAt(--pos, (char)(zero + (int)(n % 10)));
+                    n /= 10;
+                }
+            } else if (minFraDigits <= 0) {
+                sb.append(zero);
+            }
+
+            if (decimalSeparatorAlwaysShown || minFraDigits > 0) {
+                sb.append(decimal);
+            }
+            for (int i = Math.min(minFraDigits, maxFraDigits); i > 0; i--) {
+                sb.append(zero);
+            }
+            return sb.append(isNegative ? negativeSuffix : positiveSuffix);
+        }
+
+        /**
+         * Formats a {@code double}, appending the result to the given
+         * {@code StringBuilder}.
+         *
+         * @param number the value to format
+         * @param sb where the text is to be appended
+         * @return {@code sb}
+         * @exception NullPointerException if {@code sb} is null
+         * @exception ArithmeticException if rounding is needed with rounding
+         *            mode being set to RoundingMode.UNNECESSARY
+         */
+        public StringBuilder formatTo(double number, StringBuilder sb) {
+            if (useExponentialNotation) {
+                return formatSlowly(number, sb);
+            }
+            if (Double.isNaN(number) ||
+               (Double.isInfinite(number) && multiplier == 0)) {
+                return sb.append(nan);
+            }
+            boolean isNegative = ((number < 0.0) || (number == 0.0 && 1/number < 0.0)) ^ (multiplier < 0);
+            if (multiplier != 1) {
+                number *= multiplier;
+            }
+            if (Double.isInfinite(number)) {
+                return sb.append(isNegative ? negativePrefix : positivePrefix)
+                         .append(infinity)
+                         .append(isNegative ? negativeSuffix : positiveSuffix);
+            }
+            if (isNegative) {
+                number = -number;
+            }
+
+            // Fill in the digits as DigitList.set(boolean, double, int) does,
+            // rounding to maxFraDigits fraction digits
+            char[] digits = new char[MAX_DOUBLE_DIGITS];
+            int count = 0;
+            int decimalAt = 0;
+            if (number != 0.0) {
+                FloatingDecimal.BinaryToASCIIConverter fdConverter =
+                    FloatingDecimal.getBinaryToASCIIConverter(number);
+                boolean roundedUp = fdConverter.digitsRoundedUp();
+                boolean valueExactAsDecimal = fdConverter.decimalDigitsExact();
+                count = fdConverter.getDigits(digits);
+                decimalAt = fdConverter.getDecimalExponent();
+
+                if (-decimalAt > maxFraDigits) {
+                    count = 0;
+                } else if (-decimalAt == maxFraDigits) {
+                    // DigitList reads the digits from Double.toString, which
+                    // pads a single digit with a zero in scientific notation
+                    if (count == 1 && decimalAt <= -3) {
+                        digits[count++] = '0';
+                    }
+                    if (DigitList.shouldRoundUp(digits, count, 0, roundingMode,
+                            isNegative, roundedUp, valueExactAsDecimal)) {
+                        count = 1;
+                        ++decimalAt;
+                        digits[0] = '1';
+                    } else {
+                        count = 0;
+                    }
+                } else {
+                    while (count > 1 && digits[count - 1] == '0') {
+                        --count;
+                    }
+                    int maximumDigits = maxFraDigits + decimalAt;
+                    if (maximumDigits >= 0 && maximumDigits < count) {
+                        if (DigitList.shouldRoundUp(digits, count, maximumDigits,
+                                roundingMode, isNegative, roundedUp,
+                                valueExactAsDecimal)) {
+                            for (;;) {
+                                --maximumDigits;
+                                if (maximumDigits < 0) {
+                                    digits[0] = '1';
+                                    ++decimalAt;
+                                    maximumDigits = 0;
+                                    break;
+                                }
+                                ++digits[maximumDigits];
+                                if (digits[maximumDigits] <= '9') break;
+                            }
+                            ++maximumDigits;
+                        }
+                        count = maximumDigits;
+                        while (count > 1 && digits[count - 1] == '0') {
+                            --count;
+                        }
+                    }
+                }
+            }
+            if (count == 0) {
+                decimalAt = 0; // Normalize
+            }
+
+            sb.append(isNegative ? negativePrefix : positivePrefix);
+
+            // The rest follows the fixed point branch of subformat
+            int zeroDelta = zero - '0';
+            int intCount = minIntDigits;
+            int digitIndex = 0;
+            if (decimalAt > 0 && intCount < decimalAt) {
+                intCount = decimalAt;
+            }
+            if (intCount > maxIntDigits) {
+                intCount = maxIntDigits;
+                digitIndex = decimalAt - intCount;
+            }
+            for (int i = intCount - 1; i >= 0; --i) {
+                if (i < decimalAt && digitIndex < count) {
+                    sb.append((char)(digits[digitIndex++] + zeroDelta));
+                } else {
+                    sb.append(zero);
+                }
+                if (i > 0 && groupingSize > 0 && i % groupingSize == 0) {
+                    sb.append(grouping);
+                }
+            }
+
+            boolean fractionPresent = (minFraDigits > 0) || (digitIndex < count);
+            if (!fractionPresent && intCount <= 0) {
+                sb.append(zero);
+            }
+            if (decimalSeparatorAlwaysShown || fractionPresent) {
+                sb.append(decimal);
+            }
+            for (int i = 0; i < maxFraDigits; ++i) {
+                if (i >= minFraDigits && digitIndex >= count) {
+                    break;
+                }
+                if (-1 - i > (decimalAt - 1)) {
+                    sb.append(zero);
+                } else if (digitIndex < count) {
+                    sb.append((char)(digits[digitIndex++] + zeroDelta));
+                } else {
+                    sb.append(zero);
+                }
+            }
+            return sb.append(isNegative ? negativeSuffix : positiveSuffix);
+        }
+
+        private StringBuilder formatSlowly(long number, StringBuilder sb) {
+            synchronized (format) {
+                return sb.append(format.format(number));
+            }
+        }
+
+        private StringBuilder formatSlowly(double number, StringBuilder sb) {
+            synchronized (format) {
+                return sb.append(format.format(number));
+            }
+        }
+
+        /**
+         * Returns the pattern this template formats with.
+         *
+         * @return the pattern, as {@link DecimalFormat#toPattern} returns it
+         */
+        public String toPattern() {
+            synchronized (format) {
+                return format.toPattern();
+            }
+        }
+
+        /**
+         * Returns a string representation of this template.
+         *
+         * @return a string representation of this template
+         */
+        @Override
+        public String toString() {
+            return "DecimalFormat.Template[" + toPattern() + "]";
+        }
+    }
+
     /**
      * Formats a BigDecimal to produce a string.
      * @param number    The BigDecimal to format
@@ -453,6 +453,20 @@ final class DigitList implements Cloneable {
     private boolean shouldRoundUp(int maximumDigits,
                                   boolean alreadyRounded,
                                   boolean valueExactAsDecimal) {
+        return shouldRoundUp(digits, count, maximumDigits, roundingMode,
+                             isNegative, alreadyRounded, valueExactAsDecimal);
+    }
+
+    /**
+     * Return true if truncating the given digits to maximumDigits digits
+     * will result in an increment to the last digit, as for the instance
+     * method of the same name.  Also used by DecimalFormat.Template, which
+     * keeps its digits on the stack rather than in a DigitList.
+     */
+    static boolean shouldRoundUp(char[] digits, int count, int maximumDigits,
+                                 RoundingMode roundingMode, boolean isNegative,
+                                 boolean alreadyRounded,
+                                 boolean valueExactAsDecimal) {
         if (maximumDigits < count) {
             /*
              * To avoid erroneous double-rounding or truncation when converting
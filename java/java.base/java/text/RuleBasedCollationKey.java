@@ -38,9 +38,19 @@
 
 package java.text;
 
+import java.util.Arrays;
+
 /**
  * A RuleBasedCollationKey is a concrete implementation of CollationKey class.
  * The RuleBasedCollationKey class is used by the RuleBasedCollator class.
+ *
+ * The key is held in the compact byte form returned by toByteArray, in
+ * which keys compare as unsigned byte sequences.  Each char of the key
+ * RuleBasedCollator builds, all but the rarest of which are below 0xFF,
+ * is stored as one byte if it is below 0xFF, and as 0xFF followed by its
+ * two bytes otherwise.  The encoding preserves the order of the chars and
+ * no encoded char is a prefix of another, so the unsigned order of the
+ * bytes is the order of the chars.
  */
 
 final class RuleBasedCollationKey extends CollationKey {
@@ -56,7 +66,7 @@ final class RuleBasedCollationKey extends CollationKey {
      */
     public int compareTo(CollationKey target)
     {
-        int result = key.compareTo(((RuleBasedCollationKey)(target)).key);
+        int result = Arrays.compareUnsigned(key, ((RuleBasedCollationKey)(target)).key);
         if (result <= Collator.LESS)
             return Collator.LESS;
         else if (result >= Collator.GREATER)
@@ -78,7 +88,7 @@ final class RuleBasedCollationKey extends CollationKey {
             return false;
         }
         RuleBasedCollationKey other = (RuleBasedCollationKey)target;
-        return key.equals(other.key);
+        return Arrays.equals(key, other.key);
     }
 
     /**
@@ -90,34 +100,55 @@ final class RuleBasedCollationKey extends CollationKey {
      * @return the hash value based on the string's collation order.
      */
     public int hashCode() {
-        return (key.hashCode());
+        return Arrays.hashCode(key);
     }
 
     /**
      * Converts the RuleBasedCollationKey to a sequence of bits. If two RuleBasedCollationKeys
      * could be legitimately compared, then one could compare the byte arrays
-     * for each of those keys to obtain the same result.  Byte arrays are
-     * organized most significant byte first.
+     * for each of those keys, as unsigned bytes, to obtain the same result.
+     * Byte arrays are organized most significant byte first.
+     *
+     * @see java.util.Arrays#compareUnsigned(byte[], byte[])
      */
     public byte[] toByteArray() {
-
-        char[] src = key.toCharArray();
-        byte[] dest = new byte[ 2*src.length ];
-        int j = 0;
-        for( int i=0; i<src.length; i++ ) {
-            dest[j++] = (byte)(src[i] >>> 8);
-            dest[j++] = (byte)(src[i] & 0x00ff);
-        }
-        return dest;
+        return key.clone();
     }
 
     /**
      * A RuleBasedCollationKey can only be generated by Collator objects.
      */
-    RuleBasedCollationKey(String source, String key) {
+    RuleBasedCollationKey(String source, CharSequence key) {
         super(source);
-        this.key = key;
+        this.key = encode(key);
     }
-    private String key = null;
+
+    /**
+     * Returns the compact byte form of the given key.
+     */
+    static byte[] encode(CharSequence key) {
+        int len = key.length();
+        int n = len;
+        for (int i = 0; i < len; i++) {
+            if (key.charAt(i) >= 0xFF) {
+                n += 2;
+            }
+        }
+        byte[] dest = new byte[n];
+        int j = 0;
+        for (int i = 0; i < len; i++) {
+            char c = key.charAt(i);
+            if (c < 0xFF) {
+                dest[j++] = (byte)c;
+            } else {
+                dest[j++] = (byte)0xFF;
+                dest[j++] = (byte)(c >>> 8);
+                dest[j++] = (byte)c;
+            }
+        }
+        return dest;
+    }
+
+    private final byte[] key;
 
 }
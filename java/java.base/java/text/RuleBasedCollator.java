@@ -38,9 +38,15 @@
 
 package java.text;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Vector;
 import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
  * The <code>RuleBasedCollator</code> class is a concrete subclass of
@@ -251,11 +257,15 @@ public class RuleBasedCollator extends Collator{
     // transient state and includes the code that uses the other classes to
     // implement comparison and sort-key building.  RuleBasedCollator also
     // contains the logic to handle French secondary accent sorting.
-    // A RuleBasedCollator has two CollationElementIterators.  State doesn't
+    // A RuleBasedCollator has two CollationElementIterators, held with the
+    // buffers getCollationKey() uses in a Scratch object.  State doesn't
     // need to be preserved in these objects between calls to compare() or
     // getCollationKey(), but the objects persist anyway to avoid wasting extra
-    // creation time.  compare() and getCollationKey() are synchronized to ensure
-    // thread safety with this scheme.  The CollationElementIterator is responsible
+    // creation time.  Rather than being synchronized, compare() and
+    // getCollationKey() take the Scratch object atomically for the duration of
+    // the call, and a thread that finds it taken by another makes its own, so
+    // that threads sharing a collator never wait on each other.  The
+    // CollationElementIterator is responsible
     // for generating collation elements from strings and returning one element at
     // a time (sometimes there's a one-to-many or many-to-one mapping between
     // characters and collation elements-- this class handles that).
@@ -352,12 +362,22 @@ public class RuleBasedCollator extends Collator{
      *
      * @exception NullPointerException if <code>source</code> or <code>target</code> is null.
      */
-    public synchronized int compare(String source, String target)
+    public int compare(String source, String target)
     {
         if (source == null || target == null) {
             throw new NullPointerException();
         }
 
+        Scratch scratch = takeScratch();
+        try {
+            return compare(source, target, scratch);
+        } finally {
+            returnScratch(scratch);
+        }
+    }
+
+    private int compare(String source, String target, Scratch scratch) {
+
         // The basic algorithm here is that we use CollationElementIterators
         // to step through both the source and target strings.  We compare each
         // collation element in the source string against the corresponding one
@@ -379,13 +399,15 @@ public class RuleBasedCollator extends Collator{
 
         int result = Collator.EQUAL;
 
+        CollationElementIterator sourceCursor = scratch.sourceCursor;
         if (sourceCursor == null) {
-            sourceCursor = getCollationElementIterator(source);
+            sourceCursor = scratch.sourceCursor = getCollationElementIterator(source);
         } else {
             sourceCursor.setText(source);
         }
+        CollationElementIterator targetCursor = scratch.targetCursor;
         if (targetCursor == null) {
-            targetCursor = getCollationElementIterator(target);
+            targetCursor = scratch.targetCursor = getCollationElementIterator(target);
         } else {
             targetCursor.setText(target);
         }
@@ -568,8 +590,25 @@ public class RuleBasedCollator extends Collator{
      * Transforms the string into a series of characters that can be compared
      * with CollationKey.compareTo. This overrides java.text.Collator.getCollationKey.
      * It can be overriden in a subclass.
+     *
+     * <p>The {@link CollationKey#toByteArray byte array} of the key returned
+     * is compact, and orders as the strings do when compared as unsigned
+     * bytes, with {@link Arrays#compareUnsigned(byte[], byte[])}.
      */
-    public synchronized CollationKey getCollationKey(String source)
+    public CollationKey getCollationKey(String source)
+    {
+        if (source == null)
+            return null;
+
+        Scratch scratch = takeScratch();
+        try {
+            return getCollationKey(source, scratch);
+        } finally {
+            returnScratch(scratch);
+        }
+    }
+
+    private CollationKey getCollationKey(String source, Scratch scratch)
     {
         //
         // The basic algorithm here is to find all of the collation elements for each
@@ -601,18 +640,12 @@ public class RuleBasedCollator extends Collator{
         //
         // Collation Key:      1125<null>1000<null>1010
         //
-        if (source == null)
-            return null;
-
-        if (primResult == null) {
-            primResult = new StringBuffer();
-            secResult = new StringBuffer();
-            terResult = new StringBuffer();
-        } else {
-            primResult.setLength(0);
-            secResult.setLength(0);
-            terResult.setLength(0);
-        }
+        StringBuilder primResult = scratch.primResult;
+        StringBuilder secResult = scratch.secResult;
+        StringBuilder terResult = scratch.terResult;
+        primResult.setLength(0);
+        secResult.setLength(0);
+        terResult.setLength(0);
         int order = 0;
         boolean compareSec = (getStrength() >= Collator.SECONDARY);
         boolean compareTer = (getStrength() >= Collator.TERTIARY);
@@ -620,8 +653,9 @@ public class RuleBasedCollator extends Collator{
         int terOrder = CollationElementIterator.NULLORDER;
         int preSecIgnore = 0;
 
+        CollationElementIterator sourceCursor = scratch.sourceCursor;
         if (sourceCursor == null) {
-            sourceCursor = getCollationElementIterator(source);
+            sourceCursor = scratch.sourceCursor = getCollationElementIterator(source);
         } else {
             sourceCursor.setText(source);
         }
@@ -681,8 +715,8 @@ public class RuleBasedCollator extends Collator{
         }
         primResult.append((char)0);
         secResult.append((char)0);
-        secResult.append(terResult.toString());
-        primResult.append(secResult.toString());
+        secResult.append(terResult);
+        primResult.append(secResult);
 
         if (getStrength() == IDENTICAL) {
             primResult.append((char)0);
@@ -695,7 +729,84 @@ public class RuleBasedCollator extends Collator{
                 primResult.append(source);
             }
         }
-        return new RuleBasedCollationKey(source, primResult.toString());
+        return new RuleBasedCollationKey(source, primResult);
+    }
+
+    /**
+     * Sorts the specified array of strings into ascending order, according
+     * to the collation rules of this collator.  The collation key of each
+     * string is computed once, in parallel, and the keys are then sorted
+     * with {@link Arrays#parallelSort(Object[], java.util.Comparator)
+     * Arrays.parallelSort}.  This is much faster than sorting the strings
+     * with this collator as the comparator, which compares each string with
+     * many others.  The sort is stable: equal strings are not reordered.
+     *
+     * @param a the array to be sorted
+     * @throws NullPointerException if the array or any of its elements is null
+     * @see #getCollationKey(String)
+     * @since 12
+     */
+    public void parallelSort(String[] a) {
+        parallelSort(a, Function.identity());
+    }
+
+    /**
+     * Sorts the specified array into ascending order of the strings the
+     * given function extracts from its elements, according to the collation
+     * rules of this collator.  The collation key of each string is computed
+     * once, in parallel, and the keys are then sorted with {@link
+     * Arrays#parallelSort(Object[], java.util.Comparator) Arrays.parallelSort}.
+     * The sort is stable: elements with equal strings are not reordered.
+     *
+     * @param <T> the class of the objects to be sorted
+     * @param a the array to be sorted
+     * @param keyExtractor the function extracting the string to collate
+     *        from each element
+     * @throws NullPointerException if the array, the function, or any of
+     *         the strings it returns is null
+     * @see #getCollationKey(String)
+     * @since 12
+     */
+    public <T> void parallelSort(T[] a, Function<? super T, String> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        int n = a.length;
+        CollationKey[] keys = new CollationKey[n];
+        Object[] values = a.clone();
+        // Each chunk gets its own Scratch, rather than contending for ours
+        int chunks = (n + SORT_CHUNK - 1) / SORT_CHUNK;
+        boolean exact = (getClass() == RuleBasedCollator.class);
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            Scratch scratch = exact ? new Scratch() : null;
+            for (int i = c * SORT_CHUNK, end = Math.min(i + SORT_CHUNK, n); i < end; i++) {
+                String s = Objects.requireNonNull(keyExtractor.apply(a[i]));
+                // A subclass may override getCollationKey
+                keys[i] = exact ? getCollationKey(s, scratch) : getCollationKey(s);
+            }
+        });
+        Integer[] order = new Integer[n];
+        Arrays.setAll(order, Integer::valueOf);
+        Arrays.parallelSort(order, (i, j) -> keys[i].compareTo(keys[j]));
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            T t = (T)values[order[i]];
+            a[i] = t;
+        }
+    }
+
+    /**
+     * Takes the scratch objects of this collator, or new ones if they are
+     * in use by another thread.
+     */
+    private Scratch takeScratch() {
+        Scratch scratch = (Scratch)SCRATCH.getAndSet(this, null);
+        return (scratch != null) ? scratch : new Scratch();
+    }
+
+    /**
+     * Returns scratch objects taken by takeScratch to this collator.
+     */
+    private void returnScratch(Scratch scratch) {
+        SCRATCH.setRelease(this, scratch);
     }
 
     /**
@@ -710,11 +821,7 @@ public class RuleBasedCollator extends Collator{
         }
         else {
             RuleBasedCollator result = (RuleBasedCollator) super.clone();
-            result.primResult = null;
-            result.secResult = null;
-            result.terResult = null;
-            result.sourceCursor = null;
-            result.targetCursor = null;
+            result.scratch = null;
             return result;
         }
     }
@@ -758,13 +865,31 @@ public class RuleBasedCollator extends Collator{
 
     private static final int COLLATIONKEYOFFSET = 1;
 
+    // The number of strings parallelSort() computes the keys of in a task
+    private static final int SORT_CHUNK = 1 << 10;
+
     private RBCollationTables tables = null;
 
     // Internal objects that are cached across calls so that they don't have to
-    // be created/destroyed on every call to compare() and getCollationKey()
-    private StringBuffer primResult = null;
-    private StringBuffer secResult = null;
-    private StringBuffer terResult = null;
-    private CollationElementIterator sourceCursor = null;
-    private CollationElementIterator targetCursor = null;
+    // be created/destroyed on every call to compare() and getCollationKey().
+    // Null while a thread is using them.
+    private Scratch scratch = null;
+
+    private static final class Scratch {
+        final StringBuilder primResult = new StringBuilder();
+        final StringBuilder secResult = new StringBuilder();
+        final StringBuilder terResult = new StringBuilder();
+        CollationElementIterator sourceCursor;
+        CollationElementIterator targetCursor;
+    }
+
+    private static final VarHandle SCRATCH;
+    static {
+        try {
+            MethodHandles.Lookup l = MethodHandles.lookup();
+            SCRATCH = l.findVarHandle(RuleBasedCollator.class, "scratch", Scratch.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 }
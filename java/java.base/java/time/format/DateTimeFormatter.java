@@ -538,6 +538,10 @@ public final class DateTimeFormatter {
      * The zone to use for formatting, null for no override.
      */
     private final ZoneId zone;
+    /**
+     * The layout printed and parsed without the printer/parser, null if none.
+     */
+    private final NumericLayout layout;
 
     //-----------------------------------------------------------------------
     /**
@@ -1423,6 +1427,8 @@ public final class DateTimeFormatter {
         this.resolverStyle = Objects.requireNonNull(resolverStyle, "resolverStyle");
         this.chrono = chrono;
         this.zone = zone;
+        this.layout = NumericLayout.of(this.printerParser, this.decimalStyle,
+                this.resolverStyle, resolverFields, chrono, zone);
     }
 
     //-----------------------------------------------------------------------
@@ -1838,13 +1844,12 @@ public final class DateTimeFormatter {
         Objects.requireNonNull(temporal, "temporal");
         Objects.requireNonNull(appendable, "appendable");
         try {
-            DateTimePrintContext context = new DateTimePrintContext(temporal, this);
             if (appendable instanceof StringBuilder) {
-                printerParser.format(context, (StringBuilder) appendable);
+                formatTo0(temporal, (StringBuilder) appendable);
             } else {
                 // buffer output to avoid writing to appendable in case of error
                 StringBuilder buf = new StringBuilder(32);
-                printerParser.format(context, buf);
+                formatTo0(temporal, buf);
                 appendable.append(buf);
             }
         } catch (IOException ex) {
@@ -1852,6 +1857,13 @@ public final class DateTimeFormatter {
         }
     }
 
+    private void formatTo0(TemporalAccessor temporal, StringBuilder buf) {
+        if (layout == null || layout.format(temporal, buf) == false) {
+            DateTimePrintContext context = new DateTimePrintContext(temporal, this);
+            printerParser.format(context, buf);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing a temporal object.
@@ -2032,6 +2044,12 @@ public final class DateTimeFormatter {
      * @throws IndexOutOfBoundsException if the position is invalid
      */
     private TemporalAccessor parseResolved0(final CharSequence text, final ParsePosition position) {
+        if (position == null && layout != null) {
+            Parsed parsed = layout.parse(text);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
         ParsePosition pos = (position != null ? position : new ParsePosition(0));
         DateTimeParseContext context = parseUnresolved0(text, pos);
         if (context == null || pos.getErrorIndex() >= 0 || (position == null && pos.getIndex() < text.length())) {
@@ -2305,8 +2305,8 @@ public final class DateTimeFormatterBuilder {
      * Composite printer and parser.
      */
     static final class CompositePrinterParser implements DateTimePrinterParser {
-        private final DateTimePrinterParser[] printerParsers;
-        private final boolean optional;
+        final DateTimePrinterParser[] printerParsers;
+        final boolean optional;
 
         CompositePrinterParser(List<DateTimePrinterParser> printerParsers, boolean optional) {
             this(printerParsers.toArray(new DateTimePrinterParser[printerParsers.size()]), optional);
@@ -2536,7 +2536,7 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a character literal.
      */
     static final class CharLiteralPrinterParser implements DateTimePrinterParser {
-        private final char literal;
+        final char literal;
 
         CharLiteralPrinterParser(char literal) {
             this.literal = literal;
@@ -2579,7 +2579,7 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a string literal.
      */
     static final class StringLiteralPrinterParser implements DateTimePrinterParser {
-        private final String literal;
+        final String literal;
 
         StringLiteralPrinterParser(String literal) {
             this.literal = literal;  // validated by caller
@@ -2636,7 +2636,7 @@ public final class DateTimeFormatterBuilder {
         final TemporalField field;
         final int minWidth;
         final int maxWidth;
-        private final SignStyle signStyle;
+        final SignStyle signStyle;
         final int subsequentWidth;
 
         /**
@@ -3060,7 +3060,7 @@ public final class DateTimeFormatterBuilder {
      * Prints and parses a numeric date-time field with optional padding.
      */
     static final class FractionPrinterParser extends NumberPrinterParser {
-        private final boolean decimalPoint;
+        final boolean decimalPoint;
 
         /**
          * Constructor.
@@ -3386,7 +3386,7 @@ public final class DateTimeFormatterBuilder {
         // seconds per day = 86400
         private static final long SECONDS_PER_10000_YEARS = 146097L * 25L * 86400L;
         private static final long SECONDS_0000_TO_1970 = ((146097L * 5L) - (30L * 365L + 7L)) * 86400L;
-        private final int fractionalDigits;
+        final int fractionalDigits;
 
         InstantPrinterParser(int fractionalDigits) {
             this.fractionalDigits = fractionalDigits;
@@ -0,0 +1,670 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.time.format;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoField.YEAR_OF_ERA;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatterBuilder.CharLiteralPrinterParser;
+import java.time.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import java.time.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import java.time.format.DateTimeFormatterBuilder.FractionPrinterParser;
+import java.time.format.DateTimeFormatterBuilder.InstantPrinterParser;
+import java.time.format.DateTimeFormatterBuilder.NumberPrinterParser;
+import java.time.format.DateTimeFormatterBuilder.SettingsParser;
+import java.time.format.DateTimeFormatterBuilder.StringLiteralPrinterParser;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A formatter layout of literals and fixed-width ISO date and time fields,
+ * printed and parsed directly rather than through a print or parse context.
+ * <p>
+ * A layout is compiled from the printer-parsers of formatters such as
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} or the pattern
+ * {@code "yyyy-MM-dd HH:mm:ss.SSS"}: literals, the year, month and day,
+ * the hour, minute and second, a fraction of the second, and optional
+ * sections at the end.  It prints the local date and time of the ISO
+ * temporal types to the buffer, and parses text straight to a
+ * {@code Parsed} resolved to a date and time, without building and
+ * resolving a map of fields.
+ * <p>
+ * A layout may instead hold an instant, as {@link DateTimeFormatter#ISO_INSTANT}
+ * does, with literals around it.  It prints an {@code Instant}, and the
+ * instant of an {@code OffsetDateTime} or {@code ZonedDateTime}, in UTC
+ * from years 0000 to 9999; instants are always parsed by the printer-parsers.
+ * <p>
+ * A layout only handles the common case.  It declines, by returning false
+ * or null, a temporal it does not know, a value it would print differently,
+ * text it does not match exactly and values that would not resolve as they
+ * stand.  The formatter then falls back to its printer-parsers, so that
+ * results and errors are always those of the general path.
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ */
+final class NumericLayout {
+
+    /**
+     * The kinds of element.
+     */
+    private static final int LITERAL = 0;
+    private static final int LITERAL_CI = 1;
+    private static final int OPTIONAL = 2;
+    private static final int FRACTION = 3;
+    private static final int YEAR_FIELD = 4;
+    private static final int YEAR_OF_ERA_FIELD = 5;
+    private static final int MONTH_FIELD = 6;
+    private static final int DAY_FIELD = 7;
+    private static final int HOUR_FIELD = 8;
+    private static final int MINUTE_FIELD = 9;
+    private static final int SECOND_FIELD = 10;
+    private static final int INSTANT_FIELD = 11;
+
+    /**
+     * The range of epoch seconds from 0000-01-01T00:00Z, inclusive, to
+     * 10000-01-01T00:00Z, exclusive, whose instants are printed with a
+     * four digit year.
+     */
+    private static final long MIN_INSTANT_SECONDS = LocalDate.of(0, 1, 1).toEpochDay() * 86400L;
+    private static final long MAX_INSTANT_SECONDS = LocalDate.of(10000, 1, 1).toEpochDay() * 86400L;
+
+    /**
+     * Array of 10 to the power of n.
+     */
+    private static final int[] POWERS = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    /**
+     * An element of a layout.
+     */
+    private static final class Element {
+        /** The kind of element. */
+        final int kind;
+        /** The literal, or the decimal point of a fraction, or 0 for none. */
+        final char literal;
+        /**
+         * The width of a field, or the minimum width of a fraction, or the
+         * fractional digits of an instant.
+         */
+        final int width;
+        /**
+         * The maximum width of a fraction, or the length of the run of
+         * digits a variable width field is parsed from, or 0.
+         */
+        final int extra;
+
+        Element(int kind, char literal, int width, int extra) {
+            this.kind = kind;
+            this.literal = literal;
+            this.width = width;
+            this.extra = extra;
+        }
+    }
+
+    private final Element[] elements;
+    private final boolean hasDate;
+    private final boolean hasTime;
+    private final boolean hasInstant;
+    private final boolean yearOfEra;
+    private final ResolverStyle resolverStyle;
+
+    private NumericLayout(Element[] elements, boolean hasDate, boolean hasTime,
+            boolean hasInstant, boolean yearOfEra, ResolverStyle resolverStyle) {
+        this.elements = elements;
+        this.hasDate = hasDate;
+        this.hasTime = hasTime;
+        this.hasInstant = hasInstant;
+        this.yearOfEra = yearOfEra;
+        this.resolverStyle = resolverStyle;
+    }
+
+    /**
+     * Compiles the layout of a formatter.
+     *
+     * @param printerParser  the printer-parser of the formatter, not null
+     * @param decimalStyle  the DecimalStyle of the formatter, not null
+     * @param resolverStyle  the resolver style of the formatter, not null
+     * @param resolverFields  the resolver fields of the formatter, null for all fields
+     * @param chrono  the chronology override of the formatter, null for none
+     * @param zone  the zone override of the formatter, null for none
+     * @return the layout, null if the formatter has none
+     */
+    static NumericLayout of(CompositePrinterParser printerParser,
+            DecimalStyle decimalStyle, ResolverStyle resolverStyle,
+            Set<TemporalField> resolverFields, Chronology chrono, ZoneId zone) {
+        if (decimalStyle.equals(DecimalStyle.STANDARD) == false ||
+                resolverStyle == ResolverStyle.LENIENT || resolverFields != null ||
+                zone != null || (chrono != null && chrono != IsoChronology.INSTANCE)) {
+            return null;
+        }
+        Compiler compiler = new Compiler(resolverStyle);
+        if (compiler.add(printerParser, true) == false) {
+            return null;
+        }
+        return compiler.compile(resolverStyle);
+    }
+
+    /**
+     * Flattens printer-parsers into the elements of a layout.
+     */
+    private static final class Compiler {
+        private final List<Element> elements = new ArrayList<>();
+        private final boolean yearOfEraResolves;
+        private int fields;  // bit set of the field kinds added
+        private boolean caseSensitive = true;
+        private boolean optional;
+
+        Compiler(ResolverStyle resolverStyle) {
+            // strict resolving does not invent an era for the year-of-era
+            this.yearOfEraResolves = (resolverStyle == ResolverStyle.SMART);
+        }
+
+        /**
+         * Adds the elements of a composite, returning false if any has no
+         * element.  An optional section may only end the layout, so that
+         * stopping at it when the text ends is the only way to skip it.
+         */
+        boolean add(CompositePrinterParser composite, boolean tail) {
+            DateTimePrinterParser[] printerParsers = composite.printerParsers;
+            for (int i = 0; i < printerParsers.length; i++) {
+                DateTimePrinterParser pp = printerParsers[i];
+                boolean last = tail && i == printerParsers.length - 1;
+                if (pp instanceof CompositePrinterParser) {
+                    CompositePrinterParser cpp = (CompositePrinterParser) pp;
+                    if (cpp.optional) {
+                        if (last == false) {
+                            return false;
+                        }
+                        elements.add(new Element(OPTIONAL, '\0', 0, 0));
+                        optional = true;
+                    }
+                    if (add(cpp, last) == false) {
+                        return false;
+                    }
+                } else if (pp == SettingsParser.SENSITIVE) {
+                    caseSensitive = true;
+                } else if (pp == SettingsParser.INSENSITIVE) {
+                    caseSensitive = false;
+                } else if (pp == SettingsParser.STRICT) {
+                    // already strict
+                } else if (pp instanceof CharLiteralPrinterParser) {
+                    addLiteral(((CharLiteralPrinterParser) pp).literal);
+                } else if (pp instanceof StringLiteralPrinterParser) {
+                    String literal = ((StringLiteralPrinterParser) pp).literal;
+                    for (int j = 0; j < literal.length(); j++) {
+                        addLiteral(literal.charAt(j));
+                    }
+                } else if (pp.getClass() == FractionPrinterParser.class) {
+                    if (addFraction((FractionPrinterParser) pp) == false) {
+                        return false;
+                    }
+                } else if (pp.getClass() == NumberPrinterParser.class) {
+                    if (addNumber((NumberPrinterParser) pp) == false) {
+                        return false;
+                    }
+                } else if (pp instanceof InstantPrinterParser) {
+                    if (addField(INSTANT_FIELD) == false) {
+                        return false;
+                    }
+                    elements.add(new Element(INSTANT_FIELD, '\0',
+                            ((InstantPrinterParser) pp).fractionalDigits, 0));
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void addLiteral(char literal) {
+            elements.add(new Element(caseSensitive ? LITERAL : LITERAL_CI, literal, 0, 0));
+        }
+
+        private boolean addFraction(FractionPrinterParser pp) {
+            if (pp.field != NANO_OF_SECOND || addField(FRACTION) == false) {
+                return false;
+            }
+            elements.add(new Element(FRACTION, pp.decimalPoint ? '.' : '\0',
+                    pp.minWidth, pp.maxWidth));
+            return true;
+        }
+
+        private boolean addNumber(NumberPrinterParser pp) {
+            int kind;
+            TemporalField field = pp.field;
+            if (field == YEAR) {
+                kind = YEAR_FIELD;
+            } else if (field == YEAR_OF_ERA && yearOfEraResolves) {
+                kind = YEAR_OF_ERA_FIELD;
+            } else if (field == MONTH_OF_YEAR) {
+                kind = MONTH_FIELD;
+            } else if (field == DAY_OF_MONTH) {
+                kind = DAY_FIELD;
+            } else if (field == HOUR_OF_DAY) {
+                kind = HOUR_FIELD;
+            } else if (field == MINUTE_OF_HOUR) {
+                kind = MINUTE_FIELD;
+            } else if (field == SECOND_OF_MINUTE) {
+                kind = SECOND_FIELD;
+            } else {
+                return false;
+            }
+            int width = pp.minWidth;
+            int run = 0;
+            if (pp.signStyle == SignStyle.EXCEEDS_PAD &&
+                    (kind == YEAR_FIELD || kind == YEAR_OF_ERA_FIELD)) {
+                // wider values are signed, so are parsed from a run of exactly
+                // width digits, followed by those of any adjacent fields
+                run = width + Math.max(pp.subsequentWidth, 0);
+            } else if (pp.signStyle != SignStyle.NOT_NEGATIVE || pp.maxWidth != width) {
+                return false;
+            }
+            if (width > 9 || addField(kind) == false) {
+                return false;
+            }
+            elements.add(new Element(kind, '\0', width, run));
+            return true;
+        }
+
+        /**
+         * Notes a field, returning false if it was already added or is one
+         * that an optional section may not hold.
+         */
+        private boolean addField(int kind) {
+            if ((fields & (1 << kind)) != 0 ||
+                    (optional && kind != SECOND_FIELD && kind != FRACTION)) {
+                return false;
+            }
+            fields |= 1 << kind;
+            return true;
+        }
+
+        /**
+         * Returns the layout, or null unless the fields resolve to a date,
+         * a time or both, or are a lone instant.
+         */
+        NumericLayout compile(ResolverStyle resolverStyle) {
+            if ((fields & (1 << INSTANT_FIELD)) != 0) {
+                if (fields != (1 << INSTANT_FIELD) || optional) {
+                    return null;
+                }
+                return new NumericLayout(elements.toArray(new Element[0]), false, false,
+                        true, false, resolverStyle);
+            }
+            int year = (1 << YEAR_FIELD) | (1 << YEAR_OF_ERA_FIELD);
+            int date = year | (1 << MONTH_FIELD) | (1 << DAY_FIELD);
+            int time = (1 << HOUR_FIELD) | (1 << MINUTE_FIELD) |
+                       (1 << SECOND_FIELD) | (1 << FRACTION);
+            boolean hasDate = (fields & date) != 0;
+            boolean hasTime = (fields & time) != 0;
+            if (hasDate && ((fields & year) == year || (fields & year) == 0 ||
+                    (fields & (1 << MONTH_FIELD)) == 0 || (fields & (1 << DAY_FIELD)) == 0)) {
+                return null;
+            }
+            if (hasTime && ((fields & (1 << HOUR_FIELD)) == 0 ||
+                    (fields & (1 << MINUTE_FIELD)) == 0 ||
+                    ((fields & (1 << FRACTION)) != 0 && (fields & (1 << SECOND_FIELD)) == 0))) {
+                return null;
+            }
+            if (hasDate == false && hasTime == false) {
+                return null;
+            }
+            return new NumericLayout(elements.toArray(new Element[0]), hasDate, hasTime,
+                    false, (fields & (1 << YEAR_OF_ERA_FIELD)) != 0, resolverStyle);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints a temporal to the buffer.
+     *
+     * @param temporal  the temporal to print, not null
+     * @param buf  the buffer to append to, not null
+     * @return false, leaving the buffer unchanged, if the temporal must be
+     *  printed by the printer-parsers
+     */
+    boolean format(TemporalAccessor temporal, StringBuilder buf) {
+        if (hasInstant) {
+            return formatInstant(temporal, buf);
+        }
+        LocalDate date;
+        LocalTime time;
+        if (temporal instanceof LocalDateTime) {
+            date = ((LocalDateTime) temporal).toLocalDate();
+            time = ((LocalDateTime) temporal).toLocalTime();
+        } else if (temporal instanceof LocalDate) {
+            date = (LocalDate) temporal;
+            time = null;
+        } else if (temporal instanceof LocalTime) {
+            date = null;
+            time = (LocalTime) temporal;
+        } else if (temporal instanceof OffsetDateTime) {
+            date = ((OffsetDateTime) temporal).toLocalDate();
+            time = ((OffsetDateTime) temporal).toLocalTime();
+        } else if (temporal instanceof ZonedDateTime) {
+            date = ((ZonedDateTime) temporal).toLocalDate();
+            time = ((ZonedDateTime) temporal).toLocalTime();
+        } else {
+            return false;
+        }
+        if ((hasDate && date == null) || (hasTime && time == null)) {
+            return false;
+        }
+        int length = buf.length();
+        for (Element e : elements) {
+            int value;
+            switch (e.kind) {
+                case LITERAL:
+                case LITERAL_CI:
+                    buf.append(e.literal);
+                    continue;
+                case OPTIONAL:
+                    continue;
+                case FRACTION:
+                    appendFraction(buf, time.getNano(), e);
+                    continue;
+                case YEAR_FIELD:
+                    value = date.getYear();
+                    break;
+                case YEAR_OF_ERA_FIELD:
+                    value = date.getYear();
+                    value = (value >= 1 ? value : 1 - value);
+                    break;
+                case MONTH_FIELD:
+                    value = date.getMonthValue();
+                    break;
+                case DAY_FIELD:
+                    value = date.getDayOfMonth();
+                    break;
+                case HOUR_FIELD:
+                    value = time.getHour();
+                    break;
+                case MINUTE_FIELD:
+                    value = time.getMinute();
+                    break;
+                default:
+                    value = time.getSecond();
+                    break;
+            }
+            if (value < 0 || value >= POWERS[e.width]) {
+                // signed or too wide
+                buf.setLength(length);
+                return false;
+            }
+            appendDigits(buf, value, e.width);
+        }
+        return true;
+    }
+
+    /**
+     * Prints the instant of a temporal as InstantPrinterParser does.
+     */
+    private boolean formatInstant(TemporalAccessor temporal, StringBuilder buf) {
+        long seconds;
+        int nano;
+        if (temporal instanceof Instant) {
+            seconds = ((Instant) temporal).getEpochSecond();
+            nano = ((Instant) temporal).getNano();
+        } else if (temporal instanceof OffsetDateTime) {
+            seconds = ((OffsetDateTime) temporal).toEpochSecond();
+            nano = ((OffsetDateTime) temporal).getNano();
+        } else if (temporal instanceof ZonedDateTime) {
+            seconds = ((ZonedDateTime) temporal).toEpochSecond();
+            nano = ((ZonedDateTime) temporal).getNano();
+        } else {
+            return false;
+        }
+        if (seconds < MIN_INSTANT_SECONDS || seconds >= MAX_INSTANT_SECONDS) {
+            // signed or wide years
+            return false;
+        }
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(seconds, 86400));
+        int secondOfDay = (int) Math.floorMod(seconds, 86400);
+        for (Element e : elements) {
+            if (e.kind != INSTANT_FIELD) {
+                buf.append(e.literal);
+                continue;
+            }
+            appendDigits(buf, date.getYear(), 4);
+            buf.append('-');
+            appendDigits(buf, date.getMonthValue(), 2);
+            buf.append('-');
+            appendDigits(buf, date.getDayOfMonth(), 2);
+            buf.append('T');
+            appendDigits(buf, secondOfDay / 3600, 2);
+            buf.append(':');
+            appendDigits(buf, secondOfDay / 60 % 60, 2);
+            buf.append(':');
+            appendDigits(buf, secondOfDay % 60, 2);
+            appendInstantFraction(buf, nano, e.width);
+            buf.append('Z');
+        }
+        return true;
+    }
+
+    /**
+     * Appends the nano-of-second as InstantPrinterParser does: as many
+     * digits as needed, or as needed in groups of three, or a fixed number.
+     */
+    private static void appendInstantFraction(StringBuilder buf, int nano,
+            int fractionalDigits) {
+        if ((fractionalDigits < 0 && nano > 0) || fractionalDigits > 0) {
+            buf.append('.');
+            int div = 100_000_000;
+            for (int i = 0; ((fractionalDigits == -1 && nano > 0) ||
+                                (fractionalDigits == -2 && (nano > 0 || (i % 3) != 0)) ||
+                                i < fractionalDigits); i++) {
+                int digit = nano / div;
+                buf.append((char) (digit + '0'));
+                nano = nano - (digit * div);
+                div = div / 10;
+            }
+        }
+    }
+
+    /**
+     * Appends a value zero padded to the given number of digits.
+     */
+    private static void appendDigits(StringBuilder buf, int value, int width) {
+        if (width == 2) {
+            buf.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+            return;
+        }
+        for (int i = width - 1; i >= 0; i--) {
+            buf.append((char) ('0' + value / POWERS[i] % 10));
+        }
+    }
+
+    /**
+     * Appends the nano-of-second as FractionPrinterParser does, truncated to
+     * the maximum width and with trailing zeros beyond the minimum width
+     * removed.
+     */
+    private static void appendFraction(StringBuilder buf, int nano, Element e) {
+        if (nano == 0 && e.width == 0) {
+            return;
+        }
+        int scale = 9;
+        while (scale > 0 && nano % POWERS[10 - scale] == 0) {
+            scale--;
+        }
+        scale = Math.min(Math.max(scale, e.width), e.extra);
+        if (e.literal != '\0') {
+            buf.append(e.literal);
+        }
+        appendDigits(buf, nano / POWERS[9 - scale], scale);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the whole of the text.
+     *
+     * @param text  the text to parse, not null
+     * @return the resolved result, null if the text must be parsed by the
+     *  printer-parsers
+     */
+    Parsed parse(CharSequence text) {
+        if (hasInstant) {
+            return null;
+        }
+        int length = text.length();
+        int pos = 0;
+        int year = 0, month = 0, day = 0;
+        int hour = 0, minute = 0, second = 0, nano = 0;
+        for (Element e : elements) {
+            int kind = e.kind;
+            if (kind == OPTIONAL) {
+                if (pos == length) {
+                    break;
+                }
+                continue;
+            }
+            if (kind == LITERAL || kind == LITERAL_CI) {
+                if (pos == length) {
+                    return null;
+                }
+                char ch = text.charAt(pos++);
+                if (ch != e.literal && (kind == LITERAL ||
+                        (Character.toUpperCase(ch) != Character.toUpperCase(e.literal) &&
+                         Character.toLowerCase(ch) != Character.toLowerCase(e.literal)))) {
+                    return null;
+                }
+                continue;
+            }
+            int width = e.width;
+            if (kind == FRACTION) {
+                if (e.literal != '\0') {
+                    if (pos == length || text.charAt(pos) != e.literal) {
+                        if (width > 0) {
+                            return null;
+                        }
+                        continue;  // the fraction is absent
+                    }
+                    pos++;
+                }
+                int start = pos;
+                int end = Math.min(pos + e.extra, length);
+                int total = 0;
+                while (pos < end) {
+                    int digit = text.charAt(pos) - '0';
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+                    total = total * 10 + digit;
+                    pos++;
+                }
+                int digits = pos - start;
+                if (digits == 0 || digits < width) {
+                    return null;
+                }
+                nano = total * POWERS[9 - digits];
+                continue;
+            }
+            if (pos + width > length) {
+                return null;
+            }
+            int value = 0;
+            for (int end = pos + width; pos < end; pos++) {
+                int digit = text.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    return null;
+                }
+                value = value * 10 + digit;
+            }
+            if (e.extra > 0) {
+                int runEnd = pos - width + e.extra;
+                if (runEnd < length) {
+                    char ch = text.charAt(runEnd);
+                    if (ch >= '0' && ch <= '9') {
+                        return null;
+                    }
+                }
+            }
+            switch (kind) {
+                case YEAR_FIELD:
+                case YEAR_OF_ERA_FIELD:
+                    year = value;
+                    break;
+                case MONTH_FIELD:
+                    month = value;
+                    break;
+                case DAY_FIELD:
+                    day = value;
+                    break;
+                case HOUR_FIELD:
+                    hour = value;
+                    break;
+                case MINUTE_FIELD:
+                    minute = value;
+                    break;
+                default:
+                    second = value;
+                    break;
+            }
+        }
+        if (pos != length) {
+            return null;
+        }
+        LocalDate date = null;
+        if (hasDate) {
+            // leave the year-of-era zero, the smart resolving of the
+            // day-of-month and any error to the printer-parsers
+            if ((year == 0 && yearOfEra) || month < 1 || month > 12 || day < 1 ||
+                    day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+                return null;
+            }
+            date = LocalDate.of(year, month, day);
+        }
+        LocalTime time = null;
+        if (hasTime) {
+            if (hour > 23 || minute > 59 || second > 59) {
+                return null;
+            }
+            time = LocalTime.of(hour, minute, second, nano);
+        }
+        return Parsed.ofResolved(IsoChronology.INSTANCE, date, time, resolverStyle);
+    }
+}
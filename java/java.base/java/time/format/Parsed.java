@@ -162,6 +162,25 @@ final class Parsed implements TemporalAccessor {
     Parsed() {
     }
 
+    /**
+     * Creates an instance resolved to the given date and time, as resolving
+     * the fields parsed for them alone would leave it.
+     *
+     * @param chrono  the effective chronology, not null
+     * @param date  the resolved date, null if none
+     * @param time  the resolved time, null if none
+     * @param resolverStyle  the resolver style, not null
+     */
+    static Parsed ofResolved(Chronology chrono, ChronoLocalDate date, LocalTime time,
+            ResolverStyle resolverStyle) {
+        Parsed parsed = new Parsed();
+        parsed.chrono = chrono;
+        parsed.date = date;
+        parsed.time = time;
+        parsed.resolverStyle = resolverStyle;
+        return parsed;
+    }
+
     /**
      * Creates a copy.
      */
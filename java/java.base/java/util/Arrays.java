@@ -33,12 +33,15 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntFunction;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
@@ -81,6 +84,21 @@ public class Arrays {
      */
     private static final int MIN_ARRAY_SORT_GRAN = 1 << 13;
 
+    /**
+     * The minimum array length at or above which the parallel sorts of
+     * int and float arrays use a radix sort rather than a sort-merge, if
+     * the array does not appear to be partially ordered. Below it, the
+     * constant overhead of the fixed number of distribution passes
+     * outweighs the n log n comparisons of the sort-merge.
+     */
+    private static final int MIN_ARRAY_RADIX_SORT_LENGTH = 1 << 22;
+
+    /**
+     * As MIN_ARRAY_RADIX_SORT_LENGTH, for long and double arrays, which
+     * take twice as many distribution passes.
+     */
+    private static final int MIN_ARRAY_RADIX_SORT_LENGTH_WIDE = 1 << 23;
+
     // Suppresses default constructor, ensuring non-instantiability.
     private Arrays() {}
 
@@ -663,10 +681,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(int[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(int[]) Arrays.sort} method. The algorithm requires a
-     * working space no greater than the size of the original array. The
-     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
-     * execute any parallel tasks.
+     * Arrays#sort(int[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the original array. The {@link
+     * ForkJoinPool#commonPool() ForkJoin common pool} is used to execute any
+     * parallel tasks.
      *
      * @param a the array to be sorted
      *
@@ -677,6 +698,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, 0, n - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH &&
+                 ArraysParallelRadixSort.isScrambled(a, 0, n))
+            ArraysParallelRadixSort.FJInt.sort
+                (a, 0, n, new int[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJInt.Sorter
                 (null, a, new int[n], 0, n, 0,
@@ -696,10 +722,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(int[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(int[]) Arrays.sort} method. The algorithm requires a working
-     * space no greater than the size of the specified range of the original
-     * array. The {@link ForkJoinPool#commonPool() ForkJoin common pool} is
-     * used to execute any parallel tasks.
+     * Arrays#sort(int[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the specified range of the original array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to execute
+     * any parallel tasks.
      *
      * @param a the array to be sorted
      * @param fromIndex the index of the first element, inclusive, to be sorted
@@ -717,6 +746,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, fromIndex, toIndex - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH &&
+                 ArraysParallelRadixSort.isScrambled(a, fromIndex, n))
+            ArraysParallelRadixSort.FJInt.sort
+                (a, fromIndex, n, new int[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJInt.Sorter
                 (null, a, new int[n], fromIndex, n, 0,
@@ -733,10 +767,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(long[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(long[]) Arrays.sort} method. The algorithm requires a
-     * working space no greater than the size of the original array. The
-     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
-     * execute any parallel tasks.
+     * Arrays#sort(long[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the original array. The {@link
+     * ForkJoinPool#commonPool() ForkJoin common pool} is used to execute any
+     * parallel tasks.
      *
      * @param a the array to be sorted
      *
@@ -747,6 +784,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, 0, n - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH_WIDE &&
+                 ArraysParallelRadixSort.isScrambled(a, 0, n))
+            ArraysParallelRadixSort.FJLong.sort
+                (a, 0, n, new long[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJLong.Sorter
                 (null, a, new long[n], 0, n, 0,
@@ -766,10 +808,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(long[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(long[]) Arrays.sort} method. The algorithm requires a working
-     * space no greater than the size of the specified range of the original
-     * array. The {@link ForkJoinPool#commonPool() ForkJoin common pool} is
-     * used to execute any parallel tasks.
+     * Arrays#sort(long[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the specified range of the original array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to execute
+     * any parallel tasks.
      *
      * @param a the array to be sorted
      * @param fromIndex the index of the first element, inclusive, to be sorted
@@ -787,6 +832,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, fromIndex, toIndex - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH_WIDE &&
+                 ArraysParallelRadixSort.isScrambled(a, fromIndex, n))
+            ArraysParallelRadixSort.FJLong.sort
+                (a, fromIndex, n, new long[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJLong.Sorter
                 (null, a, new long[n], fromIndex, n, 0,
@@ -811,10 +861,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(float[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(float[]) Arrays.sort} method. The algorithm requires a
-     * working space no greater than the size of the original array. The
-     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
-     * execute any parallel tasks.
+     * Arrays#sort(float[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the original array. The {@link
+     * ForkJoinPool#commonPool() ForkJoin common pool} is used to execute any
+     * parallel tasks.
      *
      * @param a the array to be sorted
      *
@@ -825,6 +878,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, 0, n - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH &&
+                 ArraysParallelRadixSort.isScrambled(a, 0, n))
+            ArraysParallelRadixSort.FJFloat.sort
+                (a, 0, n, new float[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJFloat.Sorter
                 (null, a, new float[n], 0, n, 0,
@@ -852,10 +910,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(float[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(float[]) Arrays.sort} method. The algorithm requires a working
-     * space no greater than the size of the specified range of the original
-     * array. The {@link ForkJoinPool#commonPool() ForkJoin common pool} is
-     * used to execute any parallel tasks.
+     * Arrays#sort(float[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the specified range of the original array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to execute
+     * any parallel tasks.
      *
      * @param a the array to be sorted
      * @param fromIndex the index of the first element, inclusive, to be sorted
@@ -873,6 +934,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, fromIndex, toIndex - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH &&
+                 ArraysParallelRadixSort.isScrambled(a, fromIndex, n))
+            ArraysParallelRadixSort.FJFloat.sort
+                (a, fromIndex, n, new float[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJFloat.Sorter
                 (null, a, new float[n], fromIndex, n, 0,
@@ -897,10 +963,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(double[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(double[]) Arrays.sort} method. The algorithm requires a
-     * working space no greater than the size of the original array. The
-     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to
-     * execute any parallel tasks.
+     * Arrays#sort(double[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the original array. The {@link
+     * ForkJoinPool#commonPool() ForkJoin common pool} is used to execute any
+     * parallel tasks.
      *
      * @param a the array to be sorted
      *
@@ -911,6 +980,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, 0, n - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH_WIDE &&
+                 ArraysParallelRadixSort.isScrambled(a, 0, n))
+            ArraysParallelRadixSort.FJDouble.sort
+                (a, 0, n, new double[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJDouble.Sorter
                 (null, a, new double[n], 0, n, 0,
@@ -938,10 +1012,13 @@ public class Arrays {
      * sorted using the appropriate {@link Arrays#sort(double[]) Arrays.sort}
      * method. If the length of the specified array is less than the minimum
      * granularity, then it is sorted using the appropriate {@link
-     * Arrays#sort(double[]) Arrays.sort} method. The algorithm requires a working
-     * space no greater than the size of the specified range of the original
-     * array. The {@link ForkJoinPool#commonPool() ForkJoin common pool} is
-     * used to execute any parallel tasks.
+     * Arrays#sort(double[]) Arrays.sort} method. If the array is large and its
+     * elements do not appear to be partially ordered, it is instead sorted by a
+     * parallel radix sort, which distributes the elements by successive digits
+     * of their binary representation. The algorithm requires a working space no
+     * greater than the size of the specified range of the original array. The
+     * {@link ForkJoinPool#commonPool() ForkJoin common pool} is used to execute
+     * any parallel tasks.
      *
      * @param a the array to be sorted
      * @param fromIndex the index of the first element, inclusive, to be sorted
@@ -959,6 +1036,11 @@ public class Arrays {
         if (n <= MIN_ARRAY_SORT_GRAN ||
             (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
             DualPivotQuicksort.sort(a, fromIndex, toIndex - 1, null, 0, 0);
+        else if (n >= MIN_ARRAY_RADIX_SORT_LENGTH_WIDE &&
+                 ArraysParallelRadixSort.isScrambled(a, fromIndex, n))
+            ArraysParallelRadixSort.FJDouble.sort
+                (a, fromIndex, n, new double[n],
+                 ArraysParallelRadixSort.chunks(n, p, MIN_ARRAY_SORT_GRAN));
         else
             new ArraysParallelSortHelpers.FJDouble.Sorter
                 (null, a, new double[n], fromIndex, n, 0,
@@ -1574,6 +1656,210 @@ public class Arrays {
         }
     }
 
+    // Sorting by key
+
+    /**
+     * Sorts the specified array of objects according to the order induced by
+     * the specified comparator on the keys extracted from the objects by the
+     * specified function.  The key of each element is extracted exactly once,
+     * before any element is moved, so this method is preferable to
+     * {@code sort(a, Comparator.comparing(keyExtractor, keyComparator))} when
+     * extracting a key is expensive.  All keys must be <i>mutually
+     * comparable</i> by the specified comparator.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  elements with equal
+     * keys will not be reordered as a result of the sort.  If the key
+     * extractor throws an exception, the array is left unchanged.
+     *
+     * @implNote This implementation extracts the keys into a parallel array
+     * and sorts both arrays together with a stable mergesort.  It requires
+     * temporary storage for two times n keys and n object references.
+     *
+     * @param <T> the class of the objects to be sorted
+     * @param <U> the type of the sort keys
+     * @param a the array to be sorted
+     * @param keyExtractor the function used to extract the sort key of an
+     *        element
+     * @param keyComparator the comparator used to compare the sort keys.  A
+     *        {@code null} value indicates that the keys'
+     *        {@linkplain Comparable natural ordering} should be used.
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @throws ClassCastException if the keys are not <i>mutually
+     *         comparable</i> using the specified comparator
+     * @since 12
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> void sortByKey(T[] a,
+                                        Function<? super T, ? extends U> keyExtractor,
+                                        Comparator<? super U> keyComparator) {
+        Objects.requireNonNull(keyExtractor);
+        Comparator<Object> c = (keyComparator == null)
+            ? NaturalOrder.INSTANCE : (Comparator<Object>) keyComparator;
+        int n = a.length;
+        Object[] keys = new Object[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = keyExtractor.apply(a[i]);
+        mergeSortByKey(keys.clone(), a.clone(), keys, a, 0, n, c);
+    }
+
+    /**
+     * Sorts the specified array of objects into ascending order of the
+     * {@code int} keys extracted from the objects by the specified function.
+     * The key of each element is extracted exactly once, before any element
+     * is moved, and keys are compared without boxing.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  elements with equal
+     * keys will not be reordered as a result of the sort.  If the key
+     * extractor throws an exception, the array is left unchanged.
+     *
+     * @implNote This implementation packs each key together with the index
+     * of its element into a {@code long}, so that sorting the packed values
+     * with {@link #sort(long[])} orders them by key, then by index, and then
+     * moves the elements into place.  It requires temporary storage for n
+     * {@code long} values and n object references.
+     *
+     * @param <T> the class of the objects to be sorted
+     * @param a the array to be sorted
+     * @param keyExtractor the function used to extract the sort key of an
+     *        element
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @since 12
+     */
+    public static <T> void sortByIntKey(T[] a,
+                                        ToIntFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        int n = a.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++)
+            packed[i] = ((long) keyExtractor.applyAsInt(a[i]) << 32) | i;
+        DualPivotQuicksort.sort(packed, 0, n - 1, null, 0, 0);
+        T[] aux = a.clone();
+        for (int i = 0; i < n; i++)
+            a[i] = aux[(int) packed[i]];
+    }
+
+    /**
+     * Sorts the specified array of objects into ascending order of the
+     * {@code long} keys extracted from the objects by the specified function.
+     * The key of each element is extracted exactly once, before any element
+     * is moved, and keys are compared without boxing.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  elements with equal
+     * keys will not be reordered as a result of the sort.  If the key
+     * extractor throws an exception, the array is left unchanged.
+     *
+     * @implNote This implementation extracts the keys into a parallel array
+     * and sorts both arrays together with a stable mergesort.  It requires
+     * temporary storage for two times n {@code long} keys and n object
+     * references.
+     *
+     * @param <T> the class of the objects to be sorted
+     * @param a the array to be sorted
+     * @param keyExtractor the function used to extract the sort key of an
+     *        element
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @since 12
+     */
+    public static <T> void sortByLongKey(T[] a,
+                                         ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        int n = a.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = keyExtractor.applyAsLong(a[i]);
+        mergeSortByKey(keys.clone(), a.clone(), keys, a, 0, n);
+    }
+
+    /**
+     * Sorts dest[low, high) and the parallel values destValues[low, high)
+     * by key, using srcKeys and srcValues, which must initially hold the
+     * same contents, as workspace.  Like the legacy mergeSort, the halves
+     * are sorted into the workspace and then merged back into dest.
+     */
+    private static void mergeSortByKey(Object[] srcKeys, Object[] srcValues,
+                                       Object[] destKeys, Object[] destValues,
+                                       int low, int high,
+                                       Comparator<Object> c) {
+        int length = high - low;
+
+        // Insertion sort on smallest arrays
+        if (length < INSERTIONSORT_THRESHOLD) {
+            for (int i=low; i<high; i++)
+                for (int j=i; j>low && c.compare(destKeys[j-1], destKeys[j])>0; j--) {
+                    swap(destKeys, j, j-1);
+                    swap(destValues, j, j-1);
+                }
+            return;
+        }
+
+        // Recursively sort halves of dest into src
+        int mid = (low + high) >>> 1;
+        mergeSortByKey(destKeys, destValues, srcKeys, srcValues, low, mid, c);
+        mergeSortByKey(destKeys, destValues, srcKeys, srcValues, mid, high, c);
+
+        // If list is already sorted, just copy from src to dest.
+        if (c.compare(srcKeys[mid-1], srcKeys[mid]) <= 0) {
+            System.arraycopy(srcKeys, low, destKeys, low, length);
+            System.arraycopy(srcValues, low, destValues, low, length);
+            return;
+        }
+
+        // Merge sorted halves (now in src) into dest
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && c.compare(srcKeys[p], srcKeys[q]) <= 0) {
+                destKeys[i] = srcKeys[p];
+                destValues[i] = srcValues[p++];
+            } else {
+                destKeys[i] = srcKeys[q];
+                destValues[i] = srcValues[q++];
+            }
+        }
+    }
+
+    /**
+     * As mergeSortByKey above, for long keys.
+     */
+    private static void mergeSortByKey(long[] srcKeys, Object[] srcValues,
+                                       long[] destKeys, Object[] destValues,
+                                       int low, int high) {
+        int length = high - low;
+
+        // Insertion sort on smallest arrays
+        if (length < INSERTIONSORT_THRESHOLD) {
+            for (int i=low; i<high; i++)
+                for (int j=i; j>low && destKeys[j-1] > destKeys[j]; j--) {
+                    long k = destKeys[j];
+                    destKeys[j] = destKeys[j-1];
+                    destKeys[j-1] = k;
+                    swap(destValues, j, j-1);
+                }
+            return;
+        }
+
+        // Recursively sort halves of dest into src
+        int mid = (low + high) >>> 1;
+        mergeSortByKey(destKeys, destValues, srcKeys, srcValues, low, mid);
+        mergeSortByKey(destKeys, destValues, srcKeys, srcValues, mid, high);
+
+        // If list is already sorted, just copy from src to dest.
+        if (srcKeys[mid-1] <= srcKeys[mid]) {
+            System.arraycopy(srcKeys, low, destKeys, low, length);
+            System.arraycopy(srcValues, low, destValues, low, length);
+            return;
+        }
+
+        // Merge sorted halves (now in src) into dest
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && srcKeys[p] <= srcKeys[q]) {
+                destKeys[i] = srcKeys[p];
+                destValues[i] = srcValues[p++];
+            } else {
+                destKeys[i] = srcKeys[q];
+                destValues[i] = srcValues[q++];
+            }
+        }
+    }
+
     // Parallel prefix
 
     /**
@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package java.util;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel least-significant-digit radix sorts used by Arrays.parallelSort
+ * for large arrays of int, long, float and double.
+ *
+ * Each pass distributes the keys on one 8-bit digit, from the least
+ * to the most significant one, and is stable, so that after the last
+ * pass the keys are ordered.  A pass is performed in three steps:
+ *
+ *         1. The range is split into a fixed number of chunks and
+ *            the digit histogram of each chunk is computed in parallel.
+ *         2. The histograms are turned into starting offsets, ordered
+ *            first by digit and then by chunk, which keeps the pass
+ *            stable.  If all keys share the same digit the pass is a
+ *            no-op and is skipped, which is common for the high digits
+ *            of keys drawn from a small range.
+ *         3. Each chunk scatters its keys to the workspace array at
+ *            its offsets, again in parallel.
+ *
+ * Source and workspace arrays swap roles after each pass that is not
+ * skipped; the result is copied back to the main array at the end if
+ * it ended up in the workspace.
+ *
+ * Signed integers are ordered by flipping their sign bit. Floating point
+ * values are ordered by their raw bit patterns, with all bits of negative
+ * values inverted and the sign bit of positive values flipped, which
+ * orders -0.0 before 0.0 as Float.compare and Double.compare do.  NaNs
+ * are moved to the end of the range before sorting, as DualPivotQuicksort
+ * does, so that NaNs with the sign bit set are not placed first.
+ *
+ * Unlike the comparison sorts in ArraysParallelSortHelpers, the work
+ * done is linear in the length of the range but does not depend on its
+ * initial order, which makes these sorts faster only for large ranges
+ * whose elements are not already partially ordered; see the thresholds
+ * in Arrays and the isScrambled methods.
+ *
+ * The primitive class versions (FJInt... FJDouble) are identical to
+ * each other except for type declarations and key extraction.
+ */
+/*package*/ class ArraysParallelRadixSort {
+
+    /** The number of bits in a digit. */
+    static final int DIGIT_BITS = 8;
+
+    /** The number of distinct digits. */
+    static final int RADIX = 1 << DIGIT_BITS;
+
+    /** The mask of a digit. */
+    static final int DIGIT_MASK = RADIX - 1;
+
+    /**
+     * Returns the number of chunks a range of the given size is split
+     * into, a small multiple of the parallelism so that an uneven
+     * distribution of work between threads is smoothed out, but never
+     * less than {@code gran} elements per chunk.
+     */
+    static int chunks(int n, int parallelism, int gran) {
+        int c = parallelism << 2, m = n / gran;
+        return (c < m) ? c : (m > 0) ? m : 1;
+    }
+
+    /**
+     * Turns the per-chunk digit histograms in {@code counts} into
+     * starting offsets into the destination, ordered by digit, then
+     * by chunk. Returns false, leaving the histograms unchanged, if
+     * all {@code n} keys have the same digit so the pass can be skipped.
+     */
+    static boolean toOffsets(int[][] counts, int n) {
+        int chunks = counts.length;
+        for (int d = 0; d < RADIX; ++d) {
+            int total = 0;
+            for (int c = 0; c < chunks; ++c)
+                total += counts[c][d];
+            if (total == n)
+                return false;
+            if (total != 0)
+                break; // some other digit holds the remaining keys
+        }
+        int sum = 0;
+        for (int d = 0; d < RADIX; ++d) {
+            for (int c = 0; c < chunks; ++c) {
+                int[] cc = counts[c];
+                int k = cc[d];
+                cc[d] = sum;
+                sum += k;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The number of adjacent pairs sampled by the isScrambled methods.
+     */
+    static final int SAMPLE_SIZE = 256;
+
+    /**
+     * Returns true if the fraction of descending pairs among the given
+     * number of sampled pairs suggests a range without long ascending or
+     * descending runs. Ranges with such runs are left to the merge sort,
+     * whose leaf sorts detect and exploit them; a radix sort does the
+     * same amount of work whatever the initial order is.
+     */
+    static boolean scrambled(int descents, int samples) {
+        return descents > (samples >>> 3) && descents < samples - (samples >>> 3);
+    }
+
+    static boolean isScrambled(int[] a, int base, int size) {
+        int step = (size - 1) / SAMPLE_SIZE, descents = 0;
+        for (int i = base, k = 0; k < SAMPLE_SIZE; ++k, i += step)
+            if (a[i] > a[i + 1])
+                ++descents;
+        return scrambled(descents, SAMPLE_SIZE);
+    }
+
+    static boolean isScrambled(long[] a, int base, int size) {
+        int step = (size - 1) / SAMPLE_SIZE, descents = 0;
+        for (int i = base, k = 0; k < SAMPLE_SIZE; ++k, i += step)
+            if (a[i] > a[i + 1])
+                ++descents;
+        return scrambled(descents, SAMPLE_SIZE);
+    }
+
+    static boolean isScrambled(float[] a, int base, int size) {
+        int step = (size - 1) / SAMPLE_SIZE, descents = 0;
+        for (int i = base, k = 0; k < SAMPLE_SIZE; ++k, i += step)
+            if (a[i] > a[i + 1])
+                ++descents;
+        return scrambled(descents, SAMPLE_SIZE);
+    }
+
+    static boolean isScrambled(double[] a, int base, int size) {
+        int step = (size - 1) / SAMPLE_SIZE, descents = 0;
+        for (int i = base, k = 0; k < SAMPLE_SIZE; ++k, i += step)
+            if (a[i] > a[i + 1])
+                ++descents;
+        return scrambled(descents, SAMPLE_SIZE);
+    }
+
+    /** int support class */
+    static final class FJInt {
+        /**
+         * Sorts a[base, base + size) using w[0, size) as workspace.
+         */
+        static void sort(int[] a, int base, int size, int[] w, int chunks) {
+            int[][] counts = new int[chunks][RADIX];
+            int chunkSize = size / chunks + 1;
+            int[] src = a, dst = w;
+            int sb = base, db = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+                new Pass(src, sb, dst, db, size, chunkSize, shift,
+                         counts, 0, chunks, false).invoke();
+                if (toOffsets(counts, size)) {
+                    new Pass(src, sb, dst, db, size, chunkSize, shift,
+                             counts, 0, chunks, true).invoke();
+                    int[] t = src; src = dst; dst = t;
+                    int tb = sb; sb = db; db = tb;
+                }
+            }
+            if (src != a)
+                System.arraycopy(src, sb, a, base, size);
+        }
+
+        static final class Pass extends RecursiveAction {
+            static final long serialVersionUID = 2446542900576103244L;
+            final int[] src, dst;
+            final int srcBase, dstBase, size, chunkSize, shift, lo, hi;
+            final int[][] counts;
+            final boolean scatter;
+            Pass(int[] src, int srcBase, int[] dst, int dstBase, int size,
+                 int chunkSize, int shift, int[][] counts, int lo, int hi,
+                 boolean scatter) {
+                this.src = src; this.srcBase = srcBase;
+                this.dst = dst; this.dstBase = dstBase;
+                this.size = size; this.chunkSize = chunkSize;
+                this.shift = shift; this.counts = counts;
+                this.lo = lo; this.hi = hi; this.scatter = scatter;
+            }
+            protected final void compute() {
+                int lo = this.lo, hi = this.hi;
+                if (hi - lo > 1) {
+                    int mid = (lo + hi) >>> 1;
+                    invokeAll(new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, lo, mid,
+                                       scatter),
+                              new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, mid, hi,
+                                       scatter));
+                    return;
+                }
+                int[] a = this.src, w = this.dst, cnt = counts[lo];
+                int s = this.shift, db = this.dstBase;
+                int from = srcBase + (int)Math.min(size, (long)lo * chunkSize);
+                int to = srcBase + (int)Math.min(size, (long)(lo + 1) * chunkSize);
+                if (!scatter) {
+                    Arrays.fill(cnt, 0);
+                    for (int i = from; i < to; ++i)
+                        ++cnt[((a[i] ^ Integer.MIN_VALUE) >>> s) & DIGIT_MASK];
+                } else {
+                    for (int i = from; i < to; ++i) {
+                        int v = a[i];
+                        w[db + cnt[((v ^ Integer.MIN_VALUE) >>> s) & DIGIT_MASK]++] = v;
+                    }
+                }
+            }
+        }
+    }
+
+    /** long support class */
+    static final class FJLong {
+        /**
+         * Sorts a[base, base + size) using w[0, size) as workspace.
+         */
+        static void sort(long[] a, int base, int size, long[] w, int chunks) {
+            int[][] counts = new int[chunks][RADIX];
+            int chunkSize = size / chunks + 1;
+            long[] src = a, dst = w;
+            int sb = base, db = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+                new Pass(src, sb, dst, db, size, chunkSize, shift,
+                         counts, 0, chunks, false).invoke();
+                if (toOffsets(counts, size)) {
+                    new Pass(src, sb, dst, db, size, chunkSize, shift,
+                             counts, 0, chunks, true).invoke();
+                    long[] t = src; src = dst; dst = t;
+                    int tb = sb; sb = db; db = tb;
+                }
+            }
+            if (src != a)
+                System.arraycopy(src, sb, a, base, size);
+        }
+
+        static final class Pass extends RecursiveAction {
+            static final long serialVersionUID = 2446542900576103244L;
+            final long[] src, dst;
+            final int srcBase, dstBase, size, chunkSize, shift, lo, hi;
+            final int[][] counts;
+            final boolean scatter;
+            Pass(long[] src, int srcBase, long[] dst, int dstBase, int size,
+                 int chunkSize, int shift, int[][] counts, int lo, int hi,
+                 boolean scatter) {
+                this.src = src; this.srcBase = srcBase;
+                this.dst = dst; this.dstBase = dstBase;
+                this.size = size; this.chunkSize = chunkSize;
+                this.shift = shift; this.counts = counts;
+                this.lo = lo; this.hi = hi; this.scatter = scatter;
+            }
+            protected final void compute() {
+                int lo = this.lo, hi = this.hi;
+                if (hi - lo > 1) {
+                    int mid = (lo + hi) >>> 1;
+                    invokeAll(new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, lo, mid,
+                                       scatter),
+                              new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, mid, hi,
+                                       scatter));
+                    return;
+                }
+                long[] a = this.src, w = this.dst;
+                int[] cnt = counts[lo];
+                int s = this.shift, db = this.dstBase;
+                int from = srcBase + (int)Math.min(size, (long)lo * chunkSize);
+                int to = srcBase + (int)Math.min(size, (long)(lo + 1) * chunkSize);
+                if (!scatter) {
+                    Arrays.fill(cnt, 0);
+                    for (int i = from; i < to; ++i)
+                        ++cnt[(int)((a[i] ^ Long.MIN_VALUE) >>> s) & DIGIT_MASK];
+                } else {
+                    for (int i = from; i < to; ++i) {
+                        long v = a[i];
+                        w[db + cnt[(int)((v ^ Long.MIN_VALUE) >>> s) & DIGIT_MASK]++] = v;
+                    }
+                }
+            }
+        }
+    }
+
+    /** float support class */
+    static final class FJFloat {
+        /**
+         * Sorts a[base, base + size) using w[0, size) as workspace.
+         */
+        static void sort(float[] a, int base, int size, float[] w, int chunks) {
+            /*
+             * Move NaNs to the end of the range, they are not sorted.
+             */
+            int right = base + size - 1;
+            while (right >= base && Float.isNaN(a[right])) {
+                --right;
+            }
+            for (int k = right; --k >= base; ) {
+                float ak = a[k];
+                if (ak != ak) { // a[k] is NaN
+                    a[k] = a[right];
+                    a[right] = ak;
+                    --right;
+                }
+            }
+            size = right - base + 1;
+
+            int[][] counts = new int[chunks][RADIX];
+            int chunkSize = size / chunks + 1;
+            float[] src = a, dst = w;
+            int sb = base, db = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+                new Pass(src, sb, dst, db, size, chunkSize, shift,
+                         counts, 0, chunks, false).invoke();
+                if (toOffsets(counts, size)) {
+                    new Pass(src, sb, dst, db, size, chunkSize, shift,
+                             counts, 0, chunks, true).invoke();
+                    float[] t = src; src = dst; dst = t;
+                    int tb = sb; sb = db; db = tb;
+                }
+            }
+            if (src != a)
+                System.arraycopy(src, sb, a, base, size);
+        }
+
+        /**
+         * Returns the raw bits of v transformed so that their unsigned
+         * order is the order of Float.compare.
+         */
+        static int key(float v) {
+            int bits = Float.floatToRawIntBits(v);
+            return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+        }
+
+        static final class Pass extends RecursiveAction {
+            static final long serialVersionUID = 2446542900576103244L;
+            final float[] src, dst;
+            final int srcBase, dstBase, size, chunkSize, shift, lo, hi;
+            final int[][] counts;
+            final boolean scatter;
+            Pass(float[] src, int srcBase, float[] dst, int dstBase, int size,
+                 int chunkSize, int shift, int[][] counts, int lo, int hi,
+                 boolean scatter) {
+                this.src = src; this.srcBase = srcBase;
+                this.dst = dst; this.dstBase = dstBase;
+                this.size = size; this.chunkSize = chunkSize;
+                this.shift = shift; this.counts = counts;
+                this.lo = lo; this.hi = hi; this.scatter = scatter;
+            }
+            protected final void compute() {
+                int lo = this.lo, hi = this.hi;
+                if (hi - lo > 1) {
+                    int mid = (lo + hi) >>> 1;
+                    invokeAll(new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, lo, mid,
+                                       scatter),
+                              new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, mid, hi,
+                                       scatter));
+                    return;
+                }
+                float[] a = this.src, w = this.dst;
+                int[] cnt = counts[lo];
+                int s = this.shift, db = this.dstBase;
+                int from = srcBase + (int)Math.min(size, (long)lo * chunkSize);
+                int to = srcBase + (int)Math.min(size, (long)(lo + 1) * chunkSize);
+                if (!scatter) {
+                    Arrays.fill(cnt, 0);
+                    for (int i = from; i < to; ++i)
+                        ++cnt[(key(a[i]) >>> s) & DIGIT_MASK];
+                } else {
+                    for (int i = from; i < to; ++i) {
+                        float v = a[i];
+                        w[db + cnt[(key(v) >>> s) & DIGIT_MASK]++] = v;
+                    }
+                }
+            }
+        }
+    }
+
+    /** double support class */
+    static final class FJDouble {
+        /**
+         * Sorts a[base, base + size) using w[0, size) as workspace.
+         */
+        static void sort(double[] a, int base, int size, double[] w, int chunks) {
+            /*
+             * Move NaNs to the end of the range, they are not sorted.
+             */
+            int right = base + size - 1;
+            while (right >= base && Double.isNaN(a[right])) {
+                --right;
+            }
+            for (int k = right; --k >= base; ) {
+                double ak = a[k];
+                if (ak != ak) { // a[k] is NaN
+                    a[k] = a[right];
+                    a[right] = ak;
+                    --right;
+                }
+            }
+            size = right - base + 1;
+
+            int[][] counts = new int[chunks][RADIX];
+            int chunkSize = size / chunks + 1;
+            double[] src = a, dst = w;
+            int sb = base, db = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+                new Pass(src, sb, dst, db, size, chunkSize, shift,
+                         counts, 0, chunks, false).invoke();
+                if (toOffsets(counts, size)) {
+                    new Pass(src, sb, dst, db, size, chunkSize, shift,
+                             counts, 0, chunks, true).invoke();
+                    double[] t = src; src = dst; dst = t;
+                    int tb = sb; sb = db; db = tb;
+                }
+            }
+            if (src != a)
+                System.arraycopy(src, sb, a, base, size);
+        }
+
+        /**
+         * Returns the raw bits of v transformed so that their unsigned
+         * order is the order of Double.compare.
+         */
+        static long key(double v) {
+            long bits = Double.doubleToRawLongBits(v);
+            return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+
+        static final class Pass extends RecursiveAction {
+            static final long serialVersionUID = 2446542900576103244L;
+            final double[] src, dst;
+            final int srcBase, dstBase, size, chunkSize, shift, lo, hi;
+            final int[][] counts;
+            final boolean scatter;
+            Pass(double[] src, int srcBase, double[] dst, int dstBase, int size,
+                 int chunkSize, int shift, int[][] counts, int lo, int hi,
+                 boolean scatter) {
+                this.src = src; this.srcBase = srcBase;
+                this.dst = dst; this.dstBase = dstBase;
+                this.size = size; this.chunkSize = chunkSize;
+                this.shift = shift; this.counts = counts;
+                this.lo = lo; this.hi = hi; this.scatter = scatter;
+            }
+            protected final void compute() {
+                int lo = this.lo, hi = this.hi;
+                if (hi - lo > 1) {
+                    int mid = (lo + hi) >>> 1;
+                    invokeAll(new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, lo, mid,
+                                       scatter),
+                              new Pass(src, srcBase, dst, dstBase, size,
+                                       chunkSize, shift, counts, mid, hi,
+                                       scatter));
+                    return;
+                }
+                double[] a = this.src, w = this.dst;
+                int[] cnt = counts[lo];
+                int s = this.shift, db = this.dstBase;
+                int from = srcBase + (int)Math.min(size, (long)lo * chunkSize);
+                int to = srcBase + (int)Math.min(size, (long)(lo + 1) * chunkSize);
+                if (!scatter) {
+                    Arrays.fill(cnt, 0);
+                    for (int i = from; i < to; ++i)
+                        ++cnt[(int)(key(a[i]) >>> s) & DIGIT_MASK];
+                } else {
+                    for (int i = from; i < to; ++i) {
+                        double v = a[i];
+                        w[db + cnt[(int)(key(v) >>> s) & DIGIT_MASK]++] = v;
+                    }
+                }
+            }
+        }
+    }
+}
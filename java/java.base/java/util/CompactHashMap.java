@@ -0,0 +1,1044 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import jdk.internal.access.SharedSecrets;
+
+/**
+ * Hash table based implementation of the {@code Map} interface that stores
+ * its keys and values directly in arrays, without allocating an entry object
+ * per mapping.  This class is a drop-in alternative to {@link HashMap} for
+ * maps holding large numbers of small mappings, where the per-entry node
+ * objects of {@code HashMap} dominate the footprint of the map.
+ *
+ * <p>This class provides all of the optional map operations, and permits
+ * {@code null} values and the {@code null} key.  Like {@code HashMap}, it
+ * compares keys using their {@code equals} and {@code hashCode} methods.
+ * This class makes no guarantees as to the order of the map; in particular,
+ * it does not guarantee that the order will remain constant over time.
+ *
+ * <p>This class provides constant-time performance for the basic operations
+ * ({@code get} and {@code put}), assuming the hash function disperses the
+ * elements properly.  Unlike {@code HashMap}, it does not degrade gracefully
+ * when many keys have equal hash codes, because colliding mappings are not
+ * kept in balanced trees; it should not be used with keys whose hash codes
+ * may be chosen by an adversary.
+ *
+ * <p>This class has one tuning parameter (which affects performance but not
+ * semantics): <i>expected maximum size</i>.  This parameter is the maximum
+ * number of key-value mappings that the map is expected to hold.  Internally,
+ * this parameter is used to determine the number of slots initially
+ * comprising the hash table.  The precise relationship between the expected
+ * maximum size and the number of slots is unspecified.  If the size of the
+ * map exceeds the expected maximum size, the number of slots is increased.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * If multiple threads access a compact hash map concurrently, and at least
+ * one of the threads modifies the map structurally, it <i>must</i> be
+ * synchronized externally.  (A structural modification is any operation
+ * that adds or deletes one or more mappings; merely changing the value
+ * associated with a key that an instance already contains is not a
+ * structural modification.)  This is typically accomplished by
+ * synchronizing on some object that naturally encapsulates the map.
+ *
+ * If no such object exists, the map should be "wrapped" using the
+ * {@link Collections#synchronizedMap Collections.synchronizedMap}
+ * method.  This is best done at creation time, to prevent accidental
+ * unsynchronized access to the map:<pre>
+ *   Map m = Collections.synchronizedMap(new CompactHashMap(...));</pre>
+ *
+ * <p>The iterators returned by the {@code iterator} method of the
+ * collections returned by all of this class's "collection view
+ * methods" are <i>fail-fast</i>: if the map is structurally modified
+ * at any time after the iterator is created, in any way except
+ * through the iterator's own {@code remove} method, the iterator
+ * will throw a {@link ConcurrentModificationException}.  Thus, in the
+ * face of concurrent modification, the iterator fails quickly and
+ * cleanly, rather than risking arbitrary, non-deterministic behavior
+ * at an undetermined time in the future.
+ *
+ * <p>Note that the fail-fast behavior of an iterator cannot be guaranteed
+ * as it is, generally speaking, impossible to make any hard guarantees in the
+ * presence of unsynchronized concurrent modification.  Fail-fast iterators
+ * throw {@code ConcurrentModificationException} on a best-effort basis.
+ * Therefore, it would be wrong to write a program that depended on this
+ * exception for its correctness: <i>fail-fast iterators should be used only
+ * to detect bugs.</i>
+ *
+ * <p>Implementation note: This is an <i>open-addressing</i> hash table
+ * with separate arrays of keys and values, and a third array holding one
+ * byte of metadata per slot.  Slots are grouped by eight, and the metadata
+ * bytes of a group are packed into a single {@code long}, so that a lookup
+ * compares seven bits of the hash code of the key against all slots of a
+ * group at once with a few word-wide arithmetic operations, and compares
+ * keys with {@code equals} only in the rare slots whose bits match.
+ * Groups are probed quadratically.  With a maximum load factor of 7/8, a
+ * mapping takes between about 9 and 18 bytes of table space with compressed
+ * references, compared to a 32-byte node plus a table slot for
+ * {@code HashMap}.
+ *
+ * <p>This class is a member of the
+ * <a href="{@docRoot}/java.base/java/util/package-summary.html#CollectionsFramework">
+ * Java Collections Framework</a>.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @see     Object#hashCode()
+ * @see     Collection
+ * @see     Map
+ * @see     HashMap
+ * @since   12
+ */
+public class CompactHashMap<K,V>
+    extends AbstractMap<K,V>
+    implements Map<K,V>, java.io.Serializable, Cloneable
+{
+    /*
+     * Implementation notes.
+     *
+     * The table consists of ctrl.length groups of GROUP_SIZE slots.
+     * The metadata ("control") byte of slot i is byte (i & 7) of
+     * ctrl[i >>> 3], and is one of:
+     *
+     *   EMPTY     0b1000_0000  the slot has never held a mapping
+     *   DELETED   0b1111_1110  the slot held a mapping that was removed
+     *   full      0b0hhh_hhhh  the slot holds a mapping, with hhh_hhhh
+     *                          the low seven bits (h2) of its hash
+     *
+     * The remaining bits of the hash (h1) select the first group to probe.
+     * Lookups visit groups in the triangular sequence h1, h1 + 1, h1 + 3,
+     * h1 + 6, ..., which visits every group when the number of groups is a
+     * power of two, and stop at the first group containing an EMPTY slot.
+     * Matching slots of a group are found using the usual SWAR tricks
+     * (see matchByte and matchEmpty); matchByte may report false positives
+     * in bytes above a true match, which are weeded out by the comparison
+     * of keys.
+     *
+     * The probe-stopping rule implies that a slot can only be made EMPTY
+     * on removal if its group already contains an EMPTY slot, otherwise
+     * it becomes DELETED. DELETED slots are reused by insertions. The
+     * number of EMPTY slots that may still be filled before the load
+     * factor is exceeded is tracked in growthLeft; when it reaches zero
+     * the table is rebuilt, doubling its size unless enough of its slots
+     * are DELETED.
+     *
+     * The null key is stored as NULL_KEY, as IdentityHashMap does.
+     */
+
+    /**
+     * The number of slots in a group, the number of bytes in a long.
+     */
+    private static final int GROUP_SIZE = 8;
+
+    /**
+     * The control byte of a slot that has never held a mapping.
+     */
+    private static final int EMPTY = 0x80;
+
+    /**
+     * The control byte of a slot whose mapping was removed.
+     */
+    private static final int DELETED = 0xFE;
+
+    /** A group of EMPTY slots. */
+    private static final long EMPTY_GROUP = 0x8080808080808080L;
+
+    /** The least significant bit of each byte in a group. */
+    private static final long LSBS = 0x0101010101010101L;
+
+    /** The most significant bit of each byte in a group. */
+    private static final long MSBS = 0x8080808080808080L;
+
+    /**
+     * The initial number of groups used by the no-args constructor.
+     * MUST be a power of two.  The value 2 corresponds to an expected
+     * maximum size of 14, given a load factor of 7/8.
+     */
+    private static final int DEFAULT_GROUPS = 2;
+
+    /**
+     * The maximum number of groups, used if a higher value is implicitly
+     * specified by either of the constructors with arguments.
+     * MUST be a power of two <= 1<<27, so that the number of slots fits
+     * in the keys and vals arrays.
+     */
+    private static final int MAXIMUM_GROUPS = 1 << 27;
+
+    /**
+     * The control bytes, one group of eight slots per element. Length
+     * MUST always be a power of two.
+     */
+    transient long[] ctrl; // non-private to simplify nested class access
+
+    /**
+     * The keys, with the null key masked as NULL_KEY.
+     */
+    transient Object[] keys; // non-private to simplify nested class access
+
+    /**
+     * The values.
+     */
+    transient Object[] vals; // non-private to simplify nested class access
+
+    /**
+     * The number of key-value mappings contained in this map.
+     *
+     * @serial
+     */
+    int size;
+
+    /**
+     * The number of EMPTY slots that can be filled before the table
+     * must be rebuilt.
+     */
+    transient int growthLeft;
+
+    /**
+     * The number of modifications, to support fast-fail iterators
+     */
+    transient int modCount;
+
+    /**
+     * Value representing null keys inside tables.
+     */
+    static final Object NULL_KEY = new Object();
+
+    /**
+     * Use NULL_KEY for key if it is null.
+     */
+    private static Object maskNull(Object key) {
+        return (key == null ? NULL_KEY : key);
+    }
+
+    /**
+     * Returns internal representation of null key back to caller as null.
+     */
+    static final Object unmaskNull(Object key) {
+        return (key == NULL_KEY ? null : key);
+    }
+
+    /**
+     * Constructs a new, empty compact hash map with a default expected
+     * maximum size (14).
+     */
+    public CompactHashMap() {
+        init(DEFAULT_GROUPS);
+    }
+
+    /**
+     * Constructs a new, empty map with the specified expected maximum size.
+     * Putting more than the expected number of key-value mappings into
+     * the map may cause the internal data structure to grow, which may be
+     * somewhat time-consuming.
+     *
+     * @param expectedMaxSize the expected maximum size of the map
+     * @throws IllegalArgumentException if {@code expectedMaxSize} is negative
+     */
+    public CompactHashMap(int expectedMaxSize) {
+        if (expectedMaxSize < 0)
+            throw new IllegalArgumentException("expectedMaxSize is negative: "
+                                               + expectedMaxSize);
+        init(groups(expectedMaxSize));
+    }
+
+    /**
+     * Constructs a new compact hash map containing the key-value mappings
+     * in the specified map.
+     *
+     * @param m the map whose mappings are to be placed into this map
+     * @throws NullPointerException if the specified map is null
+     */
+    public CompactHashMap(Map<? extends K, ? extends V> m) {
+        // Allow for a bit of growth
+        this((int) ((1 + m.size()) * 1.1));
+        putAll(m);
+    }
+
+    /**
+     * Returns the appropriate number of groups for the given expected
+     * maximum size.  Returns the smallest power of two such that seven
+     * eighths of its slots hold the expected maximum size, clamped to
+     * between 1 and MAXIMUM_GROUPS.
+     */
+    private static int groups(int expectedMaxSize) {
+        // Compute min groups for expectedMaxSize given a load factor of 7/8
+        long minSlots = ((long) expectedMaxSize * 8 + 6) / 7;
+        long minGroups = (minSlots + GROUP_SIZE - 1) / GROUP_SIZE;
+        return
+            (minGroups > MAXIMUM_GROUPS) ? MAXIMUM_GROUPS :
+            (minGroups <= 1) ? 1 :
+            Integer.highestOneBit((int) minGroups - 1) << 1;
+    }
+
+    /**
+     * Initializes object to be an empty map with the specified number of
+     * groups, which is assumed to be a power of two.
+     */
+    private void init(int groups) {
+        long[] c = new long[groups];
+        Arrays.fill(c, EMPTY_GROUP);
+        ctrl = c;
+        int slots = groups * GROUP_SIZE;
+        keys = new Object[slots];
+        vals = new Object[slots];
+        growthLeft = maxLoad(slots) - size;
+    }
+
+    /**
+     * Returns the number of mappings that a table of the given number
+     * of slots may hold.
+     */
+    private static int maxLoad(int slots) {
+        return slots - (slots >>> 3);
+    }
+
+    /**
+     * Returns the spread hash code of the given masked key.  The low
+     * seven bits are stored in the control byte of its slot, the others
+     * select the first group to probe.
+     */
+    static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9; // golden ratio multiplier
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns a word whose most significant bit is set in each byte
+     * of the group that may be equal to b. Bytes above a byte equal
+     * to b may be reported as false positives.
+     */
+    static long matchByte(long group, int b) {
+        long x = group ^ (LSBS * b);
+        return (x - LSBS) & ~x & MSBS;
+    }
+
+    /**
+     * Returns a word whose most significant bit is set in each byte
+     * of the group that is EMPTY.
+     */
+    static long matchEmpty(long group) {
+        return group & ~(group << 6) & MSBS;
+    }
+
+    /**
+     * Returns a word whose most significant bit is set in each byte
+     * of the group that is EMPTY or DELETED.
+     */
+    static long matchFree(long group) {
+        return group & MSBS;
+    }
+
+    /**
+     * Returns the index within its group of the lowest byte whose
+     * most significant bit is set in the given match word.
+     */
+    static int lowestMatch(long match) {
+        return Long.numberOfTrailingZeros(match) >>> 3;
+    }
+
+    /**
+     * Returns the control byte of the given slot.
+     */
+    static int ctrlAt(long[] ctrl, int slot) {
+        return (int) (ctrl[slot >>> 3] >>> ((slot & 7) << 3)) & 0xFF;
+    }
+
+    /**
+     * Sets the control byte of the given slot.
+     */
+    static void setCtrl(long[] ctrl, int slot, int b) {
+        int g = slot >>> 3, shift = (slot & 7) << 3;
+        ctrl[g] = (ctrl[g] & ~(0xFFL << shift)) | ((long) b << shift);
+    }
+
+    /**
+     * Returns the slot holding the given masked key, or -1 if none.
+     */
+    private int find(Object k) {
+        long[] c = ctrl;
+        Object[] ks = keys;
+        int h = hash(k), h2 = h & 0x7F, mask = c.length - 1;
+        for (int g = (h >>> 7) & mask, step = 1; ; g = (g + step++) & mask) {
+            long group = c[g];
+            for (long m = matchByte(group, h2); m != 0; m &= m - 1) {
+                int i = (g << 3) + lowestMatch(m);
+                Object item = ks[i];
+                if (item == k || (item != null && item.equals(k)))
+                    return i;
+            }
+            if (matchEmpty(group) != 0)
+                return -1;
+        }
+    }
+
+    /**
+     * Returns the first EMPTY or DELETED slot in the probe sequence
+     * of a key with the given hash.
+     */
+    private static int findFree(long[] c, int h) {
+        int mask = c.length - 1;
+        for (int g = (h >>> 7) & mask, step = 1; ; g = (g + step++) & mask) {
+            long m = matchFree(c[g]);
+            if (m != 0)
+                return (g << 3) + lowestMatch(m);
+        }
+    }
+
+    /**
+     * Returns the number of key-value mappings in this compact hash map.
+     *
+     * @return the number of key-value mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this compact hash map contains no key-value
+     * mappings.
+     *
+     * @return {@code true} if this compact hash map contains no key-value
+     *         mappings
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped,
+     * or {@code null} if this map contains no mapping for the key.
+     *
+     * <p>More formally, if this map contains a mapping from a key
+     * {@code k} to a value {@code v} such that {@code (key==null ? k==null :
+     * key.equals(k))}, then this method returns {@code v}; otherwise
+     * it returns {@code null}.  (There can be at most one such mapping.)
+     *
+     * <p>A return value of {@code null} does not <i>necessarily</i>
+     * indicate that the map contains no mapping for the key; it's also
+     * possible that the map explicitly maps the key to {@code null}.
+     * The {@link #containsKey containsKey} operation may be used to
+     * distinguish these two cases.
+     *
+     * @see #put(Object, Object)
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int i = find(maskNull(key));
+        return (i < 0) ? null : (V) vals[i];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int i = find(maskNull(key));
+        return (i < 0) ? defaultValue : (V) vals[i];
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the
+     * specified key.
+     *
+     * @param   key   The key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified
+     *         key.
+     */
+    public boolean containsKey(Object key) {
+        return find(maskNull(key)) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this map maps one or more keys to the
+     * specified value.
+     *
+     * @param value value whose presence in this map is to be tested
+     * @return {@code true} if this map maps one or more keys to the
+     *         specified value
+     */
+    public boolean containsValue(Object value) {
+        Object[] ks = keys, vs = vals;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != null && Objects.equals(vs[i], value))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old
+     * value is replaced.
+     *
+     * @param key the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}.
+     *         (A {@code null} return can also indicate that the map
+     *         previously associated {@code null} with {@code key}.)
+     * @see     Object#equals(Object)
+     * @see     #get(Object)
+     * @see     #containsKey(Object)
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Object k = maskNull(key);
+        int i = find(k);
+        if (i >= 0) {
+            V oldValue = (V) vals[i];
+            vals[i] = value;
+            return oldValue;
+        }
+        insert(k, value);
+        return null;
+    }
+
+    /**
+     * Adds a mapping for a masked key known to be absent.
+     */
+    private void insert(Object k, Object value) {
+        int h = hash(k);
+        int i = findFree(ctrl, h);
+        if (growthLeft == 0 && ctrlAt(ctrl, i) == EMPTY) {
+            rehash(size + 1);
+            i = findFree(ctrl, h);
+        }
+        if (ctrlAt(ctrl, i) == EMPTY)
+            growthLeft--;
+        setCtrl(ctrl, i, h & 0x7F);
+        keys[i] = k;
+        vals[i] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Rebuilds the table so that it can hold at least the given number
+     * of mappings, dropping all DELETED slots.  The table keeps its size
+     * if the mappings then fill at most half of its load, which is the
+     * case when most of the slots that exhausted growthLeft are DELETED;
+     * otherwise it at least doubles.
+     */
+    private void rehash(int minSize) {
+        long[] oldCtrl = ctrl;
+        Object[] oldKeys = keys, oldVals = vals;
+        int groups = oldCtrl.length;
+        if (minSize > maxLoad(groups * GROUP_SIZE) >>> 1) {
+            if (groups == MAXIMUM_GROUPS) {
+                if (minSize > maxLoad(groups * GROUP_SIZE))
+                    throw new IllegalStateException("Capacity exhausted.");
+            } else {
+                groups = Math.max(groups << 1, groups(minSize));
+            }
+        }
+        long[] c = new long[groups];
+        Arrays.fill(c, EMPTY_GROUP);
+        Object[] ks = new Object[groups * GROUP_SIZE];
+        Object[] vs = new Object[groups * GROUP_SIZE];
+        for (int j = 0; j < oldKeys.length; j++) {
+            Object k = oldKeys[j];
+            if (k != null) {
+                int h = hash(k);
+                int i = findFree(c, h);
+                setCtrl(c, i, h & 0x7F);
+                ks[i] = k;
+                vs[i] = oldVals[j];
+            }
+        }
+        ctrl = c;
+        keys = ks;
+        vals = vs;
+        growthLeft = maxLoad(ks.length) - size;
+    }
+
+    /**
+     * Copies all of the mappings from the specified map to this map.
+     * These mappings will replace any mappings that this map had for
+     * any of the keys currently in the specified map.
+     *
+     * @param m mappings to be stored in this map
+     * @throws NullPointerException if the specified map is null
+     */
+    public void putAll(Map<? extends K, ? extends V> m) {
+        int n = m.size();
+        if (n == 0)
+            return;
+        if (n > maxLoad(keys.length))
+            rehash(n); // conservatively pre-expand
+
+        for (Entry<? extends K, ? extends V> e : m.entrySet())
+            put(e.getKey(), e.getValue());
+    }
+
+    /**
+     * Removes the mapping for this key from this map if present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}.
+     *         (A {@code null} return can also indicate that the map
+     *         previously associated {@code null} with {@code key}.)
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int i = find(maskNull(key));
+        if (i < 0)
+            return null;
+        V oldValue = (V) vals[i];
+        removeAt(i);
+        return oldValue;
+    }
+
+    /**
+     * Removes the mapping in the given full slot.
+     */
+    void removeAt(int i) {
+        long[] c = ctrl;
+        if (matchEmpty(c[i >>> 3]) != 0) {
+            setCtrl(c, i, EMPTY);
+            growthLeft++;
+        } else {
+            setCtrl(c, i, DELETED);
+        }
+        keys[i] = null;
+        vals[i] = null;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Removes all of the mappings from this map.
+     * The map will be empty after this call returns.
+     */
+    public void clear() {
+        modCount++;
+        Arrays.fill(ctrl, EMPTY_GROUP);
+        Arrays.fill(keys, null);
+        Arrays.fill(vals, null);
+        size = 0;
+        growthLeft = maxLoad(keys.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(K key, V value) {
+        Object k = maskNull(key);
+        int i = find(k);
+        if (i >= 0) {
+            V v = (V) vals[i];
+            if (v != null)
+                return v;
+            vals[i] = value;
+            return null;
+        }
+        insert(k, value);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+
+        Object[] ks = keys, vs = vals;
+        for (int i = 0; i < ks.length; i++) {
+            Object k = ks[i];
+            if (k != null) {
+                action.accept((K) unmaskNull(k), (V) vs[i]);
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        Objects.requireNonNull(function);
+        int expectedModCount = modCount;
+
+        Object[] ks = keys, vs = vals;
+        for (int i = 0; i < ks.length; i++) {
+            Object k = ks[i];
+            if (k != null) {
+                vs[i] = function.apply((K) unmaskNull(k), (V) vs[i]);
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Returns a shallow copy of this compact hash map: the keys and values
+     * themselves are not cloned.
+     *
+     * @return a shallow copy of this map
+     */
+    public Object clone() {
+        try {
+            @SuppressWarnings("unchecked")
+            CompactHashMap<K,V> m = (CompactHashMap<K,V>) super.clone();
+            m.entrySet = null;
+            m.ctrl = ctrl.clone();
+            m.keys = keys.clone();
+            m.vals = vals.clone();
+            return m;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    private abstract class CompactHashMapIterator<T> implements Iterator<T> {
+        int index = (size != 0 ? 0 : keys.length); // current slot.
+        int expectedModCount = modCount; // to support fast-fail
+        int lastReturnedIndex = -1;      // to allow remove()
+
+        public boolean hasNext() {
+            Object[] ks = keys;
+            for (int i = index; i < ks.length; i++) {
+                if (ks[i] != null) {
+                    index = i;
+                    return true;
+                }
+            }
+            index = ks.length;
+            return false;
+        }
+
+        protected int nextIndex() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            lastReturnedIndex = index++;
+            return lastReturnedIndex;
+        }
+
+        public void remove() {
+            if (lastReturnedIndex == -1)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+
+            // Removal leaves all other mappings in place, so the
+            // traversal simply continues with the next slot.
+            removeAt(lastReturnedIndex);
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private class KeyIterator extends CompactHashMapIterator<K> {
+        @SuppressWarnings("unchecked")
+        public K next() {
+            return (K) unmaskNull(keys[nextIndex()]);
+        }
+    }
+
+    private class ValueIterator extends CompactHashMapIterator<V> {
+        @SuppressWarnings("unchecked")
+        public V next() {
+            return (V) vals[nextIndex()];
+        }
+    }
+
+    private class EntryIterator
+        extends CompactHashMapIterator<Map.Entry<K,V>>
+    {
+        public Map.Entry<K,V> next() {
+            return new Entry(nextIndex());
+        }
+
+        /**
+         * An entry backed by the slot it was returned from.  If the
+         * table has been rebuilt since, setValue writes through the map.
+         */
+        private class Entry implements Map.Entry<K,V> {
+            private final Object[] table;
+            private final int index;
+            private final Object key;
+
+            private Entry(int index) {
+                this.table = keys;
+                this.index = index;
+                this.key = keys[index];
+            }
+
+            @SuppressWarnings("unchecked")
+            public K getKey() {
+                return (K) unmaskNull(key);
+            }
+
+            @SuppressWarnings("unchecked")
+            public V getValue() {
+                if (table == keys && keys[index] == key)
+                    return (V) vals[index];
+                return get(unmaskNull(key));
+            }
+
+            @SuppressWarnings("unchecked")
+            public V setValue(V value) {
+                if (table == keys && keys[index] == key) {
+                    V oldValue = (V) vals[index];
+                    vals[index] = value;
+                    return oldValue;
+                }
+                return put((K) unmaskNull(key), value);
+            }
+
+            public boolean equals(Object o) {
+                if (!(o instanceof Map.Entry))
+                    return false;
+                Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+                return Objects.equals(e.getKey(), getKey()) &&
+                       Objects.equals(e.getValue(), getValue());
+            }
+
+            public int hashCode() {
+                return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+            }
+
+            public String toString() {
+                return getKey() + "=" + getValue();
+            }
+        }
+    }
+
+    // Views
+
+    /**
+     * This field is initialized to contain an instance of the entry set
+     * view the first time this view is requested.  The view is stateless,
+     * so there's no reason to create more than one.
+     */
+    private transient Set<Map.Entry<K,V>> entrySet;
+
+    /**
+     * Returns a {@link Set} view of the keys contained in this map.
+     * The set is backed by the map, so changes to the map are
+     * reflected in the set, and vice-versa.  If the map is modified
+     * while an iteration over the set is in progress (except through
+     * the iterator's own {@code remove} operation), the results of
+     * the iteration are undefined.  The set supports element removal,
+     * which removes the corresponding mapping from the map, via the
+     * {@code Iterator.remove}, {@code Set.remove},
+     * {@code removeAll}, {@code retainAll}, and {@code clear}
+     * operations.  It does not support the {@code add} or {@code addAll}
+     * operations.
+     *
+     * @return a set view of the keys contained in this map
+     */
+    public Set<K> keySet() {
+        Set<K> ks = keySet;
+        if (ks == null) {
+            ks = new KeySet();
+            keySet = ks;
+        }
+        return ks;
+    }
+
+    private class KeySet extends AbstractSet<K> {
+        public Iterator<K> iterator() {
+            return new KeyIterator();
+        }
+        public int size() {
+            return size;
+        }
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+        public boolean remove(Object o) {
+            int i = find(maskNull(o));
+            if (i < 0)
+                return false;
+            removeAt(i);
+            return true;
+        }
+        public void clear() {
+            CompactHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Returns a {@link Collection} view of the values contained in this map.
+     * The collection is backed by the map, so changes to the map are
+     * reflected in the collection, and vice-versa.  If the map is
+     * modified while an iteration over the collection is in progress
+     * (except through the iterator's own {@code remove} operation),
+     * the results of the iteration are undefined.  The collection
+     * supports element removal, which removes the corresponding
+     * mapping from the map, via the {@code Iterator.remove},
+     * {@code Collection.remove}, {@code removeAll},
+     * {@code retainAll} and {@code clear} operations.  It does not
+     * support the {@code add} or {@code addAll} operations.
+     *
+     * @return a view of the values contained in this map
+     */
+    public Collection<V> values() {
+        Collection<V> vs = values;
+        if (vs == null) {
+            vs = new Values();
+            values = vs;
+        }
+        return vs;
+    }
+
+    private class Values extends AbstractCollection<V> {
+        public Iterator<V> iterator() {
+            return new ValueIterator();
+        }
+        public int size() {
+            return size;
+        }
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+        public void clear() {
+            CompactHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Returns a {@link Set} view of the mappings contained in this map.
+     * The set is backed by the map, so changes to the map are
+     * reflected in the set, and vice-versa.  If the map is modified
+     * while an iteration over the set is in progress (except through
+     * the iterator's own {@code remove} operation, or through the
+     * {@code setValue} operation on a map entry returned by the
+     * iterator) the results of the iteration are undefined.  The set
+     * supports element removal, which removes the corresponding
+     * mapping from the map, via the {@code Iterator.remove},
+     * {@code Set.remove}, {@code removeAll}, {@code retainAll} and
+     * {@code clear} operations.  It does not support the
+     * {@code add} or {@code addAll} operations.
+     *
+     * <p>Unlike the entries of {@code HashMap}, the entries returned by
+     * the iterator are created on demand and hold no mapping of their own:
+     * they read and write the mapping of their key in the map.
+     *
+     * @return a set view of the mappings contained in this map
+     */
+    public Set<Map.Entry<K,V>> entrySet() {
+        Set<Map.Entry<K,V>> es = entrySet;
+        if (es != null)
+            return es;
+        else
+            return entrySet = new EntrySet();
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<K,V>> {
+        public Iterator<Map.Entry<K,V>> iterator() {
+            return new EntryIterator();
+        }
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?,?> entry = (Map.Entry<?,?>)o;
+            int i = find(maskNull(entry.getKey()));
+            return i >= 0 && Objects.equals(vals[i], entry.getValue());
+        }
+        public boolean remove(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?,?> entry = (Map.Entry<?,?>)o;
+            int i = find(maskNull(entry.getKey()));
+            if (i < 0 || !Objects.equals(vals[i], entry.getValue()))
+                return false;
+            removeAt(i);
+            return true;
+        }
+        public int size() {
+            return size;
+        }
+        public void clear() {
+            CompactHashMap.this.clear();
+        }
+    }
+
+    private static final long serialVersionUID = 5143021834615470718L;
+
+    /**
+     * Saves the state of the {@code CompactHashMap} instance to a stream
+     * (i.e., serializes it).
+     *
+     * @serialData The <i>size</i> of the map (the number of key-value
+     *          mappings) ({@code int}), followed by the key (Object) and
+     *          value (Object) for each key-value mapping represented by the
+     *          CompactHashMap.  The key-value mappings are emitted in no
+     *          particular order.
+     */
+    private void writeObject(ObjectOutputStream s)
+        throws java.io.IOException  {
+        // Write out size (number of mappings) and any hidden stuff
+        s.defaultWriteObject();
+
+        Object[] ks = keys, vs = vals;
+        for (int i = 0; i < ks.length; i++) {
+            Object key = ks[i];
+            if (key != null) {
+                s.writeObject(unmaskNull(key));
+                s.writeObject(vs[i]);
+            }
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code CompactHashMap} instance from a stream (i.e.,
+     * deserializes it).
+     */
+    private void readObject(ObjectInputStream s)
+        throws java.io.IOException, ClassNotFoundException  {
+        // Read in size (number of mappings) and any hidden stuff
+        s.defaultReadObject();
+
+        int size = this.size;
+        if (size < 0)
+            throw new java.io.StreamCorruptedException
+                ("Illegal mappings count: " + size);
+        int groups = groups(size);
+        SharedSecrets.getJavaObjectInputStreamAccess().checkArray(s, Object[].class, groups * GROUP_SIZE);
+        this.size = 0;
+        init(groups);
+
+        // Read the keys and values, and put the mappings in the table
+        for (int i=0; i<size; i++) {
+            @SuppressWarnings("unchecked")
+                K key = (K) s.readObject();
+            @SuppressWarnings("unchecked")
+                V value = (V) s.readObject();
+            put(key, value);
+        }
+    }
+}
@@ -25,6 +25,9 @@
 
 package java.util;
 
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 
 /**
@@ -511,6 +514,123 @@ public interface List<E> extends Collection<E> {
         }
     }
 
+    /**
+     * Sorts this list according to the order induced by the specified
+     * comparator on the keys extracted from the elements by the specified
+     * function.  The key of each element is extracted exactly once, so this
+     * method is preferable to
+     * {@code sort(Comparator.comparing(keyExtractor, keyComparator))} when
+     * extracting a key is expensive.  The sort is <i>stable</i>: this method
+     * must not reorder elements with equal keys.
+     *
+     * <p>All keys must be <i>mutually comparable</i> using the specified
+     * comparator.  If the specified comparator is {@code null} then all keys
+     * must implement the {@link Comparable} interface and the keys'
+     * {@linkplain Comparable natural ordering} should be used.
+     *
+     * <p>This list must be modifiable, but need not be resizable.
+     *
+     * @implSpec
+     * The default implementation obtains an array containing all elements in
+     * this list, sorts the array with
+     * {@link Arrays#sortByKey(Object[], Function, Comparator)}, and iterates
+     * over this list resetting each element from the corresponding position
+     * in the array.
+     *
+     * @param <U> the type of the sort keys
+     * @param keyExtractor the function used to extract the sort key of an
+     *          element
+     * @param keyComparator the {@code Comparator} used to compare the sort
+     *          keys.  A {@code null} value indicates that the keys'
+     *          {@linkplain Comparable natural ordering} should be used
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @throws ClassCastException if the keys are not <i>mutually
+     *         comparable</i> using the specified comparator
+     * @throws UnsupportedOperationException if the list's list-iterator does
+     *         not support the {@code set} operation
+     * @since 12
+     */
+    @SuppressWarnings("unchecked")
+    default <U> void sortByKey(Function<? super E, ? extends U> keyExtractor,
+                               Comparator<? super U> keyComparator) {
+        Object[] a = this.toArray();
+        Arrays.sortByKey(a, (Function<Object, ? extends U>) keyExtractor,
+                         keyComparator);
+        ListIterator<E> i = this.listIterator();
+        for (Object e : a) {
+            i.next();
+            i.set((E) e);
+        }
+    }
+
+    /**
+     * Sorts this list into ascending order of the {@code int} keys extracted
+     * from the elements by the specified function.  The key of each element
+     * is extracted exactly once and keys are compared without boxing.  The
+     * sort is <i>stable</i>: this method must not reorder elements with
+     * equal keys.
+     *
+     * <p>This list must be modifiable, but need not be resizable.
+     *
+     * @implSpec
+     * The default implementation obtains an array containing all elements in
+     * this list, sorts the array with
+     * {@link Arrays#sortByIntKey(Object[], ToIntFunction)}, and iterates
+     * over this list resetting each element from the corresponding position
+     * in the array.
+     *
+     * @param keyExtractor the function used to extract the sort key of an
+     *          element
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @throws UnsupportedOperationException if the list's list-iterator does
+     *         not support the {@code set} operation
+     * @since 12
+     */
+    @SuppressWarnings("unchecked")
+    default void sortByIntKey(ToIntFunction<? super E> keyExtractor) {
+        Object[] a = this.toArray();
+        Arrays.sortByIntKey(a, (ToIntFunction<Object>) keyExtractor);
+        ListIterator<E> i = this.listIterator();
+        for (Object e : a) {
+            i.next();
+            i.set((E) e);
+        }
+    }
+
+    /**
+     * Sorts this list into ascending order of the {@code long} keys extracted
+     * from the elements by the specified function.  The key of each element
+     * is extracted exactly once and keys are compared without boxing.  The
+     * sort is <i>stable</i>: this method must not reorder elements with
+     * equal keys.
+     *
+     * <p>This list must be modifiable, but need not be resizable.
+     *
+     * @implSpec
+     * The default implementation obtains an array containing all elements in
+     * this list, sorts the array with
+     * {@link Arrays#sortByLongKey(Object[], ToLongFunction)}, and iterates
+     * over this list resetting each element from the corresponding position
+     * in the array.
+     *
+     * @param keyExtractor the function used to extract the sort key of an
+     *          element
+     * @throws NullPointerException if {@code keyExtractor} is null
+     * @throws UnsupportedOperationException if the list's list-iterator does
+     *         not support the {@code set} operation
+     * @since 12
+     */
+    @SuppressWarnings("unchecked")
+    default void sortByLongKey(ToLongFunction<? super E> keyExtractor) {
+        Object[] a = this.toArray();
+        Arrays.sortByLongKey(a, (ToLongFunction<Object>) keyExtractor);
+        ListIterator<E> i = this.listIterator();
+        for (Object e : a) {
+            i.next();
+            i.set((E) e);
+        }
+    }
+
     /**
      * Removes all of the elements from this list (optional operation).
      * The list will be empty after this call returns.
@@ -0,0 +1,845 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * An unmodifiable {@code Map} whose updated versions are created in
+ * logarithmic time by sharing most of their structure with the version
+ * they are derived from.
+ *
+ * <p>A map is never modified: the {@link #with with} and
+ * {@link #without without} methods return a new map reflecting the
+ * update, leaving this map unchanged, and all the methods of the
+ * {@code Map} interface that would modify the map throw
+ * {@code UnsupportedOperationException}.  Since their state never
+ * changes, instances may be freely shared among threads without
+ * synchronization, and the versions of a map derived from each other
+ * may be kept and used concurrently.
+ *
+ * <p>The mappings are held in a <em>hash array mapped trie</em>: a tree
+ * with a branching factor of 32, each level of which is indexed by five
+ * bits of the hash code of the keys.  Retrievals and updates visit at
+ * most {@code log32(n)} nodes in the absence of hash collisions, and an
+ * update copies only the nodes on the path to the modified mapping,
+ * which are small since nodes store only their non-empty slots.  By
+ * contrast, the maps returned by {@link Map#of() Map.of} and
+ * {@link Map#copyOf Map.copyOf} must be copied in full to derive an
+ * updated map.
+ *
+ * <p>The trie of a map depends only on the mappings it contains, not on
+ * the order of the updates that produced it.  Comparing with
+ * {@link #equals equals} two maps derived from each other therefore
+ * only compares the parts of their tries that are not shared, and the
+ * {@link #hashCode hashCode} of a map is maintained as it is updated
+ * rather than computed when requested.
+ *
+ * <p>Like the maps returned by {@code Map.of}, these maps do not allow
+ * {@code null} keys or values.  The iteration order of the mappings is
+ * unspecified.  The keys of a map must not be modified in a manner that
+ * affects their {@code equals} or {@code hashCode} methods while they
+ * are in the map.
+ *
+ * <p>This class is a member of the
+ * <a href="{@docRoot}/java.base/java/util/package-summary.html#CollectionsFramework">
+ * Java Collections Framework</a>.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @see PersistentHashSet
+ * @since 12
+ */
+public final class PersistentHashMap<K,V> extends AbstractMap<K,V>
+    implements Serializable
+{
+    /*
+     * The trie follows the "compressed hash-array mapped prefix tree"
+     * (CHAMP) layout of Steindorfer and Vinju. A node has two bitmaps
+     * indexed by the 5-bit fragment of the key hashes at its level:
+     * dataMap marks the fragments holding a single mapping inline, and
+     * nodeMap those holding a sub-node. Both are stored in a single
+     * array, the key-value pairs in ascending fragment order from the
+     * start, and the sub-nodes in ascending fragment order from the
+     * end. Keys whose hashes are equal in all 32 bits are held in a
+     * CollisionNode below the last level.
+     *
+     * Removals keep the trie canonical: a sub-node left with a single
+     * mapping and no sub-nodes is inlined into its parent, so that a
+     * node other than the root never holds a single mapping alone.
+     * Two tries holding the same mappings thus have the same shape,
+     * and can be compared node by node.
+     */
+
+    private static final long serialVersionUID = 6524532810154932415L;
+
+    /** The number of hash bits consumed at each level. */
+    static final int BITS = 5;
+
+    /**
+     * The maximum depth of a trie: seven levels of BitmapNodes covering
+     * the 32 bits of hash codes, then a level of CollisionNodes.
+     */
+    static final int MAX_DEPTH = 8;
+
+    private static final PersistentHashMap<?,?> EMPTY =
+        new PersistentHashMap<>(BitmapNode.EMPTY, 0, 0);
+
+    /** The root of the trie. */
+    final transient Node root;
+
+    /** The number of mappings. */
+    private final transient int size;
+
+    /** The sum of the hash codes of the mappings. */
+    private final transient int hash;
+
+    private PersistentHashMap(Node root, int size, int hash) {
+        this.root = root;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns an empty map.
+     *
+     * @param <K> the type of keys maintained by the map
+     * @param <V> the type of mapped values
+     * @return an empty {@code PersistentHashMap}
+     */
+    @SuppressWarnings("unchecked")
+    public static <K,V> PersistentHashMap<K,V> of() {
+        return (PersistentHashMap<K,V>) EMPTY;
+    }
+
+    /**
+     * Returns a map containing the mappings of the given map.  If the
+     * given map is a {@code PersistentHashMap}, it is returned.
+     *
+     * @param <K> the type of keys maintained by the map
+     * @param <V> the type of mapped values
+     * @param map the map from which mappings are drawn
+     * @return a {@code PersistentHashMap} containing the mappings of
+     *         the given map
+     * @throws NullPointerException if map is null, or if it contains
+     *         any null keys or values
+     */
+    @SuppressWarnings("unchecked")
+    public static <K,V> PersistentHashMap<K,V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap)
+            return (PersistentHashMap<K,V>) map;
+        return PersistentHashMap.<K,V>of().withAll(map);
+    }
+
+    /**
+     * Spreads the bits of a key's hash code, as in {@link HashMap#hash},
+     * since the lower bits index the first levels of the trie.
+     */
+    static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns a map with the mappings of this map, and in which the
+     * given key is mapped to the given value.  If this map already maps
+     * the key to the same value, as determined by {@code ==}, this map
+     * is returned.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the updated map
+     * @throws NullPointerException if the key or value is null
+     */
+    public PersistentHashMap<K,V> with(K key, V value) {
+        Objects.requireNonNull(value);
+        Change c = new Change();
+        Node r = root.updated(key, value, hash(key), 0, c);
+        if (r == root)
+            return this;
+        int kh = key.hashCode();
+        if (c.oldValue == null)
+            return new PersistentHashMap<>(r, size + 1,
+                                           hash + (kh ^ value.hashCode()));
+        return new PersistentHashMap<>(r, size, hash
+                                       - (kh ^ c.oldValue.hashCode())
+                                       + (kh ^ value.hashCode()));
+    }
+
+    /**
+     * Returns a map with the mappings of this map, and the mappings of
+     * the given map, which replace those of this map for the same keys.
+     *
+     * @param map the mappings to be added
+     * @return the updated map
+     * @throws NullPointerException if the map is null, or if it
+     *         contains any null keys or values
+     */
+    public PersistentHashMap<K,V> withAll(Map<? extends K, ? extends V> map) {
+        PersistentHashMap<K,V> m = this;
+        for (Map.Entry<? extends K, ? extends V> e : map.entrySet())
+            m = m.with(e.getKey(), e.getValue());
+        return m;
+    }
+
+    /**
+     * Returns a map with the mappings of this map, except the mapping
+     * for the given key.  If this map contains no mapping for the key,
+     * this map is returned.
+     *
+     * @param key key whose mapping is to be removed
+     * @return the updated map
+     * @throws NullPointerException if the key is null
+     */
+    public PersistentHashMap<K,V> without(Object key) {
+        Change c = new Change();
+        Node r = root.removed(key, hash(key), 0, c);
+        if (r == root)
+            return this;
+        return new PersistentHashMap<>(r, size - 1, hash
+                                       - (key.hashCode() ^ c.oldValue.hashCode()));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return (V) root.find(key, hash(key), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        Object v = root.find(key, hash(key), 0);
+        return (v == null) ? defaultValue : (V) v;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return root.find(key, hash(key), 0) != null;
+    }
+
+    @Override
+    public Set<Map.Entry<K,V>> entrySet() {
+        return new AbstractSet<>() {
+            public Iterator<Map.Entry<K,V>> iterator() {
+                return new TrieIterator<>(root) {
+                    public Map.Entry<K,V> next() {
+                        return nextEntry();
+                    }
+                };
+            }
+            public int size() {
+                return size;
+            }
+            public boolean contains(Object o) {
+                if (!(o instanceof Map.Entry))
+                    return false;
+                Map.Entry<?,?> e = (Map.Entry<?,?>) o;
+                Object k = e.getKey(), v;
+                return k != null &&
+                    (v = root.find(k, hash(k), 0)) != null &&
+                    v.equals(e.getValue());
+            }
+            public int hashCode() {
+                return hash;
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<>() {
+            public Iterator<K> iterator() {
+                return new TrieIterator<>(root) {
+                    public K next() {
+                        return nextKey();
+                    }
+                };
+            }
+            public int size() {
+                return size;
+            }
+            public boolean contains(Object o) {
+                return o != null && containsKey(o);
+            }
+        };
+    }
+
+    /**
+     * Compares the specified object with this map for equality.  If the
+     * specified object is also a {@code PersistentHashMap}, only the
+     * parts of the tries that the maps do not share are compared.
+     *
+     * @param o object to be compared for equality with this map
+     * @return {@code true} if the specified object is equal to this map
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (o instanceof PersistentHashMap) {
+            PersistentHashMap<?,?> m = (PersistentHashMap<?,?>) o;
+            return size == m.size && hash == m.hash &&
+                (root == m.root || root.equivalent(m.root));
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Returns the hash code value for this map, which is maintained as
+     * the map is updated.
+     *
+     * @return the hash code value for this map
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    // Unsupported modification operations
+
+    static UnsupportedOperationException uoe() {
+        return new UnsupportedOperationException();
+    }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public void clear() { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}; use
+     * {@link #with with} instead.
+     */
+    @Override public V put(K key, V value) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}; use
+     * {@link #withAll withAll} instead.
+     */
+    @Override public void putAll(Map<? extends K, ? extends V> m) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}; use
+     * {@link #without without} instead.
+     */
+    @Override public V remove(Object key) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public V compute(K key, BiFunction<? super K,? super V,? extends V> rf) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public V computeIfAbsent(K key, Function<? super K,? extends V> mf) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public V computeIfPresent(K key, BiFunction<? super K,? super V,? extends V> rf) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public V merge(K key, V value, BiFunction<? super V,? super V,? extends V> rf) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public V putIfAbsent(K key, V value) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public boolean remove(Object key, Object value) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public V replace(K key, V value) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public boolean replace(K key, V oldValue, V newValue) { throw uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public void replaceAll(BiFunction<? super K,? super V,? extends V> f) { throw uoe(); }
+
+    // Serialization
+
+    /**
+     * Saves this map as an array of alternating keys and values.
+     */
+    private Object writeReplace() {
+        Object[] a = new Object[2 * size];
+        int i = 0;
+        for (TrieIterator<Object> it = new TrieIterator<>(root) {
+                public Object next() { return nextKey(); } };
+             it.hasNext(); i += 2) {
+            a[i] = it.nextKey();
+            a[i + 1] = it.lastValue();
+        }
+        return new SerializationProxy(a);
+    }
+
+    private void readObject(ObjectInputStream s) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializationProxy required");
+    }
+
+    /**
+     * The serialized form of {@code PersistentHashMap} and
+     * {@code PersistentHashSet}.
+     */
+    static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = -1573712414236081612L;
+
+        /**
+         * For a map, the alternating keys and values of the mappings;
+         * for a set, its elements followed by a {@code null} marker.
+         *
+         * @serial
+         */
+        private final Object[] array;
+
+        SerializationProxy(Object[] array) {
+            this.array = array;
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            try {
+                Object[] a = array;
+                if (a.length > 0 && a[a.length - 1] == null) {
+                    PersistentHashSet<Object> s = PersistentHashSet.of();
+                    for (int i = 0; i < a.length - 1; i++)
+                        s = s.with(Objects.requireNonNull(a[i]));
+                    return s;
+                }
+                if ((a.length & 1) != 0)
+                    throw new InvalidObjectException("odd number of elements");
+                PersistentHashMap<Object,Object> m = PersistentHashMap.of();
+                for (int i = 0; i < a.length; i += 2)
+                    m = m.with(Objects.requireNonNull(a[i]), a[i + 1]);
+                return m;
+            } catch (NullPointerException e) {
+                InvalidObjectException ioe = new InvalidObjectException("null element");
+                ioe.initCause(e);
+                throw ioe;
+            }
+        }
+    }
+
+    // Trie nodes
+
+    /**
+     * Records the mapping replaced or removed by an update.
+     */
+    static final class Change {
+        Object oldValue;
+    }
+
+    abstract static class Node {
+        /** Returns the value mapped to key, or null if none. */
+        abstract Object find(Object key, int hash, int shift);
+
+        /**
+         * Returns the node with the key mapped to value, or this node
+         * if the key is already mapped to the same value.
+         */
+        abstract Node updated(Object key, Object value, int hash, int shift,
+                              Change c);
+
+        /**
+         * Returns the node without the key, or this node if the key is
+         * absent.  A node left with a single mapping is returned as a
+         * root-level BitmapNode, for the parent to inline.
+         */
+        abstract Node removed(Object key, int hash, int shift, Change c);
+
+        abstract int payloadArity();
+        abstract Object keyAt(int i);
+        abstract Object valueAt(int i);
+        abstract int nodeArity();
+        abstract Node nodeAt(int i);
+
+        /** Returns true if the nodes hold the same mappings. */
+        abstract boolean equivalent(Node other);
+
+        final boolean hasSinglePayload() {
+            return payloadArity() == 1 && nodeArity() == 0;
+        }
+    }
+
+    static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+        final int dataMap;
+        final int nodeMap;
+        final Object[] content;
+
+        BitmapNode(int dataMap, int nodeMap, Object[] content) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        static int bitpos(int hash, int shift) {
+            return 1 << ((hash >>> shift) & 31);
+        }
+
+        int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        int nodeIndex(int bit) {
+            return Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        int payloadArity() { return Integer.bitCount(dataMap); }
+        Object keyAt(int i) { return content[2 * i]; }
+        Object valueAt(int i) { return content[2 * i + 1]; }
+        int nodeArity() { return Integer.bitCount(nodeMap); }
+        Node nodeAt(int i) { return (Node) content[content.length - 1 - i]; }
+
+        Object find(Object key, int hash, int shift) {
+            int bit = bitpos(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * dataIndex(bit);
+                return key.equals(content[i]) ? content[i + 1] : null;
+            }
+            if ((nodeMap & bit) != 0)
+                return nodeAt(nodeIndex(bit)).find(key, hash, shift + BITS);
+            return null;
+        }
+
+        Node updated(Object key, Object value, int hash, int shift, Change c) {
+            int bit = bitpos(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * dataIndex(bit);
+                Object k = content[i], v = content[i + 1];
+                if (key.equals(k)) {
+                    if (v == value)
+                        return this;
+                    c.oldValue = v;
+                    Object[] dst = content.clone();
+                    dst[i + 1] = value;
+                    return new BitmapNode(dataMap, nodeMap, dst);
+                }
+                Node sub = mergeTwo(k, v, hash(k), key, value, hash,
+                                    shift + BITS);
+                return copyAndMigrateFromDataToNode(bit, sub);
+            }
+            if ((nodeMap & bit) != 0) {
+                int j = nodeIndex(bit);
+                Node sub = nodeAt(j);
+                Node nsub = sub.updated(key, value, hash, shift + BITS, c);
+                return (nsub == sub) ? this : copyAndSetNode(j, nsub);
+            }
+            int i = 2 * dataIndex(bit);
+            Object[] src = content, dst = new Object[src.length + 2];
+            System.arraycopy(src, 0, dst, 0, i);
+            dst[i] = key;
+            dst[i + 1] = value;
+            System.arraycopy(src, i, dst, i + 2, src.length - i);
+            return new BitmapNode(dataMap | bit, nodeMap, dst);
+        }
+
+        Node removed(Object key, int hash, int shift, Change c) {
+            int bit = bitpos(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * dataIndex(bit);
+                if (!key.equals(content[i]))
+                    return this;
+                c.oldValue = content[i + 1];
+                if (shift != 0 && nodeMap == 0 && content.length == 4) {
+                    // The other mapping will be inlined by the parent
+                    int o = 2 - i;
+                    return singleton(content[o], content[o + 1]);
+                }
+                Object[] src = content, dst = new Object[src.length - 2];
+                System.arraycopy(src, 0, dst, 0, i);
+                System.arraycopy(src, i + 2, dst, i, src.length - i - 2);
+                return new BitmapNode(dataMap ^ bit, nodeMap, dst);
+            }
+            if ((nodeMap & bit) != 0) {
+                int j = nodeIndex(bit);
+                Node sub = nodeAt(j);
+                Node nsub = sub.removed(key, hash, shift + BITS, c);
+                if (nsub == sub)
+                    return this;
+                if (!nsub.hasSinglePayload())
+                    return copyAndSetNode(j, nsub);
+                if (shift != 0 && dataMap == 0 && content.length == 1)
+                    return nsub; // propagate up to be inlined
+                return copyAndMigrateFromNodeToData(bit, j, nsub);
+            }
+            return this;
+        }
+
+        /** Returns a node holding a single mapping, at root level. */
+        static BitmapNode singleton(Object key, Object value) {
+            return new BitmapNode(bitpos(hash(key), 0), 0,
+                                  new Object[] { key, value });
+        }
+
+        static Node mergeTwo(Object k0, Object v0, int h0,
+                             Object k1, Object v1, int h1, int shift) {
+            if (shift >= 32)
+                return new CollisionNode(h0, new Object[] { k0, v0, k1, v1 });
+            int b0 = bitpos(h0, shift), b1 = bitpos(h1, shift);
+            if (b0 != b1) {
+                Object[] a = (Integer.compareUnsigned(b0, b1) < 0)
+                    ? new Object[] { k0, v0, k1, v1 }
+                    : new Object[] { k1, v1, k0, v0 };
+                return new BitmapNode(b0 | b1, 0, a);
+            }
+            Node sub = mergeTwo(k0, v0, h0, k1, v1, h1, shift + BITS);
+            return new BitmapNode(0, b0, new Object[] { sub });
+        }
+
+        BitmapNode copyAndSetNode(int j, Node node) {
+            Object[] dst = content.clone();
+            dst[dst.length - 1 - j] = node;
+            return new BitmapNode(dataMap, nodeMap, dst);
+        }
+
+        BitmapNode copyAndMigrateFromDataToNode(int bit, Node node) {
+            Object[] src = content, dst = new Object[src.length - 1];
+            int iOld = 2 * dataIndex(bit);
+            int iNew = src.length - 2 - nodeIndex(bit);
+            System.arraycopy(src, 0, dst, 0, iOld);
+            System.arraycopy(src, iOld + 2, dst, iOld, iNew - iOld);
+            dst[iNew] = node;
+            System.arraycopy(src, iNew + 2, dst, iNew + 1, src.length - iNew - 2);
+            return new BitmapNode(dataMap ^ bit, nodeMap | bit, dst);
+        }
+
+        BitmapNode copyAndMigrateFromNodeToData(int bit, int j, Node node) {
+            Object[] src = content, dst = new Object[src.length + 1];
+            int iOld = src.length - 1 - j;
+            int iNew = 2 * dataIndex(bit);
+            System.arraycopy(src, 0, dst, 0, iNew);
+            dst[iNew] = node.keyAt(0);
+            dst[iNew + 1] = node.valueAt(0);
+            System.arraycopy(src, iNew, dst, iNew + 2, iOld - iNew);
+            System.arraycopy(src, iOld + 1, dst, iOld + 2, src.length - iOld - 1);
+            return new BitmapNode(dataMap | bit, nodeMap ^ bit, dst);
+        }
+
+        boolean equivalent(Node other) {
+            if (!(other instanceof BitmapNode))
+                return false;
+            BitmapNode n = (BitmapNode) other;
+            if (dataMap != n.dataMap || nodeMap != n.nodeMap)
+                return false;
+            Object[] a = content, b = n.content;
+            int d = 2 * Integer.bitCount(dataMap);
+            for (int i = 0; i < d; i++) {
+                if (!a[i].equals(b[i]))
+                    return false;
+            }
+            for (int i = d; i < a.length; i++) {
+                if (a[i] != b[i] && !((Node) a[i]).equivalent((Node) b[i]))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A leaf holding the mappings of keys whose hashes are equal.
+     */
+    static final class CollisionNode extends Node {
+        final int hash;
+        final Object[] content;
+
+        CollisionNode(int hash, Object[] content) {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        int payloadArity() { return content.length >> 1; }
+        Object keyAt(int i) { return content[2 * i]; }
+        Object valueAt(int i) { return content[2 * i + 1]; }
+        int nodeArity() { return 0; }
+        Node nodeAt(int i) { throw new IndexOutOfBoundsException(i); }
+
+        int indexOf(Object key) {
+            Object[] a = content;
+            for (int i = 0; i < a.length; i += 2) {
+                if (key.equals(a[i]))
+                    return i;
+            }
+            return -1;
+        }
+
+        Object find(Object key, int hash, int shift) {
+            int i = indexOf(key);
+            return (i < 0) ? null : content[i + 1];
+        }
+
+        Node updated(Object key, Object value, int hash, int shift, Change c) {
+            int i = indexOf(key);
+            Object[] dst;
+            if (i >= 0) {
+                if (content[i + 1] == value)
+                    return this;
+                c.oldValue = content[i + 1];
+                dst = content.clone();
+            } else {
+                i = content.length;
+                dst = Arrays.copyOf(content, i + 2);
+                dst[i] = key;
+            }
+            dst[i + 1] = value;
+            return new CollisionNode(this.hash, dst);
+        }
+
+        Node removed(Object key, int hash, int shift, Change c) {
+            int i = indexOf(key);
+            if (i < 0)
+                return this;
+            Object[] src = content;
+            c.oldValue = src[i + 1];
+            if (src.length == 4) {
+                int o = 2 - i;
+                return BitmapNode.singleton(src[o], src[o + 1]);
+            }
+            Object[] dst = new Object[src.length - 2];
+            System.arraycopy(src, 0, dst, 0, i);
+            System.arraycopy(src, i + 2, dst, i, src.length - i - 2);
+            return new CollisionNode(this.hash, dst);
+        }
+
+        boolean equivalent(Node other) {
+            if (!(other instanceof CollisionNode))
+                return false;
+            CollisionNode n = (CollisionNode) other;
+            if (hash != n.hash || content.length != n.content.length)
+                return false;
+            Object[] a = content;
+            for (int i = 0; i < a.length; i += 2) {
+                Object v = n.find(a[i], hash, 0);
+                if (v == null || !v.equals(a[i + 1]))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An iterator over the mappings of a trie, depth first.
+     */
+    abstract static class TrieIterator<E> implements Iterator<E> {
+        private final Node[] stack = new Node[MAX_DEPTH];
+        private final int[] nodeIndex = new int[MAX_DEPTH];
+        private int depth;
+        private Node current;     // the node whose payload is iterated
+        private int payloadIndex;
+        private Object lastValue;
+
+        TrieIterator(Node root) {
+            stack[0] = current = root;
+        }
+
+        public final boolean hasNext() {
+            if (payloadIndex < current.payloadArity())
+                return true;
+            while (depth >= 0) {
+                Node n = stack[depth];
+                if (nodeIndex[depth] < n.nodeArity()) {
+                    Node child = n.nodeAt(nodeIndex[depth]++);
+                    stack[++depth] = current = child;
+                    nodeIndex[depth] = 0;
+                    payloadIndex = 0;
+                    if (child.payloadArity() > 0)
+                        return true;
+                } else {
+                    depth--;
+                }
+            }
+            return false;
+        }
+
+        /** Advances to the next mapping, returning its key. */
+        final Object advance() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            int i = payloadIndex++;
+            lastValue = current.valueAt(i);
+            return current.keyAt(i);
+        }
+
+        @SuppressWarnings("unchecked")
+        final <K> K nextKey() {
+            return (K) advance();
+        }
+
+        final Object lastValue() {
+            return lastValue;
+        }
+
+        @SuppressWarnings("unchecked")
+        final <K,V> Map.Entry<K,V> nextEntry() {
+            Object k = advance();
+            return new KeyValueHolder<>((K) k, (V) lastValue);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable {@code Set} whose updated versions are created in
+ * logarithmic time by sharing most of their structure with the version
+ * they are derived from.  This class is backed by a
+ * {@link PersistentHashMap}, and has the same properties: the
+ * {@link #with with} and {@link #without without} methods return a new
+ * set reflecting the update, the methods of the {@code Set} interface
+ * that would modify the set throw {@code UnsupportedOperationException},
+ * and comparing with {@link #equals equals} two sets derived from each
+ * other only compares the parts they do not share.
+ *
+ * <p>Like the sets returned by {@link Set#of() Set.of}, these sets do
+ * not allow {@code null} elements.  The iteration order of the elements
+ * is unspecified.
+ *
+ * <p>This class is a member of the
+ * <a href="{@docRoot}/java.base/java/util/package-summary.html#CollectionsFramework">
+ * Java Collections Framework</a>.
+ *
+ * @param <E> the type of elements maintained by this set
+ *
+ * @see PersistentHashMap
+ * @since 12
+ */
+public final class PersistentHashSet<E> extends AbstractSet<E>
+    implements Serializable
+{
+    private static final long serialVersionUID = -2479536128720417903L;
+
+    // Dummy value to associate with an Object in the backing Map
+    private static final Object PRESENT = Boolean.TRUE;
+
+    private static final PersistentHashSet<?> EMPTY =
+        new PersistentHashSet<>(PersistentHashMap.of(), 0);
+
+    private final transient PersistentHashMap<E,Object> map;
+
+    /** The sum of the hash codes of the elements. */
+    private final transient int hash;
+
+    private PersistentHashSet(PersistentHashMap<E,Object> map, int hash) {
+        this.map = map;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns an empty set.
+     *
+     * @param <E> the type of elements maintained by the set
+     * @return an empty {@code PersistentHashSet}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> of() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set containing the elements of the given collection.  If
+     * the given collection is a {@code PersistentHashSet}, it is returned.
+     *
+     * @param <E> the type of elements maintained by the set
+     * @param coll the collection from which elements are drawn
+     * @return a {@code PersistentHashSet} containing the elements of the
+     *         given collection
+     * @throws NullPointerException if coll is null, or if it contains
+     *         any nulls
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> copyOf(Collection<? extends E> coll) {
+        if (coll instanceof PersistentHashSet)
+            return (PersistentHashSet<E>) coll;
+        return PersistentHashSet.<E>of().withAll(coll);
+    }
+
+    /**
+     * Returns a set with the elements of this set and the given element.
+     * If this set already contains the element, this set is returned.
+     *
+     * @param e the element to be added
+     * @return the updated set
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentHashSet<E> with(E e) {
+        PersistentHashMap<E,Object> m = map.with(e, PRESENT);
+        return (m == map) ? this : new PersistentHashSet<>(m, hash + e.hashCode());
+    }
+
+    /**
+     * Returns a set with the elements of this set and the elements of
+     * the given collection.
+     *
+     * @param coll the elements to be added
+     * @return the updated set
+     * @throws NullPointerException if the collection is null, or if it
+     *         contains any nulls
+     */
+    public PersistentHashSet<E> withAll(Collection<? extends E> coll) {
+        PersistentHashSet<E> s = this;
+        for (E e : coll)
+            s = s.with(e);
+        return s;
+    }
+
+    /**
+     * Returns a set with the elements of this set except the given
+     * element.  If this set does not contain the element, this set is
+     * returned.
+     *
+     * @param o the element to be removed
+     * @return the updated set
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentHashSet<E> without(Object o) {
+        PersistentHashMap<E,Object> m = map.without(o);
+        return (m == map) ? this : new PersistentHashSet<>(m, hash - o.hashCode());
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return map.keySet().iterator();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(Object o) {
+        return map.containsKey(o);
+    }
+
+    /**
+     * Compares the specified object with this set for equality.  If the
+     * specified object is also a {@code PersistentHashSet}, only the
+     * parts of the sets that they do not share are compared.
+     *
+     * @param o object to be compared for equality with this set
+     * @return {@code true} if the specified object is equal to this set
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (o instanceof PersistentHashSet) {
+            PersistentHashSet<?> s = (PersistentHashSet<?>) o;
+            return hash == s.hash && map.equals(s.map);
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Returns the hash code value for this set, which is maintained as
+     * the set is updated.
+     *
+     * @return the hash code value for this set
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    // Unsupported modification operations
+
+    /**
+     * Throws {@code UnsupportedOperationException}; use
+     * {@link #with with} instead.
+     */
+    @Override public boolean add(E e) { throw PersistentHashMap.uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}; use
+     * {@link #withAll withAll} instead.
+     */
+    @Override public boolean addAll(Collection<? extends E> c) { throw PersistentHashMap.uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public void clear() { throw PersistentHashMap.uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}; use
+     * {@link #without without} instead.
+     */
+    @Override public boolean remove(Object o) { throw PersistentHashMap.uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public boolean removeAll(Collection<?> c) { throw PersistentHashMap.uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public boolean removeIf(Predicate<? super E> filter) { throw PersistentHashMap.uoe(); }
+
+    /**
+     * Throws {@code UnsupportedOperationException}.
+     */
+    @Override public boolean retainAll(Collection<?> c) { throw PersistentHashMap.uoe(); }
+
+    // Serialization
+
+    /**
+     * Saves this set as an array of its elements followed by a
+     * {@code null} marker.
+     */
+    private Object writeReplace() {
+        Object[] a = new Object[size() + 1];
+        int i = 0;
+        for (E e : this)
+            a[i++] = e;
+        return new PersistentHashMap.SerializationProxy(a);
+    }
+
+    private void readObject(ObjectInputStream s) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializationProxy required");
+    }
+}
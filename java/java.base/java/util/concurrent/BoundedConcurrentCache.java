@@ -0,0 +1,910 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A thread-safe cache whose total weight of entries is bounded, evicting
+ * entries that are unlikely to be used again when the bound is exceeded.
+ *
+ * <p>Entries are held in a {@link ConcurrentHashMap}, so that retrievals
+ * and updates have the same concurrency properties as in that class; in
+ * particular, retrievals do not block and are not serialized with each
+ * other.  The bookkeeping needed to select entries for eviction is not
+ * performed by the threads accessing the cache as they access it: reads
+ * and writes are recorded in buffers, which are drained in batches by
+ * whichever thread next acquires the lock guarding the eviction policy.
+ * The read buffers are striped by thread and lossy, so that under heavy
+ * contention some reads are simply not recorded rather than contended on.
+ * As a consequence, the cache may briefly exceed its maximum weight while
+ * writes are pending, and the methods returning sizes and statistics are
+ * only accurate in the absence of concurrent updates.
+ *
+ * <p>The eviction policy is <em>Window TinyLFU</em>: new entries are
+ * admitted to a small LRU window; when they leave the window, they are
+ * retained in the main space only if they have been used more frequently
+ * than the entry they would replace, as estimated by a compact
+ * count-min sketch of the recent access history.  The main space is a
+ * segmented LRU, in which entries accessed a second time are promoted to
+ * a protected segment.  This policy retains frequently used entries in
+ * the presence of scans and bursts of one-time accesses, which flush an
+ * LRU cache such as a {@link java.util.LinkedHashMap} in access order.
+ *
+ * <p>Each entry has a weight, computed once when its value is set by the
+ * weigher given at construction, or 1 if none is given.  Entries whose
+ * weight exceeds the maximum weight of the cache are evicted immediately.
+ *
+ * <p>Like {@code ConcurrentHashMap}, this class does <em>not</em> allow
+ * {@code null} to be used as a key or value.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ * @since 12
+ */
+public class BoundedConcurrentCache<K,V> {
+
+    /*
+     * Overview:
+     *
+     * The cache consists of a ConcurrentHashMap from keys to Nodes, and
+     * of the eviction policy: three access-ordered doubly-linked lists
+     * threaded through the Nodes (window, probation and protected), the
+     * frequency sketch and the weights, all guarded by evictionLock.
+     *
+     * Writers update the map and then append a task (add, update or
+     * removal of a node) to writeBuffer, an unbounded queue, which is
+     * never lossy. Readers append the node they read to one of the
+     * ReadBuffers, a small ring buffer chosen by the thread's probe
+     * (see ThreadLocalRandom), dropping the read if the buffer is full
+     * or contended. Writers always, and readers only when their buffer
+     * is full, then try to acquire evictionLock and drain all buffers
+     * (maintenance). A thread releasing the lock checks the write
+     * buffer again, so that a task appended while the lock was held
+     * is never left behind.
+     *
+     * Because tasks of different threads for the same node may be
+     * drained in any order, tasks do not carry weights. A node holds
+     * the weight of its current value (weight, written with the node
+     * lock held) and the weight accounted for by the policy
+     * (policyWeight, guarded by evictionLock), and the policy catches up
+     * with the difference whenever it handles the node. A removal task
+     * drained before the add task of the same node marks the node
+     * removed, so that the add task is then ignored.
+     *
+     * A node removed from the map, by a user removal or by eviction, is
+     * marked not alive with its lock held, so that a concurrent put that
+     * found it in the map retries instead of updating a dead node.
+     */
+
+    /** The initial percentage of the maximum weight used by the window. */
+    private static final int WINDOW_PERCENT = 1;
+
+    /** The percentage of the main space used by the protected segment. */
+    private static final int PROTECTED_PERCENT = 80;
+
+    /** The number of read buffers, a power of two. */
+    static final int NCPU = Runtime.getRuntime().availableProcessors();
+    static final int READ_BUFFER_STRIPES =
+        Math.min(64, Integer.highestOneBit(Math.max(1, NCPU) * 2 - 1) << 1);
+
+    /** The queue a node is linked in, if any. */
+    static final int WINDOW = 0, PROBATION = 1, PROTECTED = 2;
+
+    /**
+     * An entry of the cache.
+     */
+    static final class Node<K,V> {
+        final K key;
+        volatile V value;
+        int weight;                 // guarded by this
+        boolean alive = true;       // guarded by this
+
+        // the fields below are guarded by evictionLock
+        Node<K,V> prev, next;
+        int queue;
+        int policyWeight;
+        boolean linked;
+        boolean removed;
+
+        Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+
+        synchronized int weight() {
+            return weight;
+        }
+    }
+
+    /**
+     * An access-ordered list of nodes, least recently used first.
+     */
+    static final class AccessOrderDeque<K,V> {
+        Node<K,V> head, tail;
+
+        void linkLast(Node<K,V> n) {
+            Node<K,V> t = tail;
+            n.prev = t;
+            n.next = null;
+            if (t == null)
+                head = n;
+            else
+                t.next = n;
+            tail = n;
+        }
+
+        void unlink(Node<K,V> n) {
+            Node<K,V> p = n.prev, s = n.next;
+            if (p == null)
+                head = s;
+            else
+                p.next = s;
+            if (s == null)
+                tail = p;
+            else
+                s.prev = p;
+            n.prev = n.next = null;
+        }
+
+        void moveToBack(Node<K,V> n) {
+            if (n != tail) {
+                unlink(n);
+                linkLast(n);
+            }
+        }
+    }
+
+    /**
+     * A lossy, bounded ring buffer of reads, with multiple producers and
+     * a single consumer holding evictionLock.
+     */
+    static final class ReadBuffer<K,V> {
+        static final int SIZE = 16, MASK = SIZE - 1;
+        static final int SUCCESS = 0, FULL = 1, FAILED = 2;
+
+        final Object[] buffer = new Object[SIZE];
+        volatile long readCount;   // written only by the consumer
+        volatile long writeCount;
+
+        int offer(Node<K,V> node) {
+            long head = readCount, tail = writeCount;
+            if (tail - head >= SIZE)
+                return FULL;
+            if (!WRITE_COUNT.compareAndSet(this, tail, tail + 1))
+                return FAILED;
+            BUFFER.setRelease(buffer, (int) tail & MASK, node);
+            return (tail + 1 - head >= SIZE) ? FULL : SUCCESS;
+        }
+
+        @SuppressWarnings("unchecked")
+        void drainTo(BoundedConcurrentCache<K,V> cache) {
+            long head = readCount, tail = writeCount;
+            for (; head != tail; head++) {
+                int i = (int) head & MASK;
+                Object n = BUFFER.getAcquire(buffer, i);
+                if (n == null)
+                    break; // not yet published by its producer
+                BUFFER.setRelease(buffer, i, null);
+                cache.onAccess((Node<K,V>) n);
+            }
+            readCount = head;
+        }
+
+        private static final VarHandle WRITE_COUNT;
+        private static final VarHandle BUFFER =
+            MethodHandles.arrayElementVarHandle(Object[].class);
+        static {
+            try {
+                MethodHandles.Lookup l = MethodHandles.lookup();
+                WRITE_COUNT = l.findVarHandle(ReadBuffer.class, "writeCount",
+                                              long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+
+    /**
+     * A probabilistic multiset estimating the number of recent accesses
+     * to a key: a count-min sketch of 4-bit counters with a depth of
+     * four, all four counters of a key lying in different longs. All
+     * counters are halved whenever the number of increments reaches ten
+     * times the capacity of the sketch, so that the frequencies reflect
+     * recent history. All methods are called with evictionLock held.
+     */
+    static final class FrequencySketch {
+        static final long[] SEEDS = { // a mixture of seeds from FNV-1a, CityHash, and Murmur3
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+            0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        static final long RESET_MASK = 0x7777777777777777L;
+        static final long ONE_MASK = 0x1111111111111111L;
+
+        long[] table = new long[1];
+        int sampleSize = 10;
+        int size;
+
+        /**
+         * Grows the sketch so that it can track about the given number of
+         * distinct keys, discarding its counters if it grows.
+         */
+        void ensureCapacity(long maximumSize) {
+            int n = (int) Math.min(maximumSize, 1 << 26);
+            if (table.length >= n)
+                return;
+            table = new long[Math.max(Integer.highestOneBit(n - 1) << 1, 1)];
+            sampleSize = 10 * table.length;
+            size = 0;
+        }
+
+        static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+
+        int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += (h >>> 32);
+            return ((int) h) & (table.length - 1);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int offset = (start + i) << 2;
+                int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int j = indexOf(hash, i), offset = (start + i) << 2;
+                long mask = 0xfL << offset;
+                if ((table[j] & mask) != mask) {
+                    table[j] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++size == sampleSize)
+                reset();
+        }
+
+        void reset() {
+            int odd = 0;
+            long[] t = table;
+            for (int i = 0; i < t.length; i++) {
+                odd += Long.bitCount(t[i] & ONE_MASK);
+                t[i] = (t[i] >>> 1) & RESET_MASK;
+            }
+            size = (size - (odd >>> 2)) >>> 1;
+        }
+    }
+
+    /**
+     * Statistics about the performance of a cache.  Instances are
+     * immutable snapshots returned by {@link BoundedConcurrentCache#stats()}.
+     *
+     * @since 12
+     */
+    public static final class Stats {
+        private final long hitCount, missCount, evictionCount, evictionWeight;
+
+        Stats(long hitCount, long missCount, long evictionCount,
+              long evictionWeight) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.evictionWeight = evictionWeight;
+        }
+
+        /**
+         * Returns the number of lookups that found a cached value.
+         *
+         * @return the number of hits
+         */
+        public long hitCount() { return hitCount; }
+
+        /**
+         * Returns the number of lookups that found no cached value.
+         *
+         * @return the number of misses
+         */
+        public long missCount() { return missCount; }
+
+        /**
+         * Returns the number of entries evicted to bound the weight
+         * of the cache.
+         *
+         * @return the number of evictions
+         */
+        public long evictionCount() { return evictionCount; }
+
+        /**
+         * Returns the sum of the weights of the evicted entries.
+         *
+         * @return the weight of evicted entries
+         */
+        public long evictionWeight() { return evictionWeight; }
+
+        /**
+         * Returns the ratio of hits to lookups, or {@code 1.0} if there
+         * were no lookups.
+         *
+         * @return the hit rate
+         */
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return (requests == 0) ? 1.0 : (double) hitCount / requests;
+        }
+
+        /**
+         * Returns a string identifying these statistics.
+         *
+         * @return a string identifying these statistics
+         */
+        public String toString() {
+            return "Stats[hitCount=" + hitCount + ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", evictionWeight=" + evictionWeight + "]";
+        }
+    }
+
+    final ConcurrentHashMap<K,Node<K,V>> data;
+    final ToIntBiFunction<? super K, ? super V> weigher;
+    final long maximum;
+    final ReentrantLock evictionLock = new ReentrantLock();
+    final ConcurrentLinkedQueue<Runnable> writeBuffer =
+        new ConcurrentLinkedQueue<>();
+    final ReadBuffer<K,V>[] readBuffers;
+
+    // the fields below are guarded by evictionLock
+    final AccessOrderDeque<K,V> window = new AccessOrderDeque<>();
+    final AccessOrderDeque<K,V> probation = new AccessOrderDeque<>();
+    final AccessOrderDeque<K,V> protectedQ = new AccessOrderDeque<>();
+    final FrequencySketch sketch = new FrequencySketch();
+    final long windowMaximum, protectedMaximum;
+    long windowWeight, protectedWeight;
+    volatile long weightedSize; // written only with evictionLock held
+
+    final LongAdder hitCount = new LongAdder();
+    final LongAdder missCount = new LongAdder();
+    final LongAdder evictionCount = new LongAdder();
+    final LongAdder evictionWeight = new LongAdder();
+
+    /**
+     * Creates a new, empty cache holding at most the given number of
+     * entries.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if {@code maximumSize} is negative
+     */
+    public BoundedConcurrentCache(long maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Creates a new, empty cache whose entries' total weight, as computed
+     * by the given weigher, is at most the given maximum.
+     *
+     * @param maximumWeight the maximum total weight of the entries
+     * @param weigher the function computing the weight of an entry from
+     *        its key and value, or {@code null} to give all entries
+     *        a weight of 1; it must return a non-negative value
+     * @throws IllegalArgumentException if {@code maximumWeight} is negative
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedConcurrentCache(long maximumWeight,
+                                  ToIntBiFunction<? super K, ? super V> weigher) {
+        if (maximumWeight < 0)
+            throw new IllegalArgumentException();
+        this.maximum = maximumWeight;
+        this.weigher = weigher;
+        this.data = new ConcurrentHashMap<>();
+        this.windowMaximum = Math.max(maximumWeight * WINDOW_PERCENT / 100,
+                                      Math.min(1, maximumWeight));
+        this.protectedMaximum =
+            (maximumWeight - windowMaximum) * PROTECTED_PERCENT / 100;
+        ReadBuffer<K,V>[] rb = (ReadBuffer<K,V>[])
+            new ReadBuffer<?,?>[READ_BUFFER_STRIPES];
+        for (int i = 0; i < rb.length; i++)
+            rb[i] = new ReadBuffer<>();
+        this.readBuffers = rb;
+        if (weigher == null)
+            sketch.ensureCapacity(maximumWeight);
+    }
+
+    /**
+     * Returns the weight of the given entry.
+     */
+    private int weigh(K key, V value) {
+        if (weigher == null)
+            return 1;
+        int w = weigher.applyAsInt(key, value);
+        if (w < 0)
+            throw new IllegalArgumentException("negative weight: " + w);
+        return w;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code null} if this cache contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the cached value, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    public V get(Object key) {
+        Node<K,V> n = data.get(key);
+        if (n == null) {
+            missCount.increment();
+            return null;
+        }
+        V v = n.value;
+        hitCount.increment();
+        afterRead(n);
+        return v;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, computing
+     * it with the given function and caching it if there is none.  The
+     * function is invoked at most once per absent key, while other
+     * updates of the same key are blocked, as with
+     * {@link ConcurrentHashMap#computeIfAbsent}, so it should be short
+     * and simple and must not update this cache.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with
+     *         the specified key, or null if the computed value is null
+     * @throws NullPointerException if the specified key or mappingFunction
+     *         is null
+     * @throws IllegalArgumentException if the weight of the computed
+     *         value is negative
+     */
+    public V computeIfAbsent(K key,
+                             Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        Node<K,V> n = data.get(key);
+        if (n != null) {
+            V v = n.value;
+            hitCount.increment();
+            afterRead(n);
+            return v;
+        }
+        @SuppressWarnings("unchecked")
+        Node<K,V>[] created = (Node<K,V>[]) new Node<?,?>[1];
+        n = data.computeIfAbsent(key, k -> {
+            V v = mappingFunction.apply(k);
+            return (v == null) ? null : (created[0] = new Node<>(k, v, weigh(k, v)));
+        });
+        if (n == null) {
+            missCount.increment();
+            return null;
+        }
+        if (created[0] == n) {
+            missCount.increment();
+            afterWrite(new AddTask(n));
+        } else {
+            hitCount.increment();
+            afterRead(n);
+        }
+        return n.value;
+    }
+
+    /**
+     * Returns {@code true} if this cache contains a mapping for the
+     * specified key.  This method does not count as an access to the
+     * entry and is not recorded in the statistics.
+     *
+     * @param key key whose presence in this cache is to be tested
+     * @return {@code true} if this cache contains a mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    /**
+     * Maps the specified key to the specified value in this cache,
+     * possibly evicting other entries.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}
+     * @throws NullPointerException if the specified key or value is null
+     * @throws IllegalArgumentException if the weight of the value is
+     *         negative
+     */
+    public V put(K key, V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * If the specified key is not already associated with a value,
+     * associates it with the given value, possibly evicting other entries.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key,
+     *         or {@code null} if there was no mapping for the key
+     * @throws NullPointerException if the specified key or value is null
+     * @throws IllegalArgumentException if the weight of the value is
+     *         negative
+     */
+    public V putIfAbsent(K key, V value) {
+        return put(key, value, true);
+    }
+
+    private V put(K key, V value, boolean onlyIfAbsent) {
+        Objects.requireNonNull(value);
+        int w = weigh(key, value);
+        Node<K,V> node = null;
+        for (;;) {
+            Node<K,V> prior = data.get(key);
+            if (prior == null) {
+                if (node == null)
+                    node = new Node<>(key, value, w);
+                if ((prior = data.putIfAbsent(key, node)) == null) {
+                    afterWrite(new AddTask(node));
+                    return null;
+                }
+            }
+            V oldValue;
+            synchronized (prior) {
+                if (!prior.alive)
+                    continue; // removed since retrieved, retry
+                oldValue = prior.value;
+                if (onlyIfAbsent) {
+                    afterRead(prior);
+                    return oldValue;
+                }
+                prior.value = value;
+                prior.weight = w;
+            }
+            afterWrite(new UpdateTask(prior));
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present.
+     *
+     * @param key key whose mapping is to be removed from the cache
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}
+     * @throws NullPointerException if the specified key is null
+     */
+    public V remove(Object key) {
+        Node<K,V> n = data.remove(key);
+        if (n == null)
+            return null;
+        V oldValue;
+        synchronized (n) {
+            oldValue = n.value;
+            n.alive = false;
+        }
+        afterWrite(new RemovalTask(n));
+        return oldValue;
+    }
+
+    /**
+     * Removes all of the mappings from this cache.
+     */
+    public void clear() {
+        for (K key : data.keySet())
+            remove(key);
+    }
+
+    /**
+     * Returns the number of mappings in this cache.
+     *
+     * @return the number of mappings in this cache
+     */
+    public long size() {
+        return data.mappingCount();
+    }
+
+    /**
+     * Returns the total weight of the mappings in this cache, as accounted
+     * for by the eviction policy.  Pending writes are accounted for first.
+     *
+     * @return the total weight of the mappings in this cache
+     */
+    public long weightedSize() {
+        cleanUp();
+        return weightedSize;
+    }
+
+    /**
+     * Returns the maximum total weight of the mappings in this cache.
+     *
+     * @return the maximum weight
+     */
+    public long maximumWeight() {
+        return maximum;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics of this cache
+     */
+    public Stats stats() {
+        return new Stats(hitCount.sum(), missCount.sum(),
+                         evictionCount.sum(), evictionWeight.sum());
+    }
+
+    /**
+     * Performs any pending bookkeeping of reads and writes, and evicts
+     * entries if the cache is above its maximum weight.  This is done
+     * as needed by the other methods, so calling this method is never
+     * required; it may be used to make the state of the cache current.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+        tryDrain(); // pick up writes appended while waiting for the lock
+    }
+
+    // Buffering of reads and writes
+
+    void afterRead(Node<K,V> node) {
+        int probe;
+        if ((probe = ThreadLocalRandom.getProbe()) == 0) {
+            ThreadLocalRandom.localInit();
+            probe = ThreadLocalRandom.getProbe();
+        }
+        ReadBuffer<K,V> rb = readBuffers[probe & (readBuffers.length - 1)];
+        int r = rb.offer(node);
+        if (r == ReadBuffer.FAILED)
+            ThreadLocalRandom.advanceProbe(probe); // move off contended stripe
+        else if (r == ReadBuffer.FULL)
+            tryDrain();
+    }
+
+    void afterWrite(Runnable task) {
+        writeBuffer.add(task);
+        tryDrain();
+    }
+
+    /**
+     * Drains the buffers if the lock is free, repeating while tasks were
+     * appended to the write buffer by threads that found the lock held.
+     */
+    void tryDrain() {
+        while (evictionLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+            if (writeBuffer.isEmpty())
+                break;
+        }
+    }
+
+    /** Drains the buffers and evicts. Called with evictionLock held. */
+    void maintenance() {
+        for (ReadBuffer<K,V> rb : readBuffers)
+            rb.drainTo(this);
+        Runnable task;
+        while ((task = writeBuffer.poll()) != null)
+            task.run();
+        evictEntries();
+    }
+
+    final class AddTask implements Runnable {
+        final Node<K,V> node;
+        AddTask(Node<K,V> node) { this.node = node; }
+        public void run() {
+            Node<K,V> n = node;
+            if (n.removed || n.linked)
+                return;
+            int w = n.weight();
+            n.policyWeight = w;
+            weightedSize += w;
+            windowWeight += w;
+            n.queue = WINDOW;
+            n.linked = true;
+            window.linkLast(n);
+            if (weigher != null)
+                sketch.ensureCapacity(data.mappingCount());
+            sketch.increment(n.key);
+        }
+    }
+
+    final class UpdateTask implements Runnable {
+        final Node<K,V> node;
+        UpdateTask(Node<K,V> node) { this.node = node; }
+        public void run() {
+            Node<K,V> n = node;
+            if (n.linked) {
+                updateWeight(n);
+                onAccess(n);
+            }
+        }
+    }
+
+    final class RemovalTask implements Runnable {
+        final Node<K,V> node;
+        RemovalTask(Node<K,V> node) { this.node = node; }
+        public void run() {
+            Node<K,V> n = node;
+            if (n.linked)
+                unlink(n);
+            n.removed = true;
+        }
+    }
+
+    // Eviction policy, all called with evictionLock held
+
+    /**
+     * Brings the weight of a linked node accounted for by the policy up
+     * to date with the weight of its current value.
+     */
+    void updateWeight(Node<K,V> n) {
+        int delta = n.weight() - n.policyWeight;
+        if (delta != 0) {
+            n.policyWeight += delta;
+            weightedSize += delta;
+            if (n.queue == WINDOW)
+                windowWeight += delta;
+            else if (n.queue == PROTECTED)
+                protectedWeight += delta;
+        }
+    }
+
+    /** Records an access to a node. */
+    void onAccess(Node<K,V> n) {
+        if (!n.linked)
+            return; // not yet added, or already removed
+        sketch.increment(n.key);
+        switch (n.queue) {
+        case WINDOW:
+            window.moveToBack(n);
+            break;
+        case PROBATION:
+            probation.unlink(n);
+            n.queue = PROTECTED;
+            protectedQ.linkLast(n);
+            protectedWeight += n.policyWeight;
+            demoteFromProtected();
+            break;
+        default:
+            protectedQ.moveToBack(n);
+        }
+    }
+
+    /** Demotes the least recently used protected nodes above maximum. */
+    void demoteFromProtected() {
+        Node<K,V> n;
+        while (protectedWeight > protectedMaximum &&
+               (n = protectedQ.head) != null) {
+            protectedQ.unlink(n);
+            protectedWeight -= n.policyWeight;
+            n.queue = PROBATION;
+            probation.linkLast(n);
+        }
+    }
+
+    /** Unlinks a node from the policy. */
+    void unlink(Node<K,V> n) {
+        switch (n.queue) {
+        case WINDOW:
+            window.unlink(n);
+            windowWeight -= n.policyWeight;
+            break;
+        case PROBATION:
+            probation.unlink(n);
+            break;
+        default:
+            protectedQ.unlink(n);
+            protectedWeight -= n.policyWeight;
+        }
+        weightedSize -= n.policyWeight;
+        n.linked = false;
+        n.removed = true;
+    }
+
+    /**
+     * Moves the nodes that overflow the window to the probation segment,
+     * where they compete for admission, then evicts until the cache is
+     * no longer above its maximum weight.
+     */
+    void evictEntries() {
+        // Nodes leaving the window are candidates for admission
+        Node<K,V> candidate = null, n;
+        while (windowWeight > windowMaximum && (n = window.head) != null) {
+            window.unlink(n);
+            windowWeight -= n.policyWeight;
+            n.queue = PROBATION;
+            probation.linkLast(n);
+            if (candidate == null)
+                candidate = n;
+        }
+
+        // Each candidate competes with the least recently used
+        // probation node, which is evicted if it is less frequently
+        // used. Candidates always lie after victims in probation.
+        while (weightedSize > maximum) {
+            Node<K,V> victim = probation.head;
+            if (victim == null)
+                victim = protectedQ.head;
+            if (victim == null)
+                victim = window.head;
+            if (victim == null)
+                break;
+            Node<K,V> evictee = victim;
+            if (candidate != null) {
+                if (candidate == victim) {
+                    candidate = candidate.next; // no older node to compete with
+                } else if (candidate.policyWeight <= maximum &&
+                           sketch.frequency(candidate.key) >
+                           sketch.frequency(victim.key)) {
+                    evictee = victim;
+                } else {
+                    evictee = candidate;
+                    candidate = candidate.next;
+                }
+            }
+            evict(evictee);
+        }
+    }
+
+    /** Evicts a linked node. */
+    void evict(Node<K,V> n) {
+        int w = n.policyWeight;
+        if (data.remove(n.key, n)) {
+            synchronized (n) {
+                n.alive = false;
+            }
+            evictionCount.increment();
+            evictionWeight.add(w);
+        } // else already removed by the user, its removal task is pending
+        unlink(n);
+    }
+}
@@ -0,0 +1,794 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A linear-time matching engine for the patterns compiled with the
+ * {@link Pattern#LINEAR_TIME} flag that use only regular constructs:
+ * literals, simple character classes, the dot, groups, alternations,
+ * greedy and reluctant quantifiers, and a leading {@code ^}.
+ *
+ * The pattern is compiled to a Thompson NFA, which is simulated by a
+ * DFA whose states, ordered sets of NFA states, are built lazily as
+ * the input requires them and cached. A match is found by a forward
+ * scan with leftmost-first (Perl) priorities, which gives the end of
+ * the match found by the backtracking engine, followed by a backward
+ * scan of the reversed NFA, which gives its start.
+ *
+ * The engine reads the input by chars, and returns FALLBACK when it
+ * reads a surrogate, so that the backtracking engine, which reads code
+ * points, is used for the input containing supplementary characters.
+ * The cached states are shared by all the matchers of a pattern: they
+ * are created under the lock of their machine, and their transitions
+ * to the cached states are then read without locking.
+ */
+final class LazyDFA {
+
+    /** Returned by the scans when the backtracking engine must be used. */
+    static final int FALLBACK = -2;
+
+    /** Returned by the scans when there is no match. */
+    static final int NO_MATCH = -1;
+
+    /** The maximum number of NFA instructions of a supported pattern. */
+    private static final int MAX_PROGRAM = 10000;
+
+    /** The maximum number of cached DFA states of a machine. */
+    private static final int MAX_STATES = 2000;
+
+    private final boolean anchored;
+    private final Machine first;     // forward, leftmost-first
+    private final Machine all;       // forward, any match
+    private final Machine reverse;   // backward, any match
+
+    private LazyDFA(boolean anchored, Prog fwd, Prog bwd) {
+        this.anchored = anchored;
+        this.first = new Machine(fwd, true);
+        this.all = new Machine(fwd, false);
+        this.reverse = new Machine(bwd, false);
+    }
+
+    /**
+     * Returns the engine for the given pattern, or null if the pattern
+     * or its flags use constructs the engine does not support.  The
+     * pattern has already been compiled by Pattern, so it is valid.
+     */
+    static LazyDFA compile(String regex, int flags) {
+        if ((flags & ~(Pattern.LINEAR_TIME | Pattern.DOTALL
+                       | Pattern.UNIX_LINES)) != 0)
+            return null;
+        try {
+            Parser p = new Parser(regex, flags);
+            boolean anchored = p.accept('^');
+            Node n = p.parseAlternation();
+            if (p.i != regex.length() || (anchored && n.kind == Node.ALT))
+                return null; // ^ applies to the first alternative only
+            Prog fwd = Prog.compile(n, false);
+            Prog bwd = Prog.compile(n, true);
+            return new LazyDFA(anchored, fwd, bwd);
+        } catch (UnsupportedOperationException x) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the next match at or after from, for Matcher.search. Sets
+     * first, last, groups[0..1] and hitEnd of the matcher if a match is
+     * found, and returns its start; otherwise returns NO_MATCH or
+     * FALLBACK.
+     */
+    int find(Matcher m, int from) {
+        CharSequence text = m.text;
+        int to = m.to;
+        int start, end;
+        if (anchored) {
+            int fromIndex = m.anchoringBounds ? m.from : 0;
+            if (from != fromIndex)
+                return NO_MATCH;
+            end = scan(first, m, text, from, to, false);
+            start = from;
+        } else {
+            end = scan(first, m, text, from, to, true);
+            if (end < 0)
+                return end;
+            start = scanBackward(text, from, end);
+        }
+        if (end < 0 || start < 0)
+            return (end == FALLBACK || start == FALLBACK) ? FALLBACK : NO_MATCH;
+        setMatch(m, start, end);
+        return start;
+    }
+
+    /**
+     * Matches at from, for Matcher.match. If the match must end at the
+     * end of the region (matches), any match does; otherwise (lookingAt)
+     * the leftmost-first one is found. Sets first, last, groups[0..1] and
+     * hitEnd of the matcher if there is a match, and returns its end;
+     * otherwise returns NO_MATCH or FALLBACK.
+     */
+    int match(Matcher m, int from, boolean toEnd) {
+        if (anchored && from != (m.anchoringBounds ? m.from : 0))
+            return NO_MATCH;
+        int to = m.to;
+        int end = scan(toEnd ? all : first, m, m.text, from, to, false);
+        if (end < 0 || (toEnd && end != to))
+            return (end == FALLBACK) ? FALLBACK : NO_MATCH;
+        setMatch(m, from, end);
+        return end;
+    }
+
+    private static void setMatch(Matcher m, int start, int end) {
+        m.first = start;
+        m.last = end;
+        m.groups[0] = start;
+        m.groups[1] = end;
+    }
+
+    /**
+     * Scans forward from from, returning the end of the match, the
+     * last one found for a leftmost-first machine, or for the other
+     * machine a match ending at to if any. Sets hitEnd if the scan
+     * stopped at to while more input could have extended the match.
+     */
+    private static int scan(Machine mc, Matcher m, CharSequence text,
+                            int from, int to, boolean unanchored) {
+        State s = mc.start(unanchored);
+        int matchEnd = s.match ? from : NO_MATCH;
+        int i = from;
+        while (s.live && i < to) {
+            char c = text.charAt(i++);
+            if (Character.isSurrogate(c))
+                return FALLBACK;
+            State n;
+            if (c >= State.ASCII || (n = s.ascii[c]) == null)
+                n = mc.next(s, c);
+            s = n;
+            if (s.match)
+                matchEnd = i;
+        }
+        m.hitEnd = (matchEnd < 0) || (i == to && s.live);
+        if (!mc.cut && (i != to || !s.match))
+            return NO_MATCH;
+        return matchEnd;
+    }
+
+    /**
+     * Scans backward from end with the reversed pattern, returning the
+     * least index not before from where a match ending at end starts.
+     */
+    private int scanBackward(CharSequence text, int from, int end) {
+        Machine mc = reverse;
+        State s = mc.start(false);
+        int matchStart = s.match ? end : NO_MATCH;
+        int i = end;
+        while (s.live && i > from) {
+            char c = text.charAt(--i);
+            if (Character.isSurrogate(c))
+                return FALLBACK;
+            State n;
+            if (c >= State.ASCII || (n = s.ascii[c]) == null)
+                n = mc.next(s, c);
+            s = n;
+            if (s.match)
+                matchStart = i;
+        }
+        return matchStart;
+    }
+
+    // Character sets, as sorted disjoint inclusive ranges of chars
+
+    static final int[] ALL = { 0, 0xFFFF };
+    static final int[] DIGIT = { '0', '9' };
+    static final int[] WORD = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+    static final int[] SPACE = { '\t', '\r', ' ', ' ' };
+    static final int[] DOT = { 0, '\n' - 1, '\n' + 1, '\r' - 1, '\r' + 1, 0x84,
+                               0x86, 0x2027, 0x202A, 0xFFFF };
+    static final int[] UNIXDOT = { 0, '\n' - 1, '\n' + 1, 0xFFFF };
+
+    static boolean contains(int[] set, char c) {
+        for (int k = 0; k < set.length; k += 2) {
+            if (c < set[k])
+                return false;
+            if (c <= set[k + 1])
+                return true;
+        }
+        return false;
+    }
+
+    static int[] union(int[] a, int[] b) {
+        int[] r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        // sort the ranges by their low bound
+        long[] ranges = new long[r.length / 2];
+        for (int k = 0; k < ranges.length; k++)
+            ranges[k] = ((long) r[2 * k] << 32) | r[2 * k + 1];
+        Arrays.sort(ranges);
+        int n = 0;
+        for (long range : ranges) {
+            int lo = (int) (range >>> 32), hi = (int) range;
+            if (n > 0 && lo <= r[n - 1] + 1) {
+                r[n - 1] = Math.max(r[n - 1], hi);
+            } else {
+                r[n++] = lo;
+                r[n++] = hi;
+            }
+        }
+        return Arrays.copyOf(r, n);
+    }
+
+    static int[] complement(int[] a) {
+        int[] r = new int[a.length + 2];
+        int n = 0, lo = 0;
+        for (int k = 0; k < a.length; k += 2) {
+            if (a[k] > lo) {
+                r[n++] = lo;
+                r[n++] = a[k] - 1;
+            }
+            lo = a[k + 1] + 1;
+        }
+        if (lo <= 0xFFFF) {
+            r[n++] = lo;
+            r[n++] = 0xFFFF;
+        }
+        return Arrays.copyOf(r, n);
+    }
+
+    // Syntax tree
+
+    static final class Node {
+        static final int SET = 0, CAT = 1, ALT = 2, REPEAT = 3;
+        static final int INFINITE = -1;
+
+        final int kind;
+        final int[] set;
+        final Node[] kids;
+        final int min, max;
+        final boolean greedy;
+
+        Node(int kind, int[] set, Node[] kids, int min, int max, boolean greedy) {
+            this.kind = kind;
+            this.set = set;
+            this.kids = kids;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+        }
+
+        /** Returns true if the node matches the empty string. */
+        boolean nullable() {
+            switch (kind) {
+            case SET:
+                return false;
+            case CAT:
+                for (Node kid : kids) {
+                    if (!kid.nullable())
+                        return false;
+                }
+                return true;
+            case ALT:
+                for (Node kid : kids) {
+                    if (kid.nullable())
+                        return true;
+                }
+                return false;
+            default:
+                return min == 0 || kids[0].nullable();
+            }
+        }
+
+        static Node set(int[] set) {
+            return new Node(SET, set, null, 0, 0, false);
+        }
+
+        static Node list(int kind, ArrayList<Node> kids) {
+            if (kids.size() == 1)
+                return kids.get(0);
+            return new Node(kind, null, kids.toArray(new Node[0]), 0, 0, false);
+        }
+    }
+
+    /**
+     * Parses the supported subset of the pattern syntax, throwing
+     * UnsupportedOperationException for anything else.
+     */
+    static final class Parser {
+        final String s;
+        final int[] dot;
+        int i;
+
+        Parser(String s, int flags) {
+            this.s = s;
+            if ((flags & Pattern.DOTALL) != 0)
+                dot = ALL;
+            else if ((flags & Pattern.UNIX_LINES) != 0)
+                dot = UNIXDOT;
+            else
+                dot = DOT;
+        }
+
+        static UnsupportedOperationException unsupported() {
+            return new UnsupportedOperationException();
+        }
+
+        boolean accept(char c) {
+            if (i < s.length() && s.charAt(i) == c) {
+                i++;
+                return true;
+            }
+            return false;
+        }
+
+        char next() {
+            if (i >= s.length())
+                throw unsupported();
+            char c = s.charAt(i++);
+            if (Character.isSurrogate(c))
+                throw unsupported();
+            return c;
+        }
+
+        Node parseAlternation() {
+            ArrayList<Node> alts = new ArrayList<>();
+            alts.add(parseConcatenation());
+            while (accept('|'))
+                alts.add(parseConcatenation());
+            return Node.list(Node.ALT, alts);
+        }
+
+        Node parseConcatenation() {
+            ArrayList<Node> items = new ArrayList<>();
+            while (i < s.length()) {
+                char c = s.charAt(i);
+                if (c == '|' || c == ')')
+                    break;
+                items.add(parseRepeat());
+            }
+            if (items.isEmpty())
+                return new Node(Node.CAT, null, new Node[0], 0, 0, false);
+            return Node.list(Node.CAT, items);
+        }
+
+        Node parseRepeat() {
+            Node atom = parseAtom();
+            if (i >= s.length())
+                return atom;
+            int min, max;
+            switch (s.charAt(i)) {
+            case '*': min = 0; max = Node.INFINITE; i++; break;
+            case '+': min = 1; max = Node.INFINITE; i++; break;
+            case '?': min = 0; max = 1; i++; break;
+            case '{':
+                i++;
+                min = max = parseInt();
+                if (accept(',')) {
+                    max = (i < s.length() && s.charAt(i) == '}')
+                        ? Node.INFINITE : parseInt();
+                }
+                if (!accept('}') || (max != Node.INFINITE && max < min))
+                    throw unsupported();
+                if (Math.max(min, max) > 1000)
+                    throw unsupported();
+                break;
+            default:
+                return atom;
+            }
+            boolean greedy = !accept('?');
+            if (i < s.length()) {
+                char c = s.charAt(i);
+                if (c == '+' || c == '*' || c == '?' || c == '{')
+                    throw unsupported(); // possessive or stacked
+            }
+            // The backtracking engine ends a loop after an iteration
+            // matching the empty string, rather than trying the other
+            // ways to match the iteration; keep to the loops where this
+            // cannot occur.
+            if (max != 1 && atom.nullable())
+                throw unsupported();
+            return new Node(Node.REPEAT, null, new Node[] { atom },
+                            min, max, greedy);
+        }
+
+        int parseInt() {
+            int start = i;
+            while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9'
+                   && i - start < 5)
+                i++;
+            if (i == start)
+                throw unsupported();
+            return Integer.parseInt(s, start, i, 10);
+        }
+
+        Node parseAtom() {
+            char c = next();
+            switch (c) {
+            case '(':
+                if (accept('?')) {
+                    if (accept(':')) {
+                        // non-capturing group
+                    } else if (accept('<') && i < s.length()
+                               && Character.isLetter(s.charAt(i))) {
+                        while (next() != '>') { }  // named group
+                    } else {
+                        throw unsupported();
+                    }
+                }
+                Node n = parseAlternation();
+                if (!accept(')'))
+                    throw unsupported();
+                return n;
+            case '[':
+                return Node.set(parseClass());
+            case '.':
+                return Node.set(dot);
+            case '\\':
+                return Node.set(parseEscape(false));
+            case '^': case '$': case '*': case '+': case '?': case '{':
+            case ')': case '|':
+                throw unsupported();
+            default:
+                return Node.set(new int[] { c, c });
+            }
+        }
+
+        int[] parseClass() {
+            boolean negate = accept('^');
+            if (i < s.length() && s.charAt(i) == ']')
+                throw unsupported();
+            int[] set = new int[0];
+            for (;;) {
+                char c = next();
+                if (c == ']')
+                    break;
+                if (c == '[' || (c == '&' && i < s.length() && s.charAt(i) == '&'))
+                    throw unsupported();
+                int[] item = (c == '\\') ? parseEscape(true) : new int[] { c, c };
+                if (i + 1 < s.length() && s.charAt(i) == '-'
+                    && s.charAt(i + 1) != ']') {
+                    i++;
+                    char d = next();
+                    int[] hi = (d == '\\') ? parseEscape(true) : new int[] { d, d };
+                    if (item.length != 2 || item[0] != item[1]
+                        || hi.length != 2 || hi[0] != hi[1] || hi[0] < item[0])
+                        throw unsupported();
+                    item = new int[] { item[0], hi[0] };
+                }
+                set = union(set, item);
+            }
+            return negate ? complement(set) : set;
+        }
+
+        int[] parseEscape(boolean inClass) {
+            char c = next();
+            switch (c) {
+            case 't': c = '\t'; break;
+            case 'n': c = '\n'; break;
+            case 'r': c = '\r'; break;
+            case 'f': c = '\f'; break;
+            case 'a': c = '\u0007'; break;
+            case 'e': c = '\u001B'; break;
+            case 'd': return DIGIT;
+            case 'D': return complement(DIGIT);
+            case 'w': return WORD;
+            case 'W': return complement(WORD);
+            case 's': return SPACE;
+            case 'S': return complement(SPACE);
+            case 'x':
+                c = (char) parseHex(2);
+                break;
+            case 'u':
+                c = (char) parseHex(4);
+                if (Character.isSurrogate(c))
+                    throw unsupported();
+                break;
+            default:
+                if (c < 128 && Character.isLetterOrDigit(c))
+                    throw unsupported();
+                break;  // quoted character
+            }
+            return new int[] { c, c };
+        }
+
+        int parseHex(int n) {
+            int v = 0;
+            for (int k = 0; k < n; k++) {
+                int d = Character.digit(next(), 16);
+                if (d < 0)
+                    throw Parser.unsupported();
+                v = (v << 4) | d;
+            }
+            return v;
+        }
+    }
+
+    /**
+     * A Thompson NFA, as a program of CHAR (consume a char of a set),
+     * SPLIT (fork, preferring the first target), JMP and MATCH
+     * instructions, starting at 0.
+     */
+    static final class Prog {
+        static final int CHAR = 0, SPLIT = 1, JMP = 2, MATCH = 3;
+
+        int[] op = new int[16], x = new int[16], y = new int[16];
+        int[][] sets = new int[16][];
+        int size;
+
+        static Prog compile(Node n, boolean reverse) {
+            Prog p = new Prog();
+            p.emit(n, reverse);
+            p.add(MATCH, 0, 0, null);
+            return p;
+        }
+
+        int add(int o, int a, int b, int[] set) {
+            if (size >= MAX_PROGRAM)
+                throw Parser.unsupported();
+            if (size == op.length) {
+                op = Arrays.copyOf(op, size * 2);
+                x = Arrays.copyOf(x, size * 2);
+                y = Arrays.copyOf(y, size * 2);
+                sets = Arrays.copyOf(sets, size * 2);
+            }
+            op[size] = o;
+            x[size] = a;
+            y[size] = b;
+            sets[size] = set;
+            return size++;
+        }
+
+        void emit(Node n, boolean reverse) {
+            switch (n.kind) {
+            case Node.SET:
+                add(CHAR, 0, 0, n.set);
+                break;
+            case Node.CAT:
+                for (int k = 0; k < n.kids.length; k++)
+                    emit(n.kids[reverse ? n.kids.length - 1 - k : k], reverse);
+                break;
+            case Node.ALT: {
+                int[] jumps = new int[n.kids.length - 1];
+                for (int k = 0; k < n.kids.length - 1; k++) {
+                    int split = add(SPLIT, 0, 0, null);
+                    x[split] = size;
+                    emit(n.kids[k], reverse);
+                    jumps[k] = add(JMP, 0, 0, null);
+                    y[split] = size;
+                }
+                emit(n.kids[n.kids.length - 1], reverse);
+                for (int j : jumps)
+                    x[j] = size;
+                break;
+            }
+            default: { // REPEAT
+                Node kid = n.kids[0];
+                for (int k = 0; k < n.min; k++)
+                    emit(kid, reverse);
+                if (n.max == Node.INFINITE) {
+                    int split = add(SPLIT, 0, 0, null);
+                    emit(kid, reverse);
+                    add(JMP, split, 0, null);
+                    setTargets(split, split + 1, size, n.greedy);
+                } else {
+                    int[] splits = new int[n.max - n.min];
+                    for (int k = 0; k < splits.length; k++) {
+                        splits[k] = add(SPLIT, 0, 0, null);
+                        emit(kid, reverse);
+                    }
+                    for (int split : splits)
+                        setTargets(split, split + 1, size, n.greedy);
+                }
+            }
+            }
+        }
+
+        void setTargets(int split, int body, int exit, boolean greedy) {
+            x[split] = greedy ? body : exit;
+            y[split] = greedy ? exit : body;
+        }
+    }
+
+    /**
+     * A state of the DFA: the NFA CHAR and MATCH instructions reached
+     * after reading some input, in priority order.
+     */
+    static final class State {
+        static final int ASCII = 128;
+
+        final int[] pcs;
+        final boolean prefix;   // still starting new matches at each char
+        final boolean match;    // pcs contains MATCH
+        final boolean live;     // more input may lead to a match
+        final int hash;
+
+        // transitions, written under the lock of the machine
+        final State[] ascii = new State[ASCII];
+        HashMap<Character,State> others;
+
+        State(int[] pcs, boolean prefix, boolean match, boolean live) {
+            this.pcs = pcs;
+            this.prefix = prefix;
+            this.match = match;
+            this.live = live;
+            this.hash = Arrays.hashCode(pcs) * 31 + (prefix ? 1 : 0);
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+
+        public boolean equals(Object o) {
+            if (!(o instanceof State))
+                return false;
+            State s = (State) o;
+            return hash == s.hash && prefix == s.prefix
+                && Arrays.equals(pcs, s.pcs);
+        }
+    }
+
+    /**
+     * The DFA of a program, built lazily. With cut, the states keep
+     * only the NFA threads of higher priority than a match, which gives
+     * the match preferred by the backtracking engine.
+     */
+    static final class Machine {
+        final Prog prog;
+        final boolean cut;
+        private final HashMap<State,State> cache = new HashMap<>();
+        private volatile State anchoredStart, unanchoredStart;
+
+        // scratch storage for computing states, guarded by this
+        private int[] list, stack, marks;
+        private int size, generation;
+        private boolean matched;
+
+        Machine(Prog prog, boolean cut) {
+            this.prog = prog;
+            this.cut = cut;
+        }
+
+        State start(boolean unanchored) {
+            State s = unanchored ? unanchoredStart : anchoredStart;
+            if (s == null) {
+                synchronized (this) {
+                    begin();
+                    addClosure(0);
+                    s = state(unanchored && !(cut && matched));
+                    if (unanchored)
+                        unanchoredStart = s;
+                    else
+                        anchoredStart = s;
+                }
+            }
+            return s;
+        }
+
+        synchronized State next(State s, char c) {
+            State n;
+            if (c < State.ASCII) {
+                if ((n = s.ascii[c]) != null)
+                    return n;
+            } else if (s.others != null && (n = s.others.get(c)) != null) {
+                return n;
+            }
+            begin();
+            int[] op = prog.op;
+            int[][] sets = prog.sets;
+            for (int pc : s.pcs) {
+                if (op[pc] == Prog.CHAR && contains(sets[pc], c)) {
+                    addClosure(pc + 1);
+                    if (cut && matched)
+                        break;
+                }
+            }
+            boolean prefix = s.prefix && !(cut && matched);
+            if (prefix) {
+                addClosure(0);
+                prefix = !(cut && matched);
+            }
+            n = state(prefix);
+            if (cache.get(n) == n) { // link only the cached states
+                if (c < State.ASCII) {
+                    s.ascii[c] = n;
+                } else {
+                    if (s.others == null)
+                        s.others = new HashMap<>();
+                    s.others.put(c, n);
+                }
+            }
+            return n;
+        }
+
+        private void begin() {
+            int n = prog.size;
+            if (list == null) {
+                list = new int[n];
+                stack = new int[2 * n + 1];
+                marks = new int[n];
+            }
+            if (++generation == 0) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+            size = 0;
+            matched = false;
+        }
+
+        /**
+         * Adds the CHAR and MATCH instructions reachable from pc without
+         * consuming input, in priority order, stopping at a MATCH if cut.
+         */
+        private void addClosure(int pc) {
+            int[] op = prog.op, x = prog.x, y = prog.y;
+            int sp = 0;
+            stack[sp++] = pc;
+            while (sp > 0) {
+                pc = stack[--sp];
+                if (marks[pc] == generation)
+                    continue;
+                marks[pc] = generation;
+                switch (op[pc]) {
+                case Prog.CHAR:
+                    list[size++] = pc;
+                    break;
+                case Prog.MATCH:
+                    list[size++] = pc;
+                    matched = true;
+                    if (cut)
+                        return;
+                    break;
+                case Prog.JMP:
+                    stack[sp++] = x[pc];
+                    break;
+                default: // SPLIT
+                    stack[sp++] = y[pc];
+                    stack[sp++] = x[pc];
+                }
+            }
+        }
+
+        /** Returns the cached state for the instructions collected. */
+        private State state(boolean prefix) {
+            int[] pcs = Arrays.copyOf(list, size);
+            boolean live = prefix;
+            for (int pc : pcs) {
+                if (prog.op[pc] == Prog.CHAR) {
+                    live = true;
+                    break;
+                }
+            }
+            State n = new State(pcs, prefix, matched, live);
+            State s = cache.get(n);
+            if (s != null)
+                return s;
+            if (cache.size() < MAX_STATES)
+                cache.put(n, n);
+            return n;
+        }
+    }
+}
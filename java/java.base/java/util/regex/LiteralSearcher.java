@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the leftmost occurrence of any of a set of BMP-only literals with
+ * an Aho-Corasick automaton, in time linear in the length of the input
+ * scanned. Instances are immutable and safe for concurrent use.
+ */
+final class LiteralSearcher {
+    /**
+     * The limits on the literals accepted, beyond which the automaton
+     * is not worth building.
+     */
+    static final int MAX_LITERALS = 256;
+    static final int MAX_STATES = 4096;
+
+    // The goto function: the sorted chars leaving each state, and the
+    // states they lead to
+    private final char[][] chars;
+    private final int[][] targets;
+    // The failure function
+    private final int[] fail;
+    // The length of the path to each state
+    private final int[] depth;
+    // The length of the longest literal ending at each state, or 0
+    private final int[] out;
+    // The ASCII chars starting a literal
+    private final long firstLo, firstHi;
+    private final int maxLength;
+    // The literal, if there is only one
+    private final String single;
+
+    /**
+     * Returns a searcher for the given literals, or null if there are
+     * too many or they are too long.
+     */
+    static LiteralSearcher of(List<int[]> literals) {
+        if (literals.isEmpty() || literals.size() > MAX_LITERALS)
+            return null;
+        List<Map<Character,Integer>> trie = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        trie.add(new HashMap<>());
+        lengths.add(0);
+        int maxLength = 0;
+        for (int[] lit : literals) {
+            if (lit.length == 0)
+                return null;
+            int s = 0;
+            for (int cp : lit) {
+                Integer t = trie.get(s).get((char)cp);
+                if (t == null) {
+                    if (trie.size() == MAX_STATES)
+                        return null;
+                    t = trie.size();
+                    trie.add(new HashMap<>());
+                    lengths.add(0);
+                    trie.get(s).put((char)cp, t);
+                }
+                s = t;
+            }
+            lengths.set(s, lit.length);
+            maxLength = Math.max(maxLength, lit.length);
+        }
+        String single = null;
+        if (literals.size() == 1) {
+            int[] lit = literals.get(0);
+            single = new String(lit, 0, lit.length);
+        }
+        return new LiteralSearcher(trie, lengths, maxLength, single);
+    }
+
+    private LiteralSearcher(List<Map<Character,Integer>> trie,
+                            List<Integer> lengths, int maxLength,
+                            String single) {
+        int n = trie.size();
+        chars = new char[n][];
+        targets = new int[n][];
+        fail = new int[n];
+        depth = new int[n];
+        out = new int[n];
+        this.maxLength = maxLength;
+        this.single = single;
+        for (int s = 0; s < n; s++) {
+            Map<Character,Integer> m = trie.get(s);
+            char[] cs = new char[m.size()];
+            int k = 0;
+            for (char c : m.keySet())
+                cs[k++] = c;
+            Arrays.sort(cs);
+            int[] ts = new int[cs.length];
+            for (k = 0; k < cs.length; k++)
+                ts[k] = m.get(cs[k]);
+            chars[s] = cs;
+            targets[s] = ts;
+        }
+        long lo = 0, hi = 0;
+        for (char c : chars[0]) {
+            if (c < 64)
+                lo |= 1L << c;
+            else if (c < 128)
+                hi |= 1L << c;
+        }
+        firstLo = lo;
+        firstHi = hi;
+
+        // Breadth-first, so that the failure state of a state, which is
+        // shallower, is complete before the state is
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        queue[tail++] = 0;
+        while (head < tail) {
+            int s = queue[head++];
+            int len = lengths.get(s);
+            out[s] = (len > 0) ? len : out[fail[s]];
+            for (int k = 0; k < chars[s].length; k++) {
+                int t = targets[s][k];
+                depth[t] = depth[s] + 1;
+                fail[t] = (s == 0) ? 0 : step(fail[s], chars[s][k]);
+                queue[tail++] = t;
+            }
+        }
+    }
+
+    private int step(int s, char c) {
+        for (;;) {
+            int k = Arrays.binarySearch(chars[s], c);
+            if (k >= 0)
+                return targets[s][k];
+            if (s == 0)
+                return 0;
+            s = fail[s];
+        }
+    }
+
+    private boolean isFirst(char c) {
+        if (c < 64)
+            return (firstLo & (1L << c)) != 0;
+        if (c < 128)
+            return (firstHi & (1L << c)) != 0;
+        return Arrays.binarySearch(chars[0], c) >= 0;
+    }
+
+    /**
+     * Returns the index of the leftmost occurrence of any of the literals
+     * lying within [from, to) of seq, or -1 if there is none.
+     *
+     * If matcher is not null, its hitEnd is set when a prefix of one of
+     * the literals runs to the end of the range from a point left of the
+     * occurrence returned, as the attempt to match the literal there would
+     * have hit the end.
+     */
+    int find(Matcher matcher, CharSequence seq, int from, int to) {
+        if (single != null && seq instanceof String && to == seq.length())
+            return find(matcher, (String)seq, from, to);
+        int s = 0;
+        int best = -1;
+        int end = to;
+        int i = from;
+        while (i < end) {
+            char c = seq.charAt(i++);
+            if (s == 0 && !isFirst(c))
+                continue;
+            s = step(s, c);
+            int len = out[s];
+            if (len > 0 && (best < 0 || i - len < best)) {
+                best = i - len;
+                // A literal starting left of best ends before best + maxLength - 1
+                end = Math.min(to, best + maxLength - 1);
+            }
+        }
+        if (matcher != null && s != 0 && i == to &&
+            (best < 0 || to - depth[s] < best)) {
+            matcher.hitEnd = true;
+        }
+        return best;
+    }
+
+    /**
+     * Finds the single literal with String.indexOf, which is much faster
+     * than the automaton, when the range runs to the end of the string.
+     */
+    private int find(Matcher matcher, String seq, int from, int to) {
+        int len = single.length();
+        int best = seq.indexOf(single, from);
+        if (matcher != null) {
+            for (int k = Math.min(len - 1, to - from); k > 0; k--) {
+                if ((best < 0 || to - k < best) &&
+                    seq.regionMatches(to - k, single, 0, k)) {
+                    matcher.hitEnd = true;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -437,6 +437,49 @@ public final class Matcher implements MatchResult {
         return reset();
     }
 
+    /**
+     * Resets this matcher with a new input sequence and sets the limits of
+     * its region.
+     *
+     * <p> An invocation of this method of the form
+     * <i>m.</i>{@code reset(}<i>input</i>{@code ,}&nbsp;<i>start</i>{@code
+     * ,}&nbsp;<i>end</i>{@code )} behaves in exactly the same way as the
+     * expression <i>m.</i>{@code reset(}<i>input</i>{@code ).region(}<i>start</i>{@code
+     * ,}&nbsp;<i>end</i>{@code )}, except that the matcher is left unchanged
+     * if the indices are out of bounds. Matching a part of a larger sequence
+     * this way, rather than a subsequence of it, avoids creating the
+     * subsequence; the indices reported for matches are those of the
+     * larger sequence.
+     *
+     * @param  input
+     *         The new input character sequence
+     * @param  start
+     *         The index to start searching at (inclusive)
+     * @param  end
+     *         The index to end searching at (exclusive)
+     * @throws  IndexOutOfBoundsException
+     *          If start or end is less than zero, if
+     *          start is greater than the length of the input sequence, if
+     *          end is greater than the length of the input sequence, or if
+     *          start is greater than end.
+     * @return  This matcher
+     * @since 12
+     */
+    public Matcher reset(CharSequence input, int start, int end) {
+        int length = input.length();
+        if ((start < 0) || (start > length))
+            throw new IndexOutOfBoundsException("start");
+        if ((end < 0) || (end > length))
+            throw new IndexOutOfBoundsException("end");
+        if (start > end)
+            throw new IndexOutOfBoundsException("start > end");
+        text = input;
+        reset();
+        from = start;
+        to = end;
+        return this;
+    }
+
     /**
      * Returns the start index of the previous match.
      *
@@ -684,6 +727,86 @@ public final class Matcher implements MatchResult {
         return getSubSequence(groups[group * 2], groups[group * 2 + 1]).toString();
     }
 
+    /**
+     * Copies the start and end indices of all the groups captured during
+     * the previous match operation into the given array.
+     *
+     * <p> For a matcher <i>m</i> and group index <i>g</i> no greater than
+     * {@link #groupCount() groupCount()}, {@code bounds[2*}<i>g</i>{@code ]}
+     * is set to <i>m.</i>{@code start(}<i>g</i>{@code )} and
+     * {@code bounds[2*}<i>g</i>{@code +1]} to <i>m.</i>{@code end(}<i>g</i>{@code )}.
+     * Both are {@code -1} if the group failed to match part of the input.
+     * Unlike {@link #toMatchResult() toMatchResult}, this method does not
+     * allocate; with {@link #appendGroup(StringBuilder, int) appendGroup} it
+     * lets the groups of many matches be examined without creating objects.
+     *
+     * @param  bounds
+     *         The array receiving the indices, of length at least
+     *         {@code 2 * (groupCount() + 1)}
+     *
+     * @return  The number of groups whose indices were copied, that is,
+     *          {@code groupCount() + 1}
+     *
+     * @throws  IllegalStateException
+     *          If no match has yet been attempted,
+     *          or if the previous match operation failed
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If the array is too short to hold the indices of all the
+     *          groups
+     * @since 12
+     */
+    public int groupBounds(int[] bounds) {
+        if (first < 0)
+            throw new IllegalStateException("No match found");
+        int count = groupCount() + 1;
+        if (bounds.length < count * 2)
+            throw new IndexOutOfBoundsException("Array too short for " + count + " groups");
+        System.arraycopy(groups, 0, bounds, 0, count * 2);
+        return count;
+    }
+
+    /**
+     * Appends the input subsequence captured by the given group during the
+     * previous match operation to a string builder.
+     *
+     * <p> For a matcher <i>m</i>, input sequence <i>s</i>, and group index
+     * <i>g</i> of a group that matched, the expressions
+     * <i>m.</i>{@code appendGroup(}<i>sb</i>{@code ,}&nbsp;<i>g</i>{@code )} and
+     * <i>sb.</i>{@code append(}<i>s</i>{@code ,}&nbsp;<i>m.</i>{@code start(}<i>g</i>{@code
+     * ),}&nbsp;<i>m.</i>{@code end(}<i>g</i>{@code ))} are equivalent; no
+     * intermediate string is created, as it is by {@link #group(int) group}.
+     * Nothing is appended if the group failed to match part of the input.
+     *
+     * @param  sb
+     *         The target string builder
+     *
+     * @param  group
+     *         The index of a capturing group in this matcher's pattern
+     *
+     * @return  The target string builder
+     *
+     * @throws  IllegalStateException
+     *          If no match has yet been attempted,
+     *          or if the previous match operation failed
+     *
+     * @throws  IndexOutOfBoundsException
+     *          If there is no capturing group in the pattern
+     *          with the given index
+     * @since 12
+     */
+    public StringBuilder appendGroup(StringBuilder sb, int group) {
+        if (first < 0)
+            throw new IllegalStateException("No match found");
+        if (group < 0 || group > groupCount())
+            throw new IndexOutOfBoundsException("No group " + group);
+        int start = groups[group * 2];
+        int end = groups[group * 2 + 1];
+        if (start != -1 && end != -1)
+            sb.append(text, start, end);
+        return sb;
+    }
+
     /**
      * Returns the number of capturing groups in this matcher's pattern.
      *
@@ -1726,7 +1849,19 @@ public final class Matcher implements MatchResult {
                 localsPos[i].clear();
         }
         acceptMode = NOANCHOR;
-        boolean result = parentPattern.root.match(this, from, text);
+        boolean result;
+        LazyDFA dfa = parentPattern.dfa;
+        int start = (dfa == null) ? LazyDFA.FALLBACK : dfa.find(this, from);
+        if (start == LazyDFA.FALLBACK) {
+            result = parentPattern.root.match(this, from, text);
+        } else if (start < 0) {
+            result = false;
+        } else if (parentPattern.capturingGroupCount > 1) {
+            // The match starts at start; find the groups
+            result = parentPattern.root.match(this, start, text);
+        } else {
+            result = true;
+        }
         if (!result)
             this.first = -1;
         this.oldLast = this.last;
@@ -1753,7 +1888,20 @@ public final class Matcher implements MatchResult {
                 localsPos[i].clear();
         }
         acceptMode = anchor;
-        boolean result = parentPattern.matchRoot.match(this, from, text);
+        boolean result;
+        LazyDFA dfa = parentPattern.dfa;
+        int end = (dfa == null) ? LazyDFA.FALLBACK
+            : dfa.match(this, from, anchor == ENDANCHOR);
+        if (end == LazyDFA.FALLBACK) {
+            result = parentPattern.matchRoot.match(this, from, text);
+        } else if (end < 0) {
+            result = false;
+        } else if (parentPattern.capturingGroupCount > 1) {
+            // There is a match; find the groups
+            result = parentPattern.matchRoot.match(this, from, text);
+        } else {
+            result = true;
+        }
         if (!result)
             this.first = -1;
         this.oldLast = this.last;
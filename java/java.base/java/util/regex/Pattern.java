@@ -921,12 +921,45 @@ public final class Pattern
      */
     public static final int UNICODE_CHARACTER_CLASS = 0x100;
 
+    /**
+     * Enables linear-time matching.
+     *
+     * <p> When this flag is specified, the {@code find}, {@code matches}
+     * and {@code lookingAt} operations of the matchers of the pattern are
+     * performed by a deterministic finite automaton, built lazily as the
+     * input requires, in time proportional to the length of the input,
+     * if the pattern uses only literal characters, character classes
+     * without nested classes or intersections, the predefined character
+     * classes {@code \d}, {@code \D}, {@code \s}, {@code \S},
+     * {@code \w} and {@code \W}, the dot, capturing and non-capturing
+     * groups, alternations, greedy and reluctant quantifiers, and a
+     * {@code ^} at the start of the pattern, and if no flags other than
+     * {@link #DOTALL} and {@link #UNIX_LINES} are specified.  Other
+     * patterns, and input containing surrogate characters, are matched
+     * by the default, backtracking engine, which may take time
+     * exponential in the length of the input for some patterns.
+     *
+     * <p> The matches found are those that the default engine would
+     * find.  The values of the capturing groups other than group zero
+     * are determined by the default engine, once a match is known to
+     * start at a given index.  The result of {@link Matcher#hitEnd}
+     * reflects whether more input could change the result of the
+     * automaton, which may differ from the result of the default
+     * engine.
+     *
+     * <p> There is no embedded flag character for enabling linear-time
+     * matching.
+     *
+     * @since 12
+     */
+    public static final int LINEAR_TIME = 0x200;
+
     /**
      * Contains all possible flags for compile(regex, flags).
      */
     private static final int ALL_FLAGS = CASE_INSENSITIVE | MULTILINE |
             DOTALL | UNICODE_CASE | CANON_EQ | UNIX_LINES | LITERAL |
-            UNICODE_CHARACTER_CLASS | COMMENTS;
+            UNICODE_CHARACTER_CLASS | COMMENTS | LINEAR_TIME;
 
     /* Pattern has only two serialized components: The pattern string
      * and the flags, which are all that is needed to recompile the pattern
@@ -1047,6 +1080,12 @@ public final class Pattern
      */
     private transient int patternLength;
 
+    /**
+     * The linear-time engine for this Pattern, if it was compiled with
+     * the LINEAR_TIME flag and the pattern is supported by the engine.
+     */
+    transient LazyDFA dfa;
+
     /**
      * If the Start node might possibly match supplementary characters.
      * It is set to true during compiling if
@@ -1794,12 +1833,12 @@ loop:   for(int x=0, offset=0; x<nCodePoints; x++, offset+=len) {
         if (matchRoot instanceof Slice) {
             root = BnM.optimize(matchRoot);
             if (root == matchRoot) {
-                root = hasSupplementary ? new StartS(matchRoot) : new Start(matchRoot);
+                root = newStart(matchRoot);
             }
         } else if (matchRoot instanceof Begin || matchRoot instanceof First) {
             root = matchRoot;
         } else {
-            root = hasSupplementary ? new StartS(matchRoot) : new Start(matchRoot);
+            root = newStart(matchRoot);
         }
 
         // Optimize the greedy Loop to prevent exponential backtracking, IF there
@@ -1815,6 +1854,9 @@ loop:   for(int x=0, offset=0; x<nCodePoints; x++, offset+=len) {
             }
         }
 
+        if (has(LINEAR_TIME) && !hasSupplementary)
+            dfa = LazyDFA.compile(normalizedPattern, flags0);
+
         // Release temporary storage
         temp = null;
         buffer = null;
@@ -3131,6 +3173,18 @@ loop:   for(int x=0, offset=0; x<nCodePoints; x++, offset+=len) {
         throw error("Internal logic error");
     }
 
+    /**
+     * Returns the node that tries to match the given node at each position
+     * of the input, skipping positions using the literals every match
+     * contains, if any.
+     */
+    private Node newStart(Node node) {
+        if (hasSupplementary)
+            return new StartS(node);
+        Start start = LiteralStart.optimize(node);
+        return (start != null) ? start : new Start(node);
+    }
+
     /**
      * Create group head and tail nodes using double return. If the group is
      * created with anonymous true then it is a pure group and should not
@@ -5669,6 +5723,209 @@ NEXT:       while (i <= last) {
         }
     }
 
+    /**
+     * Used in place of Start for REs all of whose matches contain a literal
+     * that can be searched for faster than the RE can be tried at each
+     * position. The literal is either one of a set of literals every match
+     * begins with, or a single literal found at a known least, and perhaps
+     * greatest, distance from the beginning of every match. Positions that
+     * cannot begin a match, given where the literals occur in the input,
+     * are skipped without being tried.
+     */
+    static final class LiteralStart extends Start {
+        final LiteralSearcher searcher;
+        // True if every match begins with one of the literals
+        final boolean leading;
+        // The least and greatest number of chars a match spans before
+        // the literal; maxBefore is -1 if there is no greatest
+        final int minBefore;
+        final int maxBefore;
+
+        /**
+         * Returns a LiteralStart for the given node, or null if no literal
+         * is known to occur in every match.
+         */
+        static Start optimize(Node node) {
+            List<int[]> literals = new ArrayList<>();
+            if (leadingLiterals(node, literals)) {
+                LiteralSearcher searcher = LiteralSearcher.of(literals);
+                if (searcher != null)
+                    return new LiteralStart(node, searcher, true, 0, 0);
+            }
+            // Otherwise pick the longest literal on the path every
+            // match takes through the nodes
+            long[] span = new long[2];
+            int[] literal = null;
+            long min = 0;
+            long max = 0;
+            for (Node n = node; n != null && n != lastAccept; n = span(n, span)) {
+                if (n.getClass() == Slice.class) {
+                    int[] buf = ((Slice)n).buffer;
+                    if (literal == null || buf.length > literal.length) {
+                        literal = buf;
+                        min = span[0];
+                        max = span[1];
+                    }
+                }
+            }
+            if (literal == null)
+                return null;
+            literals.clear();
+            literals.add(literal);
+            return new LiteralStart(node, LiteralSearcher.of(literals), false,
+                                    (int)Math.min(min, Integer.MAX_VALUE),
+                                    (max > Integer.MAX_VALUE) ? -1 : (int)max);
+        }
+
+        /**
+         * Adds the literals that every match of the node sequence must
+         * begin with, and returns true if there are such literals.
+         */
+        private static boolean leadingLiterals(Node node, List<int[]> literals) {
+            while (node instanceof GroupHead || node instanceof Bound)
+                node = node.next;
+            if (node.getClass() == Slice.class) {
+                literals.add(((Slice)node).buffer);
+                return true;
+            }
+            if (node instanceof Branch) {
+                Branch branch = (Branch)node;
+                for (int n = 0; n < branch.size; n++) {
+                    if (branch.atoms[n] == null ||
+                        !leadingLiterals(branch.atoms[n], literals))
+                        return false;
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Adds the least and greatest number of chars matched by the
+         * node, and the nodes it owns, to span, and returns the node
+         * that follows; returns null if the node is not one whose span,
+         * and whose reads of the input, are bounded by the chars it
+         * matches, or if it may set requireEnd. A greatest number of -1
+         * means there is none.
+         */
+        private static Node span(Node node, long[] span) {
+            long min, max;
+            Node next = node.next;
+            if (node instanceof GroupHead || node instanceof GroupTail) {
+                min = max = 0;
+            } else if (node instanceof SliceNode &&
+                       !(node instanceof SliceS) && !(node instanceof SliceIS)) {
+                min = max = ((SliceNode)node).buffer.length;
+            } else if (node instanceof CharProperty) {
+                min = 1;
+                max = (node instanceof BmpCharProperty) ? 1 : 2;
+            } else if (node instanceof CharPropertyGreedy) {
+                min = ((CharPropertyGreedy)node).cmin;
+                max = -1;
+            } else if (node instanceof Curly) {
+                Curly curly = (Curly)node;
+                long[] atom = chainSpan(curly.atom, accept);
+                if (atom == null)
+                    return null;
+                min = atom[0] * curly.cmin;
+                max = (curly.cmax == MAX_REPS || atom[1] < 0) ? -1
+                                                              : atom[1] * curly.cmax;
+            } else if (node instanceof Ques) {
+                Ques ques = (Ques)node;
+                long[] atom = chainSpan(ques.atom, accept);
+                if (atom == null)
+                    return null;
+                min = (ques.type == Qtype.INDEPENDENT) ? atom[0] : 0;
+                max = atom[1];
+            } else if (node instanceof Branch) {
+                Branch branch = (Branch)node;
+                min = Long.MAX_VALUE;
+                max = 0;
+                for (int n = 0; n < branch.size; n++) {
+                    long[] atom = (branch.atoms[n] == null)
+                        ? new long[2] : chainSpan(branch.atoms[n], branch.conn);
+                    if (atom == null)
+                        return null;
+                    min = Math.min(min, atom[0]);
+                    max = (max < 0 || atom[1] < 0) ? -1 : Math.max(max, atom[1]);
+                }
+                next = branch.conn.next;
+            } else {
+                return null;
+            }
+            // Spans this large cannot occur in a CharSequence
+            span[0] = Math.min(span[0] + min, Integer.MAX_VALUE + 1L);
+            span[1] = (span[1] < 0 || max < 0 || span[1] + max > Integer.MAX_VALUE)
+                      ? -1 : span[1] + max;
+            return next;
+        }
+
+        private static long[] chainSpan(Node node, Node end) {
+            long[] span = new long[2];
+            while (node != end) {
+                if ((node = span(node, span)) == null)
+                    return null;
+            }
+            return span;
+        }
+
+        LiteralStart(Node node, LiteralSearcher searcher, boolean leading,
+                     int minBefore, int maxBefore) {
+            super(node);
+            this.searcher = searcher;
+            this.leading = leading;
+            this.minBefore = minBefore;
+            this.maxBefore = maxBefore;
+        }
+
+        boolean match(Matcher matcher, int i, CharSequence seq) {
+            int to = matcher.to;
+            int guard = to - minLength;
+            if (leading) {
+                while (i <= guard) {
+                    // Any position skipped fails on the literals, and
+                    // hits the end only if find says so
+                    i = searcher.find(matcher, seq, i, to);
+                    if (i < 0 || i > guard)
+                        break;
+                    if (next.match(matcher, i, seq)) {
+                        matcher.first = i;
+                        matcher.groups[0] = matcher.first;
+                        matcher.groups[1] = matcher.last;
+                        return true;
+                    }
+                    i++;
+                }
+            } else {
+                int at = -1; // the first occurrence at or after i + minBefore
+                while (i <= guard) {
+                    if (at - i < minBefore) {
+                        at = searcher.find(null, seq,
+                                           (minBefore < to - i) ? i + minBefore : to,
+                                           to);
+                        if (at < 0)
+                            break;
+                        if (maxBefore >= 0 && at - i > maxBefore) {
+                            // The positions skipped fail before reading
+                            // as far as the end of the literal at "at"
+                            i = at - maxBefore;
+                            continue;
+                        }
+                    }
+                    if (next.match(matcher, i, seq)) {
+                        matcher.first = i;
+                        matcher.groups[0] = matcher.first;
+                        matcher.groups[1] = matcher.last;
+                        return true;
+                    }
+                    i++;
+                }
+            }
+            matcher.hitEnd = true;
+            return false;
+        }
+    }
+
     @FunctionalInterface
     static interface CharPredicate {
         boolean is(int ch);
@@ -659,6 +659,48 @@ public class ReflectionFactory {
         }
     }
 
+    /**
+     * Returns an accessor that reads and writes the given serializable
+     * fields of a class with generated bytecodes, or null if one cannot be
+     * generated for them.
+     *
+     * @param readFields the field of each serializable field of the class,
+     *        primitive fields first, or null for fields not to be read
+     * @param writeFields the field of each serializable field, or null for
+     *        fields not to be written
+     * @param offsets the offset of each primitive field in the array of
+     *        primitive values, and the index of each object field in the
+     *        array of object values
+     * @param numPrimFields the number of primitive fields
+     */
+    public final SerializationFieldAccessor newSerializationFieldAccessor(
+            Field[] readFields, Field[] writeFields, int[] offsets,
+            int numPrimFields) {
+        Class<?> cl = null;
+        for (Field f : readFields) {
+            if (f != null) {
+                cl = f.getDeclaringClass();
+                break;
+            }
+        }
+        if (cl == null || ReflectUtil.isVMAnonymousClass(cl)) {
+            return null;
+        }
+        return new SerializationFieldAccessorGenerator(cl, readFields,
+            writeFields, offsets, numPrimFields).generate();
+    }
+
+    /**
+     * Returns the number of times serialization should access the fields
+     * of a class through Unsafe before asking for a generated {@link
+     * SerializationFieldAccessor} for them.  This is the inflation threshold
+     * of reflective method invocation, or 0 if inflation is disabled.
+     */
+    public final int serializationFieldAccessorThreshold() {
+        checkInitted();
+        return noInflation ? 0 : inflationThreshold;
+    }
+
     /**
      * Return the accessible constructor for OptionalDataException signaling eof.
      * @returns the eof constructor for OptionalDataException
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package jdk.internal.reflect;
+
+/** This interface provides the declarations for the accessor methods
+    java.io.ObjectStreamClass uses to read and write the serializable
+    fields of a class. The fields are marshalled to and from the byte
+    and object arrays of the serialization stream in the layout the
+    stream's ObjectStreamFields describe: each primitive field at its
+    offset in a byte array, in the big-endian form of java.io.Bits, and
+    each object field at its index in an Object array. Instances are
+    generated by SerializationFieldAccessorGenerator, and are obtained
+    from ReflectionFactory.newSerializationFieldAccessor. */
+
+public interface SerializationFieldAccessor {
+    /** Fetches the primitive field values of obj into buf. */
+    public void getPrimFieldValues(Object obj, byte[] buf);
+
+    /** Sets the primitive fields of obj from the values in buf. */
+    public void setPrimFieldValues(Object obj, byte[] buf);
+
+    /** Fetches the object field values of obj into vals. */
+    public void getObjFieldValues(Object obj, Object[] vals);
+
+    /** Sets the object fields of obj from the values in vals. The
+        caller is responsible for checking that the values are
+        assignable to the fields. */
+    public void setObjFieldValues(Object obj, Object[] vals);
+}
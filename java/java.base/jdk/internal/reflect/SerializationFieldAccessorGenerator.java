@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package jdk.internal.reflect;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import jdk.internal.misc.Unsafe;
+import jdk.internal.org.objectweb.asm.ClassWriter;
+import jdk.internal.org.objectweb.asm.MethodVisitor;
+import jdk.internal.org.objectweb.asm.Type;
+
+import static jdk.internal.org.objectweb.asm.Opcodes.*;
+
+/** Generator for jdk.internal.reflect.SerializationFieldAccessor
+    objects. The generated class has a method for each of the four
+    operations of the interface, in which every field is read or
+    written by a straight-line run of bytecodes, in place of the
+    per-field switch over type codes and Unsafe calls of
+    java.io.ObjectStreamClass.FieldReflector. Like the other
+    generated accessors, the class extends MagicAccessorImpl, so
+    that it can access the private fields of the serializable class,
+    and is defined in a DelegatingClassLoader by ClassDefiner. */
+
+class SerializationFieldAccessorGenerator {
+    private static final String SUPER_NAME =
+        "jdk/internal/reflect/SerializationFieldAccessorImpl";
+    private static final String UNSAFE_NAME = "jdk/internal/misc/Unsafe";
+    private static final String UNSAFE_DESC = "L" + UNSAFE_NAME + ";";
+    private static final String BITS_NAME = "java/io/Bits";
+
+    private static final Unsafe unsafe = Unsafe.getUnsafe();
+
+    private static volatile int symnum;
+
+    private final Class<?> declaringClass;
+    private final String ownerName;
+    private final Field[] readFields;
+    private final Field[] writeFields;
+    private final int[] offsets;
+    private final int numPrimFields;
+
+    /** readFields and writeFields hold the field of each ObjectStreamField
+        in stream order, primitive fields first, or null where the field
+        is not to be read or written; offsets holds the offset of each in
+        the byte array of primitive values or the index of each in the
+        array of object values. */
+    SerializationFieldAccessorGenerator(Class<?> declaringClass,
+                                        Field[] readFields,
+                                        Field[] writeFields,
+                                        int[] offsets,
+                                        int numPrimFields) {
+        this.declaringClass = declaringClass;
+        this.ownerName = Type.getInternalName(declaringClass);
+        this.readFields = readFields;
+        this.writeFields = writeFields;
+        this.offsets = offsets;
+        this.numPrimFields = numPrimFields;
+    }
+
+    SerializationFieldAccessor generate() {
+        final String generatedName = generateName();
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, generatedName,
+                 null, SUPER_NAME, null);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, SUPER_NAME, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        emitGetPrimFieldValues(cw);
+        emitSetPrimFieldValues(cw);
+        emitGetObjFieldValues(cw);
+        emitSetObjFieldValues(cw);
+        cw.visitEnd();
+
+        final byte[] bytes = cw.toByteArray();
+        return AccessController.doPrivileged(
+            new PrivilegedAction<SerializationFieldAccessor>() {
+                @SuppressWarnings("deprecation") // Class.newInstance
+                public SerializationFieldAccessor run() {
+                        try {
+                        return (SerializationFieldAccessor)
+                        ClassDefiner.defineClass
+                                (generatedName, bytes, 0, bytes.length,
+                                 declaringClass.getClassLoader()).newInstance();
+                        } catch (InstantiationException | IllegalAccessException e) {
+                            throw new InternalError(e);
+                        }
+                    }
+                });
+    }
+
+    /** Starts a method taking (Object obj, Object array), with obj cast
+        to the declaring class in local 3. */
+    private MethodVisitor beginMethod(ClassWriter cw, String name,
+                                      String arrayDesc) {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, name,
+            "(Ljava/lang/Object;" + arrayDesc + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, ownerName);
+        mv.visitVarInsn(ASTORE, 3);
+        return mv;
+    }
+
+    private static void endMethod(MethodVisitor mv) {
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void emitGetPrimFieldValues(ClassWriter cw) {
+        MethodVisitor mv = beginMethod(cw, "getPrimFieldValues", "[B");
+        for (int i = 0; i < numPrimFields; i++) {
+            Field f = readFields[i];
+            if (f == null) {
+                continue;
+            }
+            Class<?> type = f.getType();
+            String desc = Type.getDescriptor(type);
+            // buf, offset, value
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitLdcInsn(offsets[i]);
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitFieldInsn(GETFIELD, ownerName, f.getName(), desc);
+            if (type == byte.class) {
+                mv.visitInsn(BASTORE);
+            } else {
+                mv.visitMethodInsn(INVOKESTATIC, BITS_NAME,
+                    "put" + primitiveName(type), "([BI" + desc + ")V", false);
+            }
+        }
+        endMethod(mv);
+    }
+
+    private void emitSetPrimFieldValues(ClassWriter cw) {
+        MethodVisitor mv = beginMethod(cw, "setPrimFieldValues", "[B");
+        for (int i = 0; i < numPrimFields; i++) {
+            Field f = writeFields[i];
+            if (f == null) {
+                continue;
+            }
+            Class<?> type = f.getType();
+            String desc = Type.getDescriptor(type);
+            boolean isFinal = Modifier.isFinal(f.getModifiers());
+            if (isFinal) {
+                mv.visitFieldInsn(GETSTATIC, SUPER_NAME, "unsafe", UNSAFE_DESC);
+                mv.visitVarInsn(ALOAD, 3);
+                mv.visitLdcInsn(unsafe.objectFieldOffset(f));
+            } else {
+                mv.visitVarInsn(ALOAD, 3);
+            }
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitLdcInsn(offsets[i]);
+            if (type == byte.class) {
+                mv.visitInsn(BALOAD);
+            } else {
+                mv.visitMethodInsn(INVOKESTATIC, BITS_NAME,
+                    "get" + primitiveName(type), "([BI)" + desc, false);
+            }
+            if (isFinal) {
+                mv.visitMethodInsn(INVOKEVIRTUAL, UNSAFE_NAME,
+                    "put" + primitiveName(type), "(Ljava/lang/Object;J" + desc + ")V",
+                    false);
+            } else {
+                mv.visitFieldInsn(PUTFIELD, ownerName, f.getName(), desc);
+            }
+        }
+        endMethod(mv);
+    }
+
+    private void emitGetObjFieldValues(ClassWriter cw) {
+        MethodVisitor mv = beginMethod(cw, "getObjFieldValues", "[Ljava/lang/Object;");
+        for (int i = numPrimFields; i < readFields.length; i++) {
+            Field f = readFields[i];
+            if (f == null) {
+                continue;
+            }
+            // vals, index, value
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitLdcInsn(offsets[i]);
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitFieldInsn(GETFIELD, ownerName, f.getName(),
+                              Type.getDescriptor(f.getType()));
+            mv.visitInsn(AASTORE);
+        }
+        endMethod(mv);
+    }
+
+    private void emitSetObjFieldValues(ClassWriter cw) {
+        MethodVisitor mv = beginMethod(cw, "setObjFieldValues", "[Ljava/lang/Object;");
+        for (int i = numPrimFields; i < writeFields.length; i++) {
+            Field f = writeFields[i];
+            if (f == null) {
+                continue;
+            }
+            boolean isFinal = Modifier.isFinal(f.getModifiers());
+            if (isFinal) {
+                mv.visitFieldInsn(GETSTATIC, SUPER_NAME, "unsafe", UNSAFE_DESC);
+                mv.visitVarInsn(ALOAD, 3);
+                mv.visitLdcInsn(unsafe.objectFieldOffset(f));
+            } else {
+                mv.visitVarInsn(ALOAD, 3);
+            }
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitLdcInsn(offsets[i]);
+            mv.visitInsn(AALOAD);
+            if (isFinal) {
+                mv.visitMethodInsn(INVOKEVIRTUAL, UNSAFE_NAME, "putObject",
+                    "(Ljava/lang/Object;JLjava/lang/Object;)V", false);
+            } else {
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(f.getType()));
+                mv.visitFieldInsn(PUTFIELD, ownerName, f.getName(),
+                                  Type.getDescriptor(f.getType()));
+            }
+        }
+        endMethod(mv);
+    }
+
+    /** Returns the name java.io.Bits and Unsafe use in their accessors
+        for the given primitive type, such as "Int" for int. */
+    private static String primitiveName(Class<?> type) {
+        if (type == boolean.class) return "Boolean";
+        if (type == byte.class)    return "Byte";
+        if (type == char.class)    return "Char";
+        if (type == short.class)   return "Short";
+        if (type == int.class)     return "Int";
+        if (type == float.class)   return "Float";
+        if (type == long.class)    return "Long";
+        if (type == double.class)  return "Double";
+        throw new InternalError(type.getName());
+    }
+
+    private static synchronized String generateName() {
+        int num = ++symnum;
+        return "jdk/internal/reflect/GeneratedSerializationFieldAccessor" + num;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package jdk.internal.reflect;
+
+import jdk.internal.misc.Unsafe;
+
+/** Package-private implementation of the SerializationFieldAccessor
+    interface which has access to all classes and all fields, regardless
+    of language restrictions. See MagicAccessorImpl. Generated subclasses
+    read and write the fields with getfield and putfield, except for
+    final fields, which only their declaring class may write with
+    putfield; those are written through unsafe. */
+
+abstract class SerializationFieldAccessorImpl extends MagicAccessorImpl
+    implements SerializationFieldAccessor {
+    /** Used by generated subclasses to write final fields. */
+    static final Unsafe unsafe = Unsafe.getUnsafe();
+}
@@ -160,6 +160,176 @@ public class ArraysSupport {
         }
     }
 
+    /**
+     * Find the relative index of the first element, in an array or a region
+     * of memory, that is not an ASCII character: a negative byte, or a char
+     * of {@code 0x80} or above.
+     *
+     * <p>As for {@link #vectorizedMismatch vectorizedMismatch}, the elements
+     * are tested 8 bytes (64 bits) at a time, and it is the responsibility
+     * of the caller to test the elements in the tail.
+     *
+     * @param a the array to be tested, otherwise if the array is
+     * {@code null}, an absolute address pointing to the first element to test.
+     * @param aOffset if the array is not {@code null} then the offset, in
+     * bytes, from the base address of the array to the first element to test,
+     * otherwise if the array is {@code null}, an absolute address pointing to
+     * the first element to test.
+     * @param length the number of array elements to test
+     * @param log2ArrayIndexScale {@code LOG2_ARRAY_BYTE_INDEX_SCALE} if the
+     * elements are bytes, or {@code LOG2_ARRAY_CHAR_INDEX_SCALE} if they are
+     * chars.
+     * @return if a non-ASCII element is found a relative index, between 0
+     * (inclusive) and {@code length} (exclusive), of the first one.
+     * Otherwise the bitwise compliment of the number of remaining elements
+     * to be tested in the tail of the array.
+     */
+    public static int vectorizedFirstNonASCII(Object a, long aOffset,
+                                              int length,
+                                              int log2ArrayIndexScale) {
+        // assert 0 <= log2ArrayIndexScale <= 1
+        long mask = (log2ArrayIndexScale == LOG2_ARRAY_BYTE_INDEX_SCALE)
+                    ? 0x8080808080808080L : 0xFF80FF80FF80FF80L;
+        int log2ValuesPerWidth = LOG2_ARRAY_LONG_INDEX_SCALE - log2ArrayIndexScale;
+        int wi = 0;
+        for (; wi < length >> log2ValuesPerWidth; wi++) {
+            long bi = ((long) wi) << LOG2_ARRAY_LONG_INDEX_SCALE;
+            long x = U.getLongUnaligned(a, aOffset + bi) & mask;
+            if (x != 0) {
+                int o = BIG_ENDIAN
+                        ? Long.numberOfLeadingZeros(x) >> (LOG2_BYTE_BIT_SIZE + log2ArrayIndexScale)
+                        : Long.numberOfTrailingZeros(x) >> (LOG2_BYTE_BIT_SIZE + log2ArrayIndexScale);
+                return (wi << log2ValuesPerWidth) + o;
+            }
+        }
+        return ~(length - (wi << log2ValuesPerWidth));
+    }
+
+    /**
+     * Returns the number of leading elements of a range of a byte array
+     * that are ASCII characters, that is, are not negative.
+     *
+     * <p>This method does not perform bounds checks. It is the responsibility
+     * of the caller to perform such bounds checks before calling this method.
+     *
+     * @param a the array to be tested
+     * @param fromIndex the index of the first byte to be tested
+     * @param length the number of bytes to test
+     * @return the number of leading ASCII bytes, {@code length} if all are
+     */
+    public static int asciiPrefixLength(byte[] a, int fromIndex, int length) {
+        int i = 0;
+        if (length > 7) {
+            i = vectorizedFirstNonASCII(
+                    a, Unsafe.ARRAY_BYTE_BASE_OFFSET + fromIndex,
+                    length, LOG2_ARRAY_BYTE_INDEX_SCALE);
+            if (i >= 0)
+                return i;
+            i = length - ~i;
+        }
+        for (; i < length; i++) {
+            if (a[fromIndex + i] < 0)
+                return i;
+        }
+        return length;
+    }
+
+    /**
+     * Copies the leading ASCII characters, that is the bytes that are not
+     * negative, of a range of a byte array to a char array, and returns
+     * their number. The bytes are tested, and widened to chars, 8 bytes
+     * (64 bits) at a time.
+     *
+     * <p>This method does not perform bounds checks. It is the responsibility
+     * of the caller to perform such bounds checks before calling this method.
+     *
+     * @param src the array to copy from
+     * @param srcIndex the index of the first byte to copy
+     * @param dst the array to copy to
+     * @param dstIndex the index at which to store the first char
+     * @param length the number of bytes to examine
+     * @return the number of bytes copied, {@code length} if all are ASCII
+     */
+    public static int inflateASCII(byte[] src, int srcIndex,
+                                   char[] dst, int dstIndex,
+                                   int length) {
+        long srcOffset = Unsafe.ARRAY_BYTE_BASE_OFFSET + srcIndex;
+        long dstOffset = Unsafe.ARRAY_CHAR_BASE_OFFSET
+                         + ((long) dstIndex << LOG2_ARRAY_CHAR_INDEX_SCALE);
+        int i = 0;
+        for (; i <= length - 8; i += 8) {
+            long w = U.getLongUnaligned(src, srcOffset + i);
+            if ((w & 0x8080808080808080L) != 0)
+                break;
+            // the first four bytes in memory order, then the last four
+            long lo = BIG_ENDIAN ? w >>> 32 : w & 0xFFFFFFFFL;
+            long hi = BIG_ENDIAN ? w & 0xFFFFFFFFL : w >>> 32;
+            long bi = dstOffset + ((long) i << LOG2_ARRAY_CHAR_INDEX_SCALE);
+            U.putLongUnaligned(dst, bi, widen(lo));
+            U.putLongUnaligned(dst, bi + 8, widen(hi));
+        }
+        for (; i < length; i++) {
+            byte b = src[srcIndex + i];
+            if (b < 0)
+                break;
+            dst[dstIndex + i] = (char) b;
+        }
+        return i;
+    }
+
+    /**
+     * Copies the leading ASCII characters, that is the chars below
+     * {@code 0x80}, of a range of a char array to a byte array, and returns
+     * their number. The chars are tested, and narrowed to bytes, 4 chars
+     * (64 bits) at a time.
+     *
+     * <p>This method does not perform bounds checks. It is the responsibility
+     * of the caller to perform such bounds checks before calling this method.
+     *
+     * @param src the array to copy from
+     * @param srcIndex the index of the first char to copy
+     * @param dst the array to copy to
+     * @param dstIndex the index at which to store the first byte
+     * @param length the number of chars to examine
+     * @return the number of chars copied, {@code length} if all are ASCII
+     */
+    public static int deflateASCII(char[] src, int srcIndex,
+                                   byte[] dst, int dstIndex,
+                                   int length) {
+        long srcOffset = Unsafe.ARRAY_CHAR_BASE_OFFSET
+                         + ((long) srcIndex << LOG2_ARRAY_CHAR_INDEX_SCALE);
+        long dstOffset = Unsafe.ARRAY_BYTE_BASE_OFFSET + dstIndex;
+        int i = 0;
+        for (; i <= length - 4; i += 4) {
+            long w = U.getLongUnaligned(
+                    src, srcOffset + ((long) i << LOG2_ARRAY_CHAR_INDEX_SCALE));
+            if ((w & 0xFF80FF80FF80FF80L) != 0)
+                break;
+            U.putIntUnaligned(dst, dstOffset + i, narrow(w));
+        }
+        for (; i < length; i++) {
+            char c = src[srcIndex + i];
+            if (c >= '\u0080')
+                break;
+            dst[dstIndex + i] = (byte) c;
+        }
+        return i;
+    }
+
+    // Spreads the four bytes of x into the low bytes of the four 16-bit
+    // lanes of a long, keeping their order
+    private static long widen(long x) {
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        return (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+    }
+
+    // Gathers the low bytes of the four 16-bit lanes of w into an int,
+    // keeping their order
+    private static int narrow(long w) {
+        w = (w | (w >>> 8)) & 0x0000FFFF0000FFFFL;
+        return (int) (w | (w >>> 16));
+    }
+
     // Booleans
     // Each boolean element takes up one byte
 
@@ -0,0 +1,505 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.nio.ch;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.io.FileDescriptor;
+import java.io.IOException;
+import sun.security.action.GetPropertyAction;
+
+/**
+ * Implementation of AsynchronousFileChannel that submits reads and writes
+ * to a ring shared by all such channels, rather than running each as a task
+ * of the channel's executor, for use on operating systems that don't support
+ * asynchronous file I/O.  It is used in place of
+ * SimpleAsynchronousFileChannelImpl when the system property
+ * {@code sun.nio.ch.batchedFileIO} is {@code true}.
+ *
+ * <p> The ring is a submission queue of operations and a small number of
+ * threads, given by the system property {@code sun.nio.ch.batchedFileIO.threads}
+ * (4 by default), each of which takes the operations queued in batches.  A
+ * batch is sorted by channel, kind and position, and reads (or writes) of
+ * adjacent ranges of a file are performed with a single read (or write) of
+ * the whole range through a temporary direct buffer.  Futures are completed
+ * by the ring threads; completion handlers are invoked by a single task of
+ * the channel's executor for each batch, and are not invoked at all if the
+ * executor has been shut down.  Operations that cannot be batched,
+ * such as locking and forcing, are performed as by
+ * SimpleAsynchronousFileChannelImpl.
+ *
+ * <p> The ring performs operations with the same blocking reads and writes
+ * as SimpleAsynchronousFileChannelImpl; a native ring, where the operating
+ * system provides one, would replace the {@code perform} methods of
+ * {@link Ring} with a submission of the whole batch.
+ */
+
+class BatchedAsynchronousFileChannelImpl
+    extends SimpleAsynchronousFileChannelImpl
+{
+    // true if SimpleAsynchronousFileChannelImpl.open creates batched channels
+    static final boolean ENABLED = Boolean.parseBoolean(
+        GetPropertyAction.privilegedGetProperty("sun.nio.ch.batchedFileIO"));
+
+    // lazy initialization of the shared ring
+    private static class RingHolder {
+        static final Ring ring = new Ring(threads());
+
+        private static int threads() {
+            String s = GetPropertyAction
+                .privilegedGetProperty("sun.nio.ch.batchedFileIO.threads");
+            int n = 4;
+            if (s != null) {
+                try {
+                    n = Integer.parseInt(s);
+                } catch (NumberFormatException e) { }
+            }
+            return Math.max(1, n);
+        }
+    }
+
+    // sequence of channel identities, by which batches are sorted
+    private static final AtomicLong nextId = new AtomicLong();
+
+    private final long id = nextId.getAndIncrement();
+
+    BatchedAsynchronousFileChannelImpl(FileDescriptor fdObj,
+                                       boolean reading,
+                                       boolean writing,
+                                       ExecutorService executor)
+    {
+        super(fdObj, reading, writing, executor);
+    }
+
+    @Override
+    <A> Future<Integer> implRead(final ByteBuffer dst,
+                                 final long position,
+                                 final A attachment,
+                                 final CompletionHandler<Integer,? super A> handler)
+    {
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (!reading)
+            throw new NonReadableChannelException();
+        if (dst.isReadOnly())
+            throw new IllegalArgumentException("Read-only buffer");
+        return submit(false, dst, position, attachment, handler);
+    }
+
+    @Override
+    <A> Future<Integer> implWrite(final ByteBuffer src,
+                                  final long position,
+                                  final A attachment,
+                                  final CompletionHandler<Integer,? super A> handler)
+    {
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (!writing)
+            throw new NonWritableChannelException();
+        return submit(true, src, position, attachment, handler);
+    }
+
+    private <A> Future<Integer> submit(boolean write,
+                                       ByteBuffer buf,
+                                       long position,
+                                       A attachment,
+                                       CompletionHandler<Integer,? super A> handler)
+    {
+        // complete immediately if channel closed or no space/bytes remaining
+        if (!isOpen() || (buf.remaining() == 0)) {
+            Throwable exc = (isOpen()) ? null : new ClosedChannelException();
+            if (handler == null)
+                return CompletedFuture.withResult(0, exc);
+            Invoker.invokeIndirectly(handler, attachment, 0, exc, executor);
+            return null;
+        }
+        if (executor.isShutdown())
+            throw new RejectedExecutionException();
+
+        PendingFuture<Integer,A> result = (handler == null) ?
+            new PendingFuture<Integer,A>(this) : null;
+        RingHolder.ring.submit(
+            new Request(this, write, buf, position, attachment, handler, result));
+        return result;
+    }
+
+    /**
+     * A read or write submitted to the ring, and its result once performed.
+     */
+    private static final class Request {
+        final BatchedAsynchronousFileChannelImpl ch;
+        final boolean write;
+        final ByteBuffer buf;
+        final long position;
+        final Object attachment;
+        final CompletionHandler<Integer,Object> handler;
+        final PendingFuture<Integer,Object> result;
+
+        // the result, valid when done
+        boolean done;
+        int n;
+        Throwable exc;
+
+        @SuppressWarnings("unchecked")
+        Request(BatchedAsynchronousFileChannelImpl ch,
+                boolean write,
+                ByteBuffer buf,
+                long position,
+                Object attachment,
+                CompletionHandler<Integer,?> handler,
+                PendingFuture<Integer,?> result)
+        {
+            this.ch = ch;
+            this.write = write;
+            this.buf = buf;
+            this.position = position;
+            this.attachment = attachment;
+            this.handler = (CompletionHandler<Integer,Object>)handler;
+            this.result = (PendingFuture<Integer,Object>)result;
+        }
+
+        long end() {
+            return position + buf.remaining();
+        }
+
+        void setResult(int n, Throwable exc) {
+            this.done = true;
+            this.n = n;
+            this.exc = exc;
+        }
+    }
+
+    /**
+     * The submission queue and the threads that take batches of requests
+     * from it, perform them, and complete them.
+     */
+    private static final class Ring {
+        // the most requests taken as a batch
+        private static final int MAX_BATCH = 128;
+
+        // the largest range of a file read or written by a single operation
+        // for several requests
+        private static final int MAX_COALESCE = 1 << 18;
+
+        // batch order: by channel, then reads before writes, then position;
+        // the sort is stable so requests for the same position stay in the
+        // order in which they were submitted
+        private static final Comparator<Request> ORDER = (r1, r2) -> {
+            int c = Long.compare(r1.ch.id, r2.ch.id);
+            if (c == 0)
+                c = Boolean.compare(r1.write, r2.write);
+            if (c == 0)
+                c = Long.compare(r1.position, r2.position);
+            return c;
+        };
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final ArrayDeque<Request> queue = new ArrayDeque<>();
+
+        Ring(int threads) {
+            ThreadFactory factory = ThreadPool.defaultThreadFactory();
+            for (int i = 0; i < threads; i++) {
+                factory.newThread(this::run).start();
+            }
+        }
+
+        void submit(Request r) {
+            lock.lock();
+            try {
+                queue.add(r);
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void run() {
+            Request[] batch = new Request[MAX_BATCH];
+            for (;;) {
+                int n = 0;
+                lock.lock();
+                try {
+                    while (queue.isEmpty())
+                        notEmpty.awaitUninterruptibly();
+                    while (n < MAX_BATCH && !queue.isEmpty())
+                        batch[n++] = queue.poll();
+                    // let another thread take what remains
+                    if (!queue.isEmpty())
+                        notEmpty.signal();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    perform(batch, n);
+                } catch (Throwable x) {
+                    for (int i = 0; i < n; i++) {
+                        if (!batch[i].done)
+                            batch[i].setResult(0, x);
+                    }
+                }
+                complete(batch, n);
+                Arrays.fill(batch, 0, n, null);
+            }
+        }
+
+        /**
+         * Performs a batch of requests, those for adjacent ranges of a file
+         * together.
+         */
+        private void perform(Request[] batch, int n) {
+            Arrays.sort(batch, 0, n, ORDER);
+            int i = 0;
+            while (i < n) {
+                Request first = batch[i];
+                long end = first.end();
+                int j = i + 1;
+                while (j < n) {
+                    Request r = batch[j];
+                    if (r.ch != first.ch || r.write != first.write)
+                        break;
+                    // reads may overlap, writes must be adjacent
+                    if (r.write ? r.position != end : r.position > end)
+                        break;
+                    long newEnd = Math.max(end, r.end());
+                    if (newEnd - first.position > MAX_COALESCE)
+                        break;
+                    end = newEnd;
+                    j++;
+                }
+                if (j - i > 1) {
+                    if (first.write) {
+                        performWrites(batch, i, j, end);
+                    } else {
+                        performReads(batch, i, j, end);
+                    }
+                }
+                // requests not performed together are performed alone
+                for (int k = i; k < j; k++) {
+                    Request r = batch[k];
+                    if (!r.done)
+                        performOne(r);
+                }
+                i = j;
+            }
+        }
+
+        private void performOne(Request r) {
+            BatchedAsynchronousFileChannelImpl ch = r.ch;
+            int n = 0;
+            Throwable exc = null;
+
+            int ti = ch.threads.add();
+            try {
+                ch.begin();
+                do {
+                    n = (r.write)
+                        ? IOUtil.write(ch.fdObj, r.buf, r.position, nd)
+                        : IOUtil.read(ch.fdObj, r.buf, r.position, nd);
+                } while ((n == IOStatus.INTERRUPTED) && ch.isOpen());
+                if (n < 0 && !ch.isOpen())
+                    throw new AsynchronousCloseException();
+            } catch (IOException x) {
+                if (!ch.isOpen())
+                    x = new AsynchronousCloseException();
+                exc = x;
+            } finally {
+                ch.end();
+                ch.threads.remove(ti);
+            }
+            r.setResult(n, exc);
+        }
+
+        /**
+         * Reads the range [batch[from].position, end) of a file, and copies
+         * from it the bytes of each request it covers.  Requests beyond the
+         * bytes read are left to be performed alone.
+         */
+        private void performReads(Request[] batch, int from, int to, long end) {
+            BatchedAsynchronousFileChannelImpl ch = batch[from].ch;
+            long start = batch[from].position;
+            ByteBuffer bb = Util.getTemporaryDirectBuffer((int)(end - start));
+            try {
+                int n = 0;
+                Throwable exc = null;
+
+                int ti = ch.threads.add();
+                try {
+                    ch.begin();
+                    do {
+                        n = IOUtil.read(ch.fdObj, bb, start, nd);
+                    } while ((n == IOStatus.INTERRUPTED) && ch.isOpen());
+                    if (n < 0 && !ch.isOpen())
+                        throw new AsynchronousCloseException();
+                } catch (IOException x) {
+                    if (!ch.isOpen())
+                        x = new AsynchronousCloseException();
+                    exc = x;
+                } finally {
+                    ch.end();
+                    ch.threads.remove(ti);
+                }
+
+                for (int k = from; k < to; k++) {
+                    Request r = batch[k];
+                    if (exc != null) {
+                        r.setResult(0, exc);
+                        continue;
+                    }
+                    int off = (int)(r.position - start);
+                    if (off < n) {
+                        int count = Math.min(r.buf.remaining(), n - off);
+                        ByteBuffer src = bb.duplicate();
+                        src.limit(off + count).position(off);
+                        r.buf.put(src);
+                        r.setResult(count, null);
+                    }
+                }
+            } finally {
+                Util.releaseTemporaryDirectBuffer(bb);
+            }
+        }
+
+        /**
+         * Writes the bytes of adjacent requests as the range
+         * [batch[from].position, end) of a file.  Requests beyond the bytes
+         * written are left to be performed alone.
+         */
+        private void performWrites(Request[] batch, int from, int to, long end) {
+            BatchedAsynchronousFileChannelImpl ch = batch[from].ch;
+            long start = batch[from].position;
+            ByteBuffer bb = Util.getTemporaryDirectBuffer((int)(end - start));
+            try {
+                for (int k = from; k < to; k++) {
+                    bb.put(batch[k].buf.duplicate());
+                }
+                bb.flip();
+
+                int n = 0;
+                Throwable exc = null;
+
+                int ti = ch.threads.add();
+                try {
+                    ch.begin();
+                    do {
+                        n = IOUtil.write(ch.fdObj, bb, start, nd);
+                    } while ((n == IOStatus.INTERRUPTED) && ch.isOpen());
+                    if (n < 0 && !ch.isOpen())
+                        throw new AsynchronousCloseException();
+                } catch (IOException x) {
+                    if (!ch.isOpen())
+                        x = new AsynchronousCloseException();
+                    exc = x;
+                } finally {
+                    ch.end();
+                    ch.threads.remove(ti);
+                }
+
+                for (int k = from; k < to; k++) {
+                    Request r = batch[k];
+                    if (exc != null) {
+                        r.setResult(0, exc);
+                        continue;
+                    }
+                    int off = (int)(r.position - start);
+                    if (off < n) {
+                        int count = Math.min(r.buf.remaining(), n - off);
+                        r.buf.position(r.buf.position() + count);
+                        r.setResult(count, null);
+                    }
+                }
+            } finally {
+                Util.releaseTemporaryDirectBuffer(bb);
+            }
+        }
+
+        /**
+         * Completes the futures of a batch of performed requests, and invokes
+         * their completion handlers with a task for each executor.
+         */
+        private void complete(Request[] batch, int n) {
+            List<Request> handlers = null;
+            for (int i = 0; i < n; i++) {
+                Request r = batch[i];
+                if (r.handler == null) {
+                    r.result.setResult(r.n, r.exc);
+                } else {
+                    if (handlers == null)
+                        handlers = new ArrayList<>();
+                    handlers.add(r);
+                }
+            }
+            while (handlers != null && !handlers.isEmpty()) {
+                ExecutorService executor = handlers.get(0).ch.executor();
+                List<Request> rs = new ArrayList<>();
+                List<Request> others = new ArrayList<>();
+                for (Request r : handlers) {
+                    (r.ch.executor() == executor ? rs : others).add(r);
+                }
+                Runnable task = () -> {
+                    // a handler that throws does not keep the others from
+                    // being invoked; the first exception is rethrown once
+                    // all have been
+                    Throwable exc = null;
+                    for (Request r : rs) {
+                        try {
+                            Invoker.invokeUnchecked(r.handler, r.attachment, r.n, r.exc);
+                        } catch (Throwable x) {
+                            if (exc == null) {
+                                exc = x;
+                            } else {
+                                exc.addSuppressed(x);
+                            }
+                        }
+                    }
+                    if (exc instanceof RuntimeException)
+                        throw (RuntimeException)exc;
+                    if (exc instanceof Error)
+                        throw (Error)exc;
+                    if (exc != null)
+                        throw new CompletionException(exc);
+                };
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException x) {
+                    // the executor was shut down after the requests were
+                    // submitted; as with Invoker.invokeIndirectly the
+                    // handlers are not invoked, and never on a ring thread
+                }
+                handlers = others;
+            }
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.io.*;
 import java.nio.*;
 import java.nio.channels.*;
 import java.nio.channels.spi.*;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -66,6 +67,73 @@ public class ChannelInputStream
         }
     }
 
+    /**
+     * Transfers the bytes of a file channel from its position to its end to
+     * the given channel, with FileChannel.transferTo, and sets the position
+     * of the file channel to the end of the bytes transferred.  The file may
+     * have grown or shrunk by the time this method returns.
+     *
+     * @return the number of bytes transferred
+     *
+     * @throws  IllegalBlockingModeException
+     *          If the target channel is selectable and configured non-blocking.
+     */
+    public static long transferTo(FileChannel fc, WritableByteChannel target)
+        throws IOException
+    {
+        if (target instanceof SelectableChannel) {
+            SelectableChannel sc = (SelectableChannel)target;
+            synchronized (sc.blockingLock()) {
+                if (!sc.isBlocking())
+                    throw new IllegalBlockingModeException();
+                return transferToImpl(fc, target);
+            }
+        } else {
+            return transferToImpl(fc, target);
+        }
+    }
+
+    private static long transferToImpl(FileChannel fc, WritableByteChannel target)
+        throws IOException
+    {
+        long size = fc.size();
+        long pos = fc.position();
+        long transferred = 0;
+        while (pos < size) {
+            long n = fc.transferTo(pos, size - pos, target);
+            if (n <= 0)
+                break;
+            pos += n;
+            transferred += n;
+        }
+        fc.position(pos);
+        return transferred;
+    }
+
+    /**
+     * Returns the channel to which the given stream writes, if it is a file
+     * or channel output stream, or null.
+     */
+    public static WritableByteChannel channelOf(OutputStream out) {
+        if (out instanceof FileOutputStream) {
+            // null for socket output streams
+            return ((FileOutputStream)out).getChannel();
+        } else if (out instanceof ChannelOutputStream) {
+            return ((ChannelOutputStream)out).channel();
+        } else {
+            return null;
+        }
+    }
+
+    private static final int TRANSFER_BUFFER_SIZE = 16384;
+
+    // The maximum size of array to allocate
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    // The most read at a time by readAllBytes, as a read into a heap buffer
+    // goes through a temporary direct buffer of the size read
+    private static final int MAX_READ_SIZE = 1 << 20;
+
     protected final ReadableByteChannel ch;
     private ByteBuffer bb = null;
     private byte[] bs = null;           // Invoker's previous array
@@ -139,6 +207,83 @@ public class ChannelInputStream
         return super.skip(n);
     }
 
+    /**
+     * Reads all remaining bytes into an array sized from the number of bytes
+     * available, which for a file is the number of bytes to its end, rather
+     * than into a sequence of small arrays that are then copied.
+     */
+    @Override
+    public synchronized byte[] readAllBytes() throws IOException {
+        int capacity = available();
+        if (capacity <= 0)
+            return super.readAllBytes();
+        if (capacity > MAX_BUFFER_SIZE)
+            throw new OutOfMemoryError("Required array size too large");
+
+        byte[] buf = new byte[capacity];
+        int nread = 0;
+        int n;
+        for (;;) {
+            // read to EOF which may read more or less than the bytes
+            // available, e.g., if the file is truncated while we are reading
+            while ((n = read(buf, nread,
+                             Math.min(capacity - nread, MAX_READ_SIZE))) > 0)
+                nread += n;
+
+            // if the last call to read returned -1, we are done; otherwise,
+            // try to read one more byte and if that fails we're done too
+            if (n < 0 || (n = read()) < 0)
+                break;
+
+            // one more byte was read; need to allocate a larger buffer
+            if (capacity == MAX_BUFFER_SIZE)
+                throw new OutOfMemoryError("Required array size too large");
+            capacity = Math.max((int)Math.min(2L * capacity, MAX_BUFFER_SIZE),
+                                TRANSFER_BUFFER_SIZE);
+            buf = Arrays.copyOf(buf, capacity);
+            buf[nread++] = (byte)n;
+        }
+        return (capacity == nread) ? buf : Arrays.copyOf(buf, nread);
+    }
+
+    /**
+     * Transfers bytes to a file or channel output stream without copying
+     * them through an array: from a file channel with FileChannel.transferTo,
+     * and from other channels through a direct buffer.
+     */
+    @Override
+    public synchronized long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        WritableByteChannel target = channelOf(out);
+        if (target == null)
+            return super.transferTo(out);
+
+        long transferred = 0;
+        FileChannel fc;
+        // the size of anything other than a regular file is zero
+        if (ch instanceof FileChannel && (fc = (FileChannel)ch).size() > 0) {
+            transferred = transferTo(fc, target);
+            if (fc.position() >= fc.size())
+                return transferred;
+        }
+
+        ByteBuffer bb = Util.getTemporaryDirectBuffer(TRANSFER_BUFFER_SIZE);
+        try {
+            int n;
+            while ((n = read(bb)) >= 0) {
+                if (n > 0) {
+                    bb.flip();
+                    ChannelOutputStream.writeFully(target, bb);
+                    transferred += n;
+                }
+                bb.clear();
+            }
+        } finally {
+            Util.releaseTemporaryDirectBuffer(bb);
+        }
+        return transferred;
+    }
+
     public void close() throws IOException {
         ch.close();
     }
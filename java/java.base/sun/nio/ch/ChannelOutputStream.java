@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package sun.nio.ch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * An output stream that writes bytes to a channel.  This class is defined
+ * here rather than in java.nio.channels.Channels so that input streams can
+ * recognize it, and transfer bytes to its channel without copying them
+ * through an array.
+ */
+
+public class ChannelOutputStream
+    extends OutputStream
+{
+
+    /**
+     * Write all remaining bytes in buffer to the given channel.
+     * If the channel is selectable then it must be configured blocking.
+     */
+    private static void writeFullyImpl(WritableByteChannel ch, ByteBuffer bb)
+        throws IOException
+    {
+        while (bb.remaining() > 0) {
+            int n = ch.write(bb);
+            if (n <= 0)
+                throw new RuntimeException("no bytes written");
+        }
+    }
+
+    /**
+     * Write all remaining bytes in buffer to the given channel.
+     *
+     * @throws  IllegalBlockingModeException
+     *          If the channel is selectable and configured non-blocking.
+     */
+    public static void writeFully(WritableByteChannel ch, ByteBuffer bb)
+        throws IOException
+    {
+        if (ch instanceof SelectableChannel) {
+            SelectableChannel sc = (SelectableChannel) ch;
+            synchronized (sc.blockingLock()) {
+                if (!sc.isBlocking())
+                    throw new IllegalBlockingModeException();
+                writeFullyImpl(ch, bb);
+            }
+        } else {
+            writeFullyImpl(ch, bb);
+        }
+    }
+
+    protected final WritableByteChannel ch;
+    private ByteBuffer bb;
+    private byte[] bs;       // Invoker's previous array
+    private byte[] b1;
+
+    public ChannelOutputStream(WritableByteChannel ch) {
+        this.ch = ch;
+    }
+
+    /**
+     * Returns the channel to which this stream writes.
+     */
+    public WritableByteChannel channel() {
+        return ch;
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        if (b1 == null)
+            b1 = new byte[1];
+        b1[0] = (byte) b;
+        this.write(b1);
+    }
+
+    @Override
+    public synchronized void write(byte[] bs, int off, int len)
+            throws IOException
+    {
+        Objects.checkFromIndexSize(off, len, bs.length);
+        if (len == 0) {
+            return;
+        }
+        ByteBuffer bb = ((this.bs == bs)
+                         ? this.bb
+                         : ByteBuffer.wrap(bs));
+        bb.limit(Math.min(off + len, bb.capacity()));
+        bb.position(off);
+        this.bb = bb;
+        this.bs = bs;
+        writeFully(ch, bb);
+    }
+
+    @Override
+    public void close() throws IOException {
+        ch.close();
+    }
+
+}
@@ -857,6 +857,94 @@ public class FileChannelImpl
         }
     }
 
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length, long position)
+        throws IOException
+    {
+        if ((offset < 0) || (length < 0) || (offset > dsts.length - length))
+            throw new IndexOutOfBoundsException();
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (!readable)
+            throw new NonReadableChannelException();
+        if (length == 1)
+            return read(dsts[offset], position);
+        if (direct)
+            Util.checkChannelPositionAligned(position, alignment);
+        ensureOpen();
+        // One scattering read at the given position, rather than a
+        // positional read per buffer, each of which also has to move the
+        // file pointer and restore it on this platform
+        synchronized (positionLock) {
+            long n = 0;
+            int ti = -1;
+            try {
+                beginBlocking();
+                ti = threads.add();
+                if (!isOpen())
+                    return -1;
+                long saved = nd.seek(fd, -1);
+                try {
+                    nd.seek(fd, position);
+                    do {
+                        n = IOUtil.read(fd, dsts, offset, length,
+                                direct, alignment, nd);
+                    } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                } finally {
+                    nd.seek(fd, saved);
+                }
+                return IOStatus.normalize(n);
+            } finally {
+                threads.remove(ti);
+                endBlocking(n > 0);
+                assert IOStatus.check(n);
+            }
+        }
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length, long position)
+        throws IOException
+    {
+        if ((offset < 0) || (length < 0) || (offset > srcs.length - length))
+            throw new IndexOutOfBoundsException();
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (!writable)
+            throw new NonWritableChannelException();
+        // A gathering write in append mode writes at the end of the file
+        if (length == 1 || fdAccess.getAppend(fd))
+            return super.write(srcs, offset, length, position);
+        if (direct)
+            Util.checkChannelPositionAligned(position, alignment);
+        ensureOpen();
+        synchronized (positionLock) {
+            long n = 0;
+            int ti = -1;
+            try {
+                beginBlocking();
+                ti = threads.add();
+                if (!isOpen())
+                    return -1;
+                long saved = nd.seek(fd, -1);
+                try {
+                    nd.seek(fd, position);
+                    do {
+                        n = IOUtil.write(fd, srcs, offset, length,
+                                direct, alignment, nd);
+                    } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                } finally {
+                    nd.seek(fd, saved);
+                }
+                return IOStatus.normalize(n);
+            } finally {
+                threads.remove(ti);
+                endBlocking(n > 0);
+                assert IOStatus.check(n);
+            }
+        }
+    }
+
 
     // -- Memory-mapped buffers --
 
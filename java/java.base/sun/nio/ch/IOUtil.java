@@ -138,11 +138,13 @@ public class IOUtil {
 
         boolean completed = false;
         int iov_len = 0;
+        ByteBuffer stage = null;
         try {
 
             // Iterate over buffers to populate native iovec array.
             int count = offset + length;
             int i = offset;
+            int staged = 0;
             while (i < count && iov_len < IOV_MAX) {
                 ByteBuffer buf = bufs[i];
                 int pos = buf.position();
@@ -153,15 +155,20 @@ public class IOUtil {
                     Util.checkRemainingBufferSizeAligned(rem, alignment);
 
                 if (rem > 0) {
+                    // heap buffers share one temporary direct buffer, set
+                    // up below once their total size is known
+                    boolean stageIt = !(buf instanceof DirectBuffer) && !directIO;
+                    if (stageIt) {
+                        if (rem > Integer.MAX_VALUE - staged)
+                            break;
+                        staged += rem;
+                    }
                     vec.setBuffer(iov_len, buf, pos, rem);
 
-                    // allocate shadow buffer to ensure I/O is done with direct buffer
-                    if (!(buf instanceof DirectBuffer)) {
-                        ByteBuffer shadow;
-                        if (directIO)
-                            shadow = Util.getTemporaryAlignedDirectBuffer(rem, alignment);
-                        else
-                            shadow = Util.getTemporaryDirectBuffer(rem);
+                    // allocate aligned shadow buffer to ensure direct I/O
+                    // is done with direct buffer
+                    if (!(buf instanceof DirectBuffer) && directIO) {
+                        ByteBuffer shadow = Util.getTemporaryAlignedDirectBuffer(rem, alignment);
                         shadow.put(buf);
                         shadow.flip();
                         vec.setShadow(iov_len, shadow);
@@ -170,7 +177,8 @@ public class IOUtil {
                         pos = shadow.position();
                     }
 
-                    vec.putBase(iov_len, ((DirectBuffer)buf).address() + pos);
+                    if (!stageIt)
+                        vec.putBase(iov_len, ((DirectBuffer)buf).address() + pos);
                     vec.putLen(iov_len, rem);
                     iov_len++;
                 }
@@ -179,6 +187,21 @@ public class IOUtil {
             if (iov_len == 0)
                 return 0L;
 
+            // copy the heap buffers into a single temporary direct buffer
+            if (staged > 0) {
+                stage = Util.getTemporaryDirectBuffer(staged);
+                long address = ((DirectBuffer)stage).address();
+                for (int j=0; j<iov_len; j++) {
+                    ByteBuffer buf = vec.getBuffer(j);
+                    if (!(buf instanceof DirectBuffer) && vec.getShadow(j) == null) {
+                        int pos = vec.getPosition(j);
+                        vec.putBase(j, address + stage.position());
+                        stage.put(buf);
+                        buf.position(pos);  // temporarily restore position in user buffer
+                    }
+                }
+            }
+
             long bytesWritten = nd.writev(fd, vec.address, iov_len);
 
             // Notify the buffers how many bytes were taken
@@ -203,6 +226,8 @@ public class IOUtil {
             return bytesWritten;
 
         } finally {
+            if (stage != null)
+                Util.offerFirstTemporaryDirectBuffer(stage);
             // if an error occurred then clear refs to buffers and return any shadow
             // buffers to cache
             if (!completed) {
@@ -301,11 +326,13 @@ public class IOUtil {
 
         boolean completed = false;
         int iov_len = 0;
+        ByteBuffer stage = null;
         try {
 
             // Iterate over buffers to populate native iovec array.
             int count = offset + length;
             int i = offset;
+            int staged = 0;
             while (i < count && iov_len < IOV_MAX) {
                 ByteBuffer buf = bufs[i];
                 if (buf.isReadOnly())
@@ -319,22 +346,27 @@ public class IOUtil {
                     Util.checkRemainingBufferSizeAligned(rem, alignment);
 
                 if (rem > 0) {
+                    // heap buffers share one temporary direct buffer, set
+                    // up below once their total size is known
+                    boolean stageIt = !(buf instanceof DirectBuffer) && !directIO;
+                    if (stageIt) {
+                        if (rem > Integer.MAX_VALUE - staged)
+                            break;
+                        staged += rem;
+                    }
                     vec.setBuffer(iov_len, buf, pos, rem);
 
-                    // allocate shadow buffer to ensure I/O is done with direct buffer
-                    if (!(buf instanceof DirectBuffer)) {
-                        ByteBuffer shadow;
-                        if (directIO) {
-                            shadow = Util.getTemporaryAlignedDirectBuffer(rem, alignment);
-                        } else {
-                            shadow = Util.getTemporaryDirectBuffer(rem);
-                        }
+                    // allocate aligned shadow buffer to ensure direct I/O
+                    // is done with direct buffer
+                    if (!(buf instanceof DirectBuffer) && directIO) {
+                        ByteBuffer shadow = Util.getTemporaryAlignedDirectBuffer(rem, alignment);
                         vec.setShadow(iov_len, shadow);
                         buf = shadow;
                         pos = shadow.position();
                     }
 
-                    vec.putBase(iov_len, ((DirectBuffer)buf).address() + pos);
+                    if (!stageIt)
+                        vec.putBase(iov_len, ((DirectBuffer)buf).address() + pos);
                     vec.putLen(iov_len, rem);
                     iov_len++;
                 }
@@ -343,17 +375,37 @@ public class IOUtil {
             if (iov_len == 0)
                 return 0L;
 
+            // read the heap buffers through a single temporary direct buffer
+            if (staged > 0) {
+                stage = Util.getTemporaryDirectBuffer(staged);
+                long address = ((DirectBuffer)stage).address();
+                int off = 0;
+                for (int j=0; j<iov_len; j++) {
+                    ByteBuffer buf = vec.getBuffer(j);
+                    if (!(buf instanceof DirectBuffer) && vec.getShadow(j) == null) {
+                        vec.putBase(j, address + off);
+                        off += vec.getRemaining(j);
+                    }
+                }
+            }
+
             long bytesRead = nd.readv(fd, vec.address, iov_len);
 
             // Notify the buffers how many bytes were read
             long left = bytesRead;
+            int off = 0;
             for (int j=0; j<iov_len; j++) {
                 ByteBuffer shadow = vec.getShadow(j);
+                ByteBuffer buf = vec.getBuffer(j);
+                int rem = vec.getRemaining(j);
+                boolean isStaged = (shadow == null) && !(buf instanceof DirectBuffer);
                 if (left > 0) {
-                    ByteBuffer buf = vec.getBuffer(j);
-                    int rem = vec.getRemaining(j);
                     int n = (left > rem) ? rem : (int)left;
-                    if (shadow == null) {
+                    if (isStaged) {
+                        stage.limit(off + n);
+                        stage.position(off);
+                        buf.put(stage);
+                    } else if (shadow == null) {
                         int pos = vec.getPosition(j);
                         buf.position(pos + n);
                     } else {
@@ -362,6 +414,8 @@ public class IOUtil {
                     }
                     left -= n;
                 }
+                if (isStaged)
+                    off += rem;
                 if (shadow != null)
                     Util.offerLastTemporaryDirectBuffer(shadow);
                 vec.clearRefs(j);
@@ -371,6 +425,8 @@ public class IOUtil {
             return bytesRead;
 
         } finally {
+            if (stage != null)
+                Util.offerFirstTemporaryDirectBuffer(stage);
             // if an error occurred then clear refs to buffers and return any shadow
             // buffers to cache
             if (!completed) {
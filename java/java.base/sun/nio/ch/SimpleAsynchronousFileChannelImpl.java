@@ -48,10 +48,10 @@ public class SimpleAsynchronousFileChannelImpl
     }
 
     // Used to make native read and write calls
-    private static final FileDispatcher nd = new FileDispatcherImpl();
+    static final FileDispatcher nd = new FileDispatcherImpl();
 
     // Thread-safe set of IDs of native threads, for signalling
-    private final NativeThreadSet threads = new NativeThreadSet(2);
+    final NativeThreadSet threads = new NativeThreadSet(2);
 
 
     SimpleAsynchronousFileChannelImpl(FileDescriptor fdObj,
@@ -70,6 +70,8 @@ public class SimpleAsynchronousFileChannelImpl
         // Executor is either default or based on pool parameters
         ExecutorService executor = (pool == null) ?
             DefaultExecutorHolder.defaultExecutor : pool.executor();
+        if (BatchedAsynchronousFileChannelImpl.ENABLED)
+            return new BatchedAsynchronousFileChannelImpl(fdo, reading, writing, executor);
         return new SimpleAsynchronousFileChannelImpl(fdo, reading, writing, executor);
     }
 
@@ -86,6 +86,15 @@ public class StreamDecoder extends Reader
     }
 
 
+    // Factory for java.nio.file.Files, whose readers report malformed input
+    // and unmappable characters
+
+    public static StreamDecoder forInputStream(InputStream in, Charset cs) {
+        return new StreamDecoder(in, new Object(),
+                                 ThreadLocalCoders.takeDecoder(cs), true);
+    }
+
+
     // Factory for java.nio.channels.Channels.newReader
 
     public static StreamDecoder forDecoder(ReadableByteChannel ch,
@@ -192,6 +201,8 @@ public class StreamDecoder extends Reader
                 return;
             implClose();
             closed = true;
+            if (pooled)
+                ThreadLocalCoders.returnDecoder(decoder);
         }
     }
 
@@ -223,21 +234,31 @@ public class StreamDecoder extends Reader
     private CharsetDecoder decoder;
     private ByteBuffer bb;
 
+    // Whether the decoder is to be returned to the thread-local pool
+    // on close
+    private final boolean pooled;
+
     // Exactly one of these is non-null
     private InputStream in;
     private ReadableByteChannel ch;
 
     StreamDecoder(InputStream in, Object lock, Charset cs) {
         this(in, lock,
-         cs.newDecoder()
+         ThreadLocalCoders.takeDecoder(cs)
          .onMalformedInput(CodingErrorAction.REPLACE)
-         .onUnmappableCharacter(CodingErrorAction.REPLACE));
+         .onUnmappableCharacter(CodingErrorAction.REPLACE), true);
     }
 
     StreamDecoder(InputStream in, Object lock, CharsetDecoder dec) {
+        this(in, lock, dec, false);
+    }
+
+    private StreamDecoder(InputStream in, Object lock, CharsetDecoder dec,
+                          boolean pooled) {
         super(lock);
         this.cs = dec.charset();
         this.decoder = dec;
+        this.pooled = pooled;
 
         // This path disabled until direct buffers are faster
         if (false && in instanceof FileInputStream) {
@@ -258,6 +279,7 @@ public class StreamDecoder extends Reader
         this.ch = ch;
         this.decoder = dec;
         this.cs = dec.charset();
+        this.pooled = false;
         this.bb = ByteBuffer.allocate(mbc < 0
                                   ? DEFAULT_BYTE_BUFFER_SIZE
                                   : (mbc < MIN_BYTE_BUFFER_SIZE
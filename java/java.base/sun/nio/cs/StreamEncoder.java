@@ -76,6 +76,15 @@ public class StreamEncoder extends Writer
     }
 
 
+    // Factory for java.nio.file.Files, whose writers report malformed input
+    // and unmappable characters
+
+    public static StreamEncoder forOutputStream(OutputStream out, Charset cs) {
+        return new StreamEncoder(out, new Object(),
+                                 ThreadLocalCoders.takeEncoder(cs), true);
+    }
+
+
     // Factory for java.nio.channels.Channels.newWriter
 
     public static StreamEncoder forEncoder(WritableByteChannel ch,
@@ -160,6 +169,8 @@ public class StreamEncoder extends Writer
                 return;
             implClose();
             closed = true;
+            if (pooled)
+                ThreadLocalCoders.returnEncoder(encoder);
         }
     }
 
@@ -174,6 +185,10 @@ public class StreamEncoder extends Writer
     private CharsetEncoder encoder;
     private ByteBuffer bb;
 
+    // Whether the encoder is to be returned to the thread-local pool
+    // on close
+    private final boolean pooled;
+
     // Exactly one of these is non-null
     private final OutputStream out;
     private WritableByteChannel ch;
@@ -185,17 +200,23 @@ public class StreamEncoder extends Writer
 
     private StreamEncoder(OutputStream out, Object lock, Charset cs) {
         this(out, lock,
-         cs.newEncoder()
+         ThreadLocalCoders.takeEncoder(cs)
          .onMalformedInput(CodingErrorAction.REPLACE)
-         .onUnmappableCharacter(CodingErrorAction.REPLACE));
+         .onUnmappableCharacter(CodingErrorAction.REPLACE), true);
     }
 
     private StreamEncoder(OutputStream out, Object lock, CharsetEncoder enc) {
+        this(out, lock, enc, false);
+    }
+
+    private StreamEncoder(OutputStream out, Object lock, CharsetEncoder enc,
+                          boolean pooled) {
         super(lock);
         this.out = out;
         this.ch = null;
         this.cs = enc.charset();
         this.encoder = enc;
+        this.pooled = pooled;
 
         // This path disabled until direct buffers are faster
         if (false && out instanceof FileOutputStream) {
@@ -213,6 +234,7 @@ public class StreamEncoder extends Writer
         this.ch = ch;
         this.cs = enc.charset();
         this.encoder = enc;
+        this.pooled = false;
         this.bb = ByteBuffer.allocate(mbc < 0
                                   ? DEFAULT_BYTE_BUFFER_SIZE
                                   : mbc);
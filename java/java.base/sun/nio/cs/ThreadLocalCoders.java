@@ -31,12 +31,24 @@ import java.nio.charset.*;
 
 /**
  * Utility class for caching per-thread decoders and encoders.
+ *
+ * <p> The coders returned by {@link #decoderFor decoderFor} and {@link
+ * #encoderFor encoderFor} remain in the cache and so must not be held
+ * beyond the operation at hand.  Coders that are held longer, such as
+ * those of a stream, are instead taken from a per-thread pool with {@link
+ * #takeDecoder takeDecoder} or {@link #takeEncoder takeEncoder}, which
+ * remove them for the exclusive use of the caller until they are handed
+ * back with {@link #returnDecoder returnDecoder} or {@link #returnEncoder
+ * returnEncoder}.
  */
 
 public class ThreadLocalCoders {
 
     private static final int CACHE_SIZE = 3;
 
+    // The number of coders of each kind pooled by each thread
+    private static final int POOL_SIZE = 8;
+
     private abstract static class Cache {
 
         // Thread-local reference to array of cached objects, in LRU order
@@ -88,7 +100,7 @@ public class ThreadLocalCoders {
     private static Cache decoderCache = new Cache(CACHE_SIZE) {
             boolean hasName(Object ob, Object name) {
                 if (name instanceof Charset)
-                    return ((CharsetDecoder)ob).charset().equals(name);
+                    return ((CharsetDecoder)ob).charset() == name;
                 if (name instanceof String)
                     return (((CharsetDecoder)ob).charset().name().equals(name));
                 return false;
@@ -112,7 +124,7 @@ public class ThreadLocalCoders {
     private static Cache encoderCache = new Cache(CACHE_SIZE) {
             boolean hasName(Object ob, Object name) {
                 if (name instanceof Charset)
-                    return ((CharsetEncoder)ob).charset().equals(name);
+                    return ((CharsetEncoder)ob).charset() == name;
                 if (name instanceof String)
                     return (((CharsetEncoder)ob).charset().name().equals(name));
                 return false;
@@ -133,4 +145,171 @@ public class ThreadLocalCoders {
         return ce;
     }
 
+    private static final class Pool {
+
+        private static final class Slots {
+            // Pooled objects, most recently returned first, then nulls
+            final Object[] obs;
+            long hits;
+            long misses;
+
+            Slots(int size) {
+                obs = new Object[size];
+            }
+        }
+
+        private final ThreadLocal<Slots> slots = new ThreadLocal<>();
+        private final Cache kind;
+        private final int size;
+
+        Pool(Cache kind, int size) {
+            this.kind = kind;
+            this.size = size;
+        }
+
+        private Slots slots() {
+            Slots s = slots.get();
+            if (s == null) {
+                s = new Slots(size);
+                slots.set(s);
+            }
+            return s;
+        }
+
+        // Only the coders of charsets defined by the platform are pooled, so
+        // that a pool neither keeps a user class loader alive nor hands out a
+        // coder made for another charset instance of the same name
+        private static boolean isPooled(Charset cs) {
+            return cs.getClass().getClassLoader() == null;
+        }
+
+        private static Charset charsetOf(Object ob) {
+            if (ob instanceof CharsetDecoder)
+                return ((CharsetDecoder)ob).charset();
+            return ((CharsetEncoder)ob).charset();
+        }
+
+        Object take(Charset cs) {
+            if (!isPooled(cs))
+                return kind.create(cs);
+            Slots s = slots();
+            Object[] oa = s.obs;
+            for (int i = 0; i < oa.length && oa[i] != null; i++) {
+                Object ob = oa[i];
+                if (charsetOf(ob) == cs) {
+                    System.arraycopy(oa, i + 1, oa, i, oa.length - i - 1);
+                    oa[oa.length - 1] = null;
+                    s.hits++;
+                    return ob;
+                }
+            }
+            s.misses++;
+            return kind.create(cs);
+        }
+
+        void put(Object ob) {
+            if (!isPooled(charsetOf(ob)))
+                return;
+            // The least recently returned object, if the pool is full,
+            // falls off the end
+            Object[] oa = slots().obs;
+            System.arraycopy(oa, 0, oa, 1, oa.length - 1);
+            oa[0] = ob;
+        }
+
+        long hits() {
+            Slots s = slots.get();
+            return (s == null) ? 0 : s.hits;
+        }
+
+        long misses() {
+            Slots s = slots.get();
+            return (s == null) ? 0 : s.misses;
+        }
+    }
+
+    private static Pool decoderPool = new Pool(decoderCache, POOL_SIZE);
+
+    /**
+     * Takes a decoder for the given charset from the current thread's pool,
+     * creating one if there is none or if the charset is not one defined by
+     * the platform, whose decoders are never pooled.  The decoder is reset,
+     * reports malformed input and unmappable characters, and has the
+     * default replacement.  It is for the exclusive use of the caller until
+     * it is handed to {@link #returnDecoder returnDecoder}, which the caller
+     * need not do, and the caller must not change its replacement.
+     */
+    public static CharsetDecoder takeDecoder(Charset cs) {
+        return (CharsetDecoder)decoderPool.take(cs);
+    }
+
+    /**
+     * Returns a decoder taken by {@link #takeDecoder takeDecoder} to the
+     * current thread's pool.  The caller must not use it afterwards.
+     */
+    public static void returnDecoder(CharsetDecoder cd) {
+        cd.reset()
+          .onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT);
+        decoderPool.put(cd);
+    }
+
+    /**
+     * Returns the number of decoders the current thread has taken from its
+     * pool rather than created.
+     */
+    public static long decoderPoolHits() {
+        return decoderPool.hits();
+    }
+
+    /**
+     * Returns the number of decoders the current thread has created because
+     * its pool had none for the charset.
+     */
+    public static long decoderPoolMisses() {
+        return decoderPool.misses();
+    }
+
+    private static Pool encoderPool = new Pool(encoderCache, POOL_SIZE);
+
+    /**
+     * Takes an encoder for the given charset from the current thread's pool,
+     * creating one if there is none or if the charset is not one defined by
+     * the platform, whose encoders are never pooled.  The encoder is reset,
+     * reports malformed input and unmappable characters, and has the
+     * default replacement.  It is for the exclusive use of the caller until
+     * it is handed to {@link #returnEncoder returnEncoder}, which the caller
+     * need not do, and the caller must not change its replacement.
+     */
+    public static CharsetEncoder takeEncoder(Charset cs) {
+        return (CharsetEncoder)encoderPool.take(cs);
+    }
+
+    /**
+     * Returns an encoder taken by {@link #takeEncoder takeEncoder} to the
+     * current thread's pool.  The caller must not use it afterwards.
+     */
+    public static void returnEncoder(CharsetEncoder ce) {
+        ce.reset()
+          .onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT);
+        encoderPool.put(ce);
+    }
+
+    /**
+     * Returns the number of encoders the current thread has taken from its
+     * pool rather than created.
+     */
+    public static long encoderPoolHits() {
+        return encoderPool.hits();
+    }
+
+    /**
+     * Returns the number of encoders the current thread has created because
+     * its pool had none for the charset.
+     */
+    public static long encoderPoolMisses() {
+        return encoderPool.misses();
+    }
+
 }
@@ -33,6 +33,7 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
+import jdk.internal.util.ArraysSupport;
 
 /* Legal UTF-8 Byte Sequences
  *
@@ -232,16 +233,27 @@ public final class UTF_8 extends Unicode {
             int dlASCII = dp + Math.min(sl - sp, dl - dp);
 
             // ASCII only loop
-            while (dp < dlASCII && sa[sp] >= 0)
-                da[dp++] = (char) sa[sp++];
+            int n = ArraysSupport.inflateASCII(sa, sp, da, dp, dlASCII - dp);
+            sp += n;
+            dp += n;
             while (sp < sl) {
                 int b1 = sa[sp];
                 if (b1 >= 0) {
                     // 1 byte, 7 bits: 0xxxxxxx
                     if (dp >= dl)
                         return xflow(src, sp, sl, dst, dp, 1);
-                    da[dp++] = (char) b1;
-                    sp++;
+                    // and the rest of the ASCII run, a byte at a time while
+                    // it may be short
+                    int end = sp + Math.min(sl - sp, dl - dp);
+                    int end8 = Math.min(end, sp + 8);
+                    do {
+                        da[dp++] = (char) sa[sp++];
+                    } while (sp < end8 && sa[sp] >= 0);
+                    if (sp == end8 && sp < end) {
+                        n = ArraysSupport.inflateASCII(sa, sp, da, dp, end - sp);
+                        sp += n;
+                        dp += n;
+                    }
                 } else if ((b1 >> 5) == -2 && (b1 & 0x1e) != 0) {
                     // 2 bytes, 11 bits: 110xxxxx 10xxxxxx
                     //                   [C2..DF] [80..BF]
@@ -465,15 +477,28 @@ public final class UTF_8 extends Unicode {
             int dlASCII = dp + Math.min(sl - sp, dl - dp);
 
             // ASCII only loop
-            while (dp < dlASCII && sa[sp] < '\u0080')
-                da[dp++] = (byte) sa[sp++];
+            int n = ArraysSupport.deflateASCII(sa, sp, da, dp, dlASCII - dp);
+            sp += n;
+            dp += n;
             while (sp < sl) {
                 char c = sa[sp];
                 if (c < 0x80) {
                     // Have at most seven bits
                     if (dp >= dl)
                         return overflow(src, sp, dst, dp);
-                    da[dp++] = (byte)c;
+                    // and so may the rest of the ASCII run, taken a char
+                    // at a time while it may be short
+                    int end = sp + Math.min(sl - sp, dl - dp);
+                    int end8 = Math.min(end, sp + 8);
+                    do {
+                        da[dp++] = (byte) sa[sp++];
+                    } while (sp < end8 && sa[sp] < '\u0080');
+                    if (sp == end8 && sp < end) {
+                        n = ArraysSupport.deflateASCII(sa, sp, da, dp, end - sp);
+                        sp += n;
+                        dp += n;
+                    }
+                    continue;
                 } else if (c < 0x800) {
                     // 2 bytes, 11 bits
                     if (dl - dp < 2)